@@ -0,0 +1,21 @@
+package com.pragma.crediya.solicitudes.domain.exception;
+
+/**
+ * Uso inválido de una clave de idempotencia: mal formada, reutilizada con otra petición o
+ * aún en ejecución en otra instancia.
+ */
+public class ConflictoIdempotenciaException extends RuntimeException {
+
+    public enum Motivo { CLAVE_INVALIDA, PETICION_DIFERENTE, EN_PROCESO }
+
+    private final Motivo motivo;
+
+    public ConflictoIdempotenciaException(Motivo motivo, String mensaje) {
+        super(mensaje);
+        this.motivo = motivo;
+    }
+
+    public Motivo getMotivo() {
+        return motivo;
+    }
+}
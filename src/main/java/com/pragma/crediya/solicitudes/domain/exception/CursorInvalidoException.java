@@ -0,0 +1,8 @@
+package com.pragma.crediya.solicitudes.domain.exception;
+
+public class CursorInvalidoException extends RuntimeException {
+
+    public CursorInvalidoException(String mensaje) {
+        super(mensaje);
+    }
+}
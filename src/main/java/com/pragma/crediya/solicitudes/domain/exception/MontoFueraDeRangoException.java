@@ -0,0 +1,8 @@
+package com.pragma.crediya.solicitudes.domain.exception;
+
+public class MontoFueraDeRangoException extends RuntimeException {
+
+    public MontoFueraDeRangoException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pragma.crediya.solicitudes.domain.exception;
+
+public class ServicioUsuariosNoDisponibleException extends RuntimeException {
+
+    public ServicioUsuariosNoDisponibleException(String mensaje, Throwable causa) {
+        super(mensaje, causa);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Condiciones comerciales de un tipo de préstamo según el catálogo: rango de montos admitido,
+ * tasa de interés mensual y si la solicitud se valida automáticamente.
+ */
+public record CondicionesTipoPrestamo(TipoPrestamo tipoPrestamo,
+                                      BigDecimal montoMinimo,
+                                      BigDecimal montoMaximo,
+                                      BigDecimal tasaInteres,
+                                      boolean validacionAutomatica) {
+
+    /**
+     * Indica si el monto está dentro del rango del tipo de préstamo; un límite ausente no restringe.
+     */
+    public boolean admiteMonto(BigDecimal monto) {
+        if (monto == null) {
+            return false;
+        }
+        return (montoMinimo == null || monto.compareTo(montoMinimo) >= 0)
+                && (montoMaximo == null || monto.compareTo(montoMaximo) <= 0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Posición de la última solicitud entregada en un listado paginado por cursor.
+ * Las solicitudes se listan en orden descendente de (fechaCreacion, id), por lo que
+ * la siguiente página contiene las estrictamente anteriores a esta posición.
+ */
+public record CursorSolicitud(LocalDateTime fechaCreacion, Long id) {
+
+    public static CursorSolicitud desde(SolicitudPrestamo solicitud) {
+        return new CursorSolicitud(solicitud.getFechaCreacion(), solicitud.getId());
+    }
+}
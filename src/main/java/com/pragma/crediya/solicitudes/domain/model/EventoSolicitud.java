@@ -0,0 +1,44 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Evento del ciclo de vida de una solicitud para consumidores externos (riesgo, notificaciones).
+ *
+ * @param idEvento Identificador del evento en el outbox; null hasta que se registra
+ * @param estadoAnterior Estado previo, solo en ESTADO_CAMBIADO
+ */
+public record EventoSolicitud(Long idEvento, String tipo, Long idSolicitud, String documentoIdentidad,
+                              EstadoSolicitud estado, EstadoSolicitud estadoAnterior, BigDecimal monto,
+                              TipoPrestamo tipoPrestamo, LocalDateTime fechaEvento) {
+
+    public static final String SOLICITUD_CREADA = "SOLICITUD_CREADA";
+    public static final String ESTADO_CAMBIADO = "ESTADO_CAMBIADO";
+
+    /**
+     * Evento que corresponde a guardar una solicitud: creada si no había versión anterior,
+     * cambio de estado si el estado es distinto, y ninguno en otro caso.
+     */
+    public static Optional<EventoSolicitud> desdeCambio(SolicitudPrestamo anterior, SolicitudPrestamo guardada) {
+        if (anterior == null) {
+            return Optional.of(crear(SOLICITUD_CREADA, guardada, null));
+        }
+        if (anterior.getEstado() != guardada.getEstado()) {
+            return Optional.of(crear(ESTADO_CAMBIADO, guardada, anterior.getEstado()));
+        }
+        return Optional.empty();
+    }
+
+    public EventoSolicitud conIdEvento(Long id) {
+        return new EventoSolicitud(id, tipo, idSolicitud, documentoIdentidad, estado, estadoAnterior, monto,
+                tipoPrestamo, fechaEvento);
+    }
+
+    private static EventoSolicitud crear(String tipo, SolicitudPrestamo solicitud, EstadoSolicitud estadoAnterior) {
+        return new EventoSolicitud(null, tipo, solicitud.getId(), solicitud.getDocumentoIdentidad(),
+                solicitud.getEstado(), estadoAnterior, solicitud.getMonto(), solicitud.getTipoPrestamo(),
+                LocalDateTime.now());
+    }
+}
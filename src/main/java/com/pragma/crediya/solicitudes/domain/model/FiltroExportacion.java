@@ -0,0 +1,13 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de la exportación de solicitudes. Cualquier criterio null no filtra.
+ *
+ * @param desde Fecha de creación mínima (inclusive)
+ * @param hasta Fecha de creación máxima (exclusiva)
+ */
+public record FiltroExportacion(EstadoSolicitud estado, TipoPrestamo tipoPrestamo,
+                                LocalDateTime desde, LocalDateTime hasta) {
+}
@@ -0,0 +1,42 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+/**
+ * Solicitud de una creación en lote junto con su posición en el lote de entrada.
+ * Un item sin error sigue en proceso (o fue creado, si la solicitud ya tiene id);
+ * un item con error fue rechazado y no se vuelve a procesar, salvo que sea reintentable:
+ * no se procesó por un fallo de infraestructura y puede enviarse de nuevo.
+ *
+ * @param indice Posición del item en el lote, desde 0
+ * @param reintentable El error es un fallo temporal (servicio de usuarios, base de datos), no un rechazo
+ */
+public record ItemLote(long indice, SolicitudPrestamo solicitud, String error, boolean reintentable) {
+
+    public static final String ERROR_NO_PROCESADO = "No se pudo procesar la solicitud por un fallo temporal, intente nuevamente";
+
+    public static ItemLote pendiente(long indice, SolicitudPrestamo solicitud) {
+        return new ItemLote(indice, solicitud, null, false);
+    }
+
+    public static ItemLote rechazado(long indice, SolicitudPrestamo solicitud, String error) {
+        return new ItemLote(indice, solicitud, error, false);
+    }
+
+    public ItemLote creado(SolicitudPrestamo guardada) {
+        return new ItemLote(indice, guardada, null, false);
+    }
+
+    public ItemLote rechazar(String motivo) {
+        return new ItemLote(indice, solicitud, motivo, false);
+    }
+
+    /**
+     * Marca el item como no procesado por un fallo temporal, con un mensaje genérico que no expone la causa.
+     */
+    public ItemLote noProcesado() {
+        return new ItemLote(indice, solicitud, ERROR_NO_PROCESADO, true);
+    }
+
+    public boolean esRechazado() {
+        return error != null && !reintentable;
+    }
+}
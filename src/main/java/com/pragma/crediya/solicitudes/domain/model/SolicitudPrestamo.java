@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 @Data
@@ -35,4 +37,20 @@ public class SolicitudPrestamo {
         this.fechaCreacion = ahora;
         this.fechaActualizacion = ahora;
     }
+
+    /**
+     * Calcula la cuota mensual con amortización de cuota fija sobre la tasa mensual.
+     * Sin tasa de interés la cuota es el monto dividido en el plazo.
+     */
+    public BigDecimal calcularCuotaMensual() {
+        if (monto == null || plazo == null || plazo <= 0) {
+            return BigDecimal.ZERO;
+        }
+        if (tasaInteres == null || tasaInteres.signum() == 0) {
+            return monto.divide(BigDecimal.valueOf(plazo), 2, RoundingMode.HALF_UP);
+        }
+        BigDecimal factor = BigDecimal.ONE.add(tasaInteres).pow(plazo, MathContext.DECIMAL64);
+        return monto.multiply(tasaInteres).multiply(factor)
+                .divide(factor.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+    }
 }
@@ -1,13 +1,22 @@
 package com.pragma.crediya.solicitudes.domain.ports.in;
 
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+
 public interface ISolicitudServicePort {
     Mono<SolicitudPrestamo> crearSolicitudConToken(SolicitudPrestamo solicitud, String jwtToken);
     Mono<SolicitudPrestamo> crearSolicitud(SolicitudPrestamo solicitud);
     Flux<SolicitudPrestamo> obtenerTodasLasSolicitudes();
     Flux<SolicitudPrestamo> obtenerSolicitudesPorCliente(String documentoIdentidad);
     Flux<com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto> obtenerSolicitudesRevision(String estado, int page, int size);
+    Mono<Long> contarSolicitudesRevision(String estado);
+    Flux<com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto> obtenerSolicitudesRevisionDesdeCursor(String estado, CursorSolicitud cursor, int size);
+    Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size);
+    Flux<ItemLote> crearSolicitudesEnLote(Flux<ItemLote> items, String jwtToken);
+    Flux<SolicitudPrestamo> exportarSolicitudes(String estado, String tipoPrestamo, LocalDate desde, LocalDate hasta);
 }
@@ -0,0 +1,23 @@
+package com.pragma.crediya.solicitudes.domain.ports.out;
+
+import com.pragma.crediya.solicitudes.domain.model.CondicionesTipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para las condiciones de los tipos de préstamo. Se resuelve en memoria:
+ * la creación de solicitudes lo consulta sin ir a la base de datos.
+ */
+public interface CatalogoPrestamosPort {
+
+    /**
+     * Implementación sin condiciones, para construir el caso de uso sin validar montos ni asignar tasa.
+     */
+    CatalogoPrestamosPort SIN_CONDICIONES = tipoPrestamo -> Optional.empty();
+
+    /**
+     * @return las condiciones del tipo de préstamo, o vacío si el catálogo no las conoce (sin restricción)
+     */
+    Optional<CondicionesTipoPrestamo> condiciones(TipoPrestamo tipoPrestamo);
+}
@@ -1,12 +1,66 @@
 package com.pragma.crediya.solicitudes.domain.ports.out;
 
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.FiltroExportacion;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface ISolicitudRepositoryPort {
     Mono<SolicitudPrestamo> guardarSolicitud(SolicitudPrestamo solicitud);
+
+    /**
+     * Inserta varias solicitudes nuevas en una sola sentencia y transacción.
+     * Devuelve las solicitudes guardadas, con su id, en el mismo orden recibido.
+     */
+    Flux<SolicitudPrestamo> guardarSolicitudes(List<SolicitudPrestamo> solicitudes);
+
     Mono<Boolean> existeClientePorDocumento(String documentoIdentidad);
     Flux<SolicitudPrestamo> obtenerTodasLasSolicitudes();
     Flux<SolicitudPrestamo> obtenerSolicitudesPorCliente(String documentoIdentidad);
+
+    /**
+     * Obtiene una página de solicitudes ordenadas de la más reciente a la más antigua.
+     *
+     * @param estado Estado por el que filtrar, o null para no filtrar
+     * @param page Número de página (desde 0)
+     * @param size Tamaño de página
+     */
+    Flux<SolicitudPrestamo> obtenerSolicitudesPaginadas(EstadoSolicitud estado, int page, int size);
+
+    /**
+     * Cuenta las solicitudes en un estado, o todas si el estado es null.
+     */
+    Mono<Long> contarSolicitudes(EstadoSolicitud estado);
+
+    /**
+     * Obtiene hasta {@code size} solicitudes anteriores al cursor, de la más reciente a la más antigua.
+     *
+     * @param estado Estado por el que filtrar, o null para no filtrar
+     * @param cursor Última posición entregada, o null para la primera página
+     */
+    Flux<SolicitudPrestamo> obtenerSolicitudesDesdeCursor(EstadoSolicitud estado, CursorSolicitud cursor, int size);
+
+    /**
+     * Igual que {@link #obtenerSolicitudesDesdeCursor} pero limitado a las solicitudes de un cliente.
+     */
+    Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size);
+
+    /**
+     * Obtiene la suma de montos aprobados de varios clientes en una sola consulta.
+     * Los clientes sin solicitudes registradas no aparecen en el mapa.
+     */
+    Mono<Map<String, BigDecimal>> obtenerDeudaAprobadaPorClientes(Collection<String> documentosIdentidad);
+
+    /**
+     * Recorre en streaming, por orden de id, todas las solicitudes que cumplen el filtro.
+     * La lectura respeta la demanda del suscriptor, por lo que no carga el resultado en memoria.
+     */
+    Flux<SolicitudPrestamo> exportarSolicitudes(FiltroExportacion filtro);
 }
@@ -0,0 +1,18 @@
+package com.pragma.crediya.solicitudes.domain.ports.out;
+
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos de solicitudes. La entrega es al menos una vez: un lote cuya publicación falla
+ * se vuelve a publicar completo, por lo que los consumidores deben deduplicar por idEvento.
+ */
+public interface SolicitudEventPublisherPort {
+
+    /**
+     * Publica un lote de eventos en orden; completa cuando el destino los aceptó todos.
+     */
+    Mono<Void> publicar(List<EventoSolicitud> eventos);
+}
@@ -0,0 +1,51 @@
+package com.pragma.crediya.solicitudes.domain.ports.out;
+
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Puerto de salida para las métricas de la creación de solicitudes.
+ */
+public interface SolicitudMetricsPort {
+
+    /**
+     * Etapas de la creación: consulta al servicio de usuarios, apertura de la transacción, guardado,
+     * confirmación (commit) y el total de la operación.
+     */
+    enum Etapa { CONSULTA_USUARIO, INICIO_TRANSACCION, GUARDADO, COMMIT, TOTAL }
+
+    enum Resultado { CREADA, CLIENTE_NO_ENCONTRADO, MONTO_FUERA_DE_RANGO, FALLIDA }
+
+    /**
+     * Implementación sin efecto, para construir el caso de uso sin métricas.
+     */
+    SolicitudMetricsPort NINGUNA = new SolicitudMetricsPort() {
+        @Override
+        public <T> Mono<T> medir(Etapa etapa, TipoPrestamo tipoPrestamo, Mono<T> operacion) {
+            return operacion;
+        }
+
+        @Override
+        public void registrar(Etapa etapa, TipoPrestamo tipoPrestamo, Duration duracion) {
+        }
+
+        @Override
+        public void contar(Resultado resultado, TipoPrestamo tipoPrestamo) {
+        }
+    };
+
+    /**
+     * Mide la duración de la operación desde la suscripción hasta su terminación, etiquetada con
+     * el resultado (éxito, vacío o error).
+     */
+    <T> Mono<T> medir(Etapa etapa, TipoPrestamo tipoPrestamo, Mono<T> operacion);
+
+    /**
+     * Registra una etapa exitosa cuya duración se midió fuera de un Mono propio.
+     */
+    void registrar(Etapa etapa, TipoPrestamo tipoPrestamo, Duration duracion);
+
+    void contar(Resultado resultado, TipoPrestamo tipoPrestamo);
+}
@@ -2,6 +2,9 @@ package com.pragma.crediya.solicitudes.domain.ports.out;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Puerto de salida para la comunicación con el microservicio de usuarios
  */
@@ -23,6 +26,15 @@ public interface UserClientPort {
      * @return Mono<UserInfo> con la información del usuario
      */
     Mono<UserInfo> obtenerUsuario(String documentoIdentidad);
+
+    /**
+     * Obtiene en bloque la información de varios usuarios
+     * 
+     * @param documentosIdentidad Documentos de identidad de los usuarios
+     * @param jwtToken Token del llamador que se reenvía al microservicio; null para consultar sin token
+     * @return Mono<Map> documento -> usuario; los documentos sin usuario registrado no aparecen
+     */
+    Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken);
     
     /**
      * Clase interna para encapsular información básica del usuario
@@ -1,103 +1,150 @@
 package com.pragma.crediya.solicitudes.domain.usecase;
 
 import com.pragma.crediya.solicitudes.domain.exception.ClienteNoEncontradoException;
+import com.pragma.crediya.solicitudes.domain.exception.MontoFueraDeRangoException;
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
 import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.FiltroExportacion;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
 import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.domain.ports.out.CatalogoPrestamosPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 // @RequiredArgsConstructor
 public class SolicitudUseCase implements ISolicitudServicePort {
+
+        /**
+         * Solicitudes por bloque en la creación en lote: una consulta de usuarios, un INSERT y una transacción por bloque.
+         */
+        public static final int TAMANO_BLOQUE_LOTE_POR_DEFECTO = 500;
+
     @Override
     public Mono<SolicitudPrestamo> crearSolicitudConToken(SolicitudPrestamo solicitud, String jwtToken) {
         log.info("Iniciando creación de solicitud de préstamo - Documento: {}, Tipo: {}, Monto: {}", 
                 solicitud.getDocumentoIdentidad(), solicitud.getTipoPrestamo(), solicitud.getMonto());
-        return userClientPort.obtenerUsuarioConToken(solicitud.getDocumentoIdentidad(), jwtToken)
-                .doOnNext(usuario -> log.debug("Usuario obtenido desde HU1 - Documento: {}, Email: {}", 
-                        usuario.documentoIdentidad(), usuario.correoElectronico()))
-                .switchIfEmpty(Mono.error(new ClienteNoEncontradoException(
-                        "No se encontró un cliente registrado con el documento de identidad: " + 
-                        solicitud.getDocumentoIdentidad())))
-                .flatMap(usuario -> {
-                    solicitud.setEmail(usuario.correoElectronico());
-                    solicitud.setNombre((usuario.nombres() != null ? usuario.nombres() : "") + " " + (usuario.apellidos() != null ? usuario.apellidos() : ""));
-                    solicitud.setSalarioBase(usuario.salarioBase() != null ? usuario.salarioBase() : java.math.BigDecimal.ZERO);
-                    solicitud.setEstado(EstadoSolicitud.PENDIENTE_REVISION);
-                    solicitud.setFechaCreacion(LocalDateTime.now());
-                    solicitud.setFechaActualizacion(LocalDateTime.now());
-                    log.debug("Cliente validado con email {}, nombre {}, salarioBase {}, procediendo a guardar solicitud", usuario.correoElectronico(), solicitud.getNombre(), solicitud.getSalarioBase());
-                    return solicitudRepositoryPort.guardarSolicitud(solicitud);
-                })
-                .as(transactionalOperator::transactional)
-                .doOnSuccess(solicitudGuardada -> 
-                        log.info("Solicitud de préstamo creada exitosamente - ID: {}, Cliente: {}, Estado: {}", 
-                                solicitudGuardada.getId(), solicitudGuardada.getDocumentoIdentidad(), 
-                                solicitudGuardada.getEstado())
-                )
-                .doOnError(error -> 
-                        log.error("Error durante la creación de solicitud para cliente {}: {}", 
-                                solicitud.getDocumentoIdentidad(), error.getMessage(), error)
-                );
+        return crearConUsuario(solicitud,
+                Mono.defer(() -> userClientPort.obtenerUsuarioConToken(solicitud.getDocumentoIdentidad(), jwtToken)));
     }
 
         private final ISolicitudRepositoryPort solicitudRepositoryPort;
         private final UserClientPort userClientPort;
-        private final TransactionalOperator transactionalOperator;
+        private final int tamanoBloqueLote;
+        private final SolicitudMetricsPort solicitudMetricsPort;
+        private final CatalogoPrestamosPort catalogoPrestamosPort;
 
-        public SolicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort, UserClientPort userClientPort, TransactionalOperator transactionalOperator) {
+        public SolicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort, UserClientPort userClientPort) {
+                this(solicitudRepositoryPort, userClientPort, TAMANO_BLOQUE_LOTE_POR_DEFECTO);
+        }
+
+        public SolicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort, UserClientPort userClientPort,
+                                int tamanoBloqueLote) {
+                this(solicitudRepositoryPort, userClientPort, tamanoBloqueLote, SolicitudMetricsPort.NINGUNA);
+        }
+
+        public SolicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort, UserClientPort userClientPort,
+                                int tamanoBloqueLote, SolicitudMetricsPort solicitudMetricsPort) {
+                this(solicitudRepositoryPort, userClientPort, tamanoBloqueLote, solicitudMetricsPort,
+                        CatalogoPrestamosPort.SIN_CONDICIONES);
+        }
+
+        /**
+         * Las transacciones son responsabilidad del puerto de persistencia: cada guardado abre la suya.
+         * El catálogo de préstamos se consulta en memoria para validar el monto y asignar la tasa de interés.
+         */
+        public SolicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort, UserClientPort userClientPort,
+                                int tamanoBloqueLote, SolicitudMetricsPort solicitudMetricsPort,
+                                CatalogoPrestamosPort catalogoPrestamosPort) {
                 this.solicitudRepositoryPort = solicitudRepositoryPort;
                 this.userClientPort = userClientPort;
-                this.transactionalOperator = transactionalOperator;
+                this.tamanoBloqueLote = Math.max(tamanoBloqueLote, 1);
+                this.solicitudMetricsPort = solicitudMetricsPort;
+                this.catalogoPrestamosPort = catalogoPrestamosPort;
         }
 
     @Override
     public Mono<SolicitudPrestamo> crearSolicitud(SolicitudPrestamo solicitud) {
         log.info("Iniciando creación de solicitud de préstamo - Documento: {}, Tipo: {}, Monto: {}", 
                 solicitud.getDocumentoIdentidad(), solicitud.getTipoPrestamo(), solicitud.getMonto());
+        return crearConUsuario(solicitud,
+                Mono.defer(() -> userClientPort.obtenerUsuario(solicitud.getDocumentoIdentidad())));
+    }
 
-                return userClientPort.obtenerUsuario(solicitud.getDocumentoIdentidad())
+        /**
+         * Flujo común de la creación individual, en dos fases: la consulta del usuario y el enriquecimiento
+         * corren fuera de toda transacción, y solo el guardado abre una (corta) en el adaptador de
+         * persistencia. Así una respuesta lenta del servicio de usuarios no retiene una conexión del pool.
+         * Las condiciones del tipo de préstamo se aplican antes de consultar al usuario.
+         */
+        private Mono<SolicitudPrestamo> crearConUsuario(SolicitudPrestamo solicitud, Mono<UserClientPort.UserInfo> consultaUsuario) {
+                TipoPrestamo tipoPrestamo = solicitud.getTipoPrestamo();
+                Mono<SolicitudPrestamo> creacion = Mono.fromRunnable(() -> aplicarCondiciones(solicitud))
+                                .then(solicitudMetricsPort.medir(SolicitudMetricsPort.Etapa.CONSULTA_USUARIO, tipoPrestamo, consultaUsuario))
                                 .doOnNext(usuario -> log.debug("Usuario obtenido desde HU1 - Documento: {}, Email: {}", 
-                                                usuario.documentoIdentidad(), usuario.correoElectronico()))
-                                .switchIfEmpty(Mono.error(new ClienteNoEncontradoException(
+                                        usuario.documentoIdentidad(), usuario.correoElectronico()))
+                                .switchIfEmpty(Mono.error(() -> new ClienteNoEncontradoException(
                                         "No se encontró un cliente registrado con el documento de identidad: " + 
                                         solicitud.getDocumentoIdentidad())))
                                 .flatMap(usuario -> {
-                                        // Asignar datos completos del usuario
-                                        solicitud.setEmail(usuario.correoElectronico());
-                                            solicitud.setNombre((usuario.nombres() != null ? usuario.nombres() : "") + " " + (usuario.apellidos() != null ? usuario.apellidos() : ""));
-                                            // Asignar salarioBase si está presente, si no poner 0
-                                            solicitud.setSalarioBase(usuario.salarioBase() != null ? usuario.salarioBase() : java.math.BigDecimal.ZERO);
-                                        // Si tienes lógica para tasaInteres, asígnala aquí
-                                        // solicitud.setTasaInteres(...);
-
-                                        // Establecer estado inicial y fechas
-                                        solicitud.setEstado(EstadoSolicitud.PENDIENTE_REVISION);
-                                        solicitud.setFechaCreacion(LocalDateTime.now());
-                                        solicitud.setFechaActualizacion(LocalDateTime.now());
-
+                                        completarSolicitudNueva(solicitud, usuario);
                                         log.debug("Cliente validado con email {}, nombre {}, salarioBase {}, procediendo a guardar solicitud", usuario.correoElectronico(), solicitud.getNombre(), solicitud.getSalarioBase());
-                                        return solicitudRepositoryPort.guardarSolicitud(solicitud);
-                                })
-                                .as(transactionalOperator::transactional)
-                                .doOnSuccess(solicitudGuardada -> 
+                                        return solicitudMetricsPort.medir(SolicitudMetricsPort.Etapa.GUARDADO, tipoPrestamo,
+                                                solicitudRepositoryPort.guardarSolicitud(solicitud));
+                                });
+                return solicitudMetricsPort.medir(SolicitudMetricsPort.Etapa.TOTAL, tipoPrestamo, creacion)
+                                .doOnSuccess(solicitudGuardada -> {
+                                        solicitudMetricsPort.contar(SolicitudMetricsPort.Resultado.CREADA, tipoPrestamo);
                                         log.info("Solicitud de préstamo creada exitosamente - ID: {}, Cliente: {}, Estado: {}", 
                                                 solicitudGuardada.getId(), solicitudGuardada.getDocumentoIdentidad(), 
-                                                solicitudGuardada.getEstado())
-                                )
-                                .doOnError(error -> 
+                                                solicitudGuardada.getEstado());
+                                })
+                                .doOnError(error -> {
+                                        solicitudMetricsPort.contar(resultadoDeError(error), tipoPrestamo);
                                         log.error("Error durante la creación de solicitud para cliente {}: {}", 
-                                                solicitud.getDocumentoIdentidad(), error.getMessage(), error)
-                                );
-    }
+                                                solicitud.getDocumentoIdentidad(), error.getMessage(), error);
+                                });
+        }
+
+        private static SolicitudMetricsPort.Resultado resultadoDeError(Throwable error) {
+                if (error instanceof ClienteNoEncontradoException) {
+                        return SolicitudMetricsPort.Resultado.CLIENTE_NO_ENCONTRADO;
+                }
+                if (error instanceof MontoFueraDeRangoException) {
+                        return SolicitudMetricsPort.Resultado.MONTO_FUERA_DE_RANGO;
+                }
+                return SolicitudMetricsPort.Resultado.FALLIDA;
+        }
+
+        /**
+         * Valida el monto contra el rango del tipo de préstamo y asigna su tasa de interés.
+         * Un tipo sin condiciones en el catálogo no se restringe.
+         */
+        private void aplicarCondiciones(SolicitudPrestamo solicitud) {
+                catalogoPrestamosPort.condiciones(solicitud.getTipoPrestamo()).ifPresent(condiciones -> {
+                        if (!condiciones.admiteMonto(solicitud.getMonto())) {
+                                throw new MontoFueraDeRangoException("El monto " + solicitud.getMonto()
+                                        + " está fuera del rango permitido para el tipo de préstamo " + solicitud.getTipoPrestamo()
+                                        + ": entre " + condiciones.montoMinimo() + " y " + condiciones.montoMaximo());
+                        }
+                        solicitud.setTasaInteres(condiciones.tasaInteres());
+                });
+        }
 
     @Override
     public Flux<SolicitudPrestamo> obtenerTodasLasSolicitudes() {
@@ -123,23 +170,220 @@ public class SolicitudUseCase implements ISolicitudServicePort {
     }
         public Flux<com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto> obtenerSolicitudesRevision(String estado, int page, int size) {
                 log.info("Obteniendo solicitudes para revisión manual - estado: {}, page: {}, size: {}", estado, page, size);
-                Flux<SolicitudPrestamo> solicitudesFlux = (estado == null || estado.isEmpty())
-                        ? solicitudRepositoryPort.obtenerTodasLasSolicitudes()
-                        : solicitudRepositoryPort.obtenerTodasLasSolicitudes().filter(s -> s.getEstado().name().equalsIgnoreCase(estado));
+                if (esEstadoDesconocido(estado)) {
+                        log.warn("Estado de solicitud desconocido para revisión: {}", estado);
+                        return Flux.empty();
+                }
+
+                return enriquecerConDeudaAprobada(solicitudRepositoryPort.obtenerSolicitudesPaginadas(
+                        resolverEstado(estado), Math.max(page, 0), Math.max(size, 1)));
+        }
+
+        @Override
+        public Flux<com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto> obtenerSolicitudesRevisionDesdeCursor(String estado, CursorSolicitud cursor, int size) {
+                log.info("Obteniendo solicitudes para revisión manual por cursor - estado: {}, cursor: {}, size: {}", estado, cursor, size);
+                if (esEstadoDesconocido(estado)) {
+                        log.warn("Estado de solicitud desconocido para revisión: {}", estado);
+                        return Flux.empty();
+                }
+
+                return enriquecerConDeudaAprobada(solicitudRepositoryPort.obtenerSolicitudesDesdeCursor(
+                        resolverEstado(estado), cursor, Math.max(size, 1)));
+        }
+
+        @Override
+        public Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size) {
+                log.info("Obteniendo solicitudes del cliente {} por cursor - cursor: {}, size: {}", documentoIdentidad, cursor, size);
+
+                return solicitudRepositoryPort.obtenerSolicitudesPorClienteDesdeCursor(documentoIdentidad, cursor, Math.max(size, 1))
+                        .doOnError(error -> log.error("Error al obtener solicitudes por cursor para cliente {}: {}",
+                                documentoIdentidad, error.getMessage(), error));
+        }
+
+        /**
+         * Agrega a cada solicitud de la página la deuda aprobada de su cliente, resolviendo
+         * todos los clientes de la página con una sola consulta y conservando el orden.
+         */
+        private Flux<com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto> enriquecerConDeudaAprobada(Flux<SolicitudPrestamo> pagina) {
+                return pagina
+                        .collectList()
+                        .flatMapMany(solicitudes -> {
+                                if (solicitudes.isEmpty()) {
+                                        return Flux.empty();
+                                }
+                                java.util.Set<String> documentos = solicitudes.stream()
+                                        .map(SolicitudPrestamo::getDocumentoIdentidad)
+                                        .collect(java.util.stream.Collectors.toSet());
+                                return solicitudRepositoryPort.obtenerDeudaAprobadaPorClientes(documentos)
+                                        .flatMapMany(deudas -> Flux.fromIterable(solicitudes)
+                                                .map(solicitud -> mapToRevisionDto(solicitud,
+                                                        deudas.getOrDefault(solicitud.getDocumentoIdentidad(), java.math.BigDecimal.ZERO))));
+                        });
+        }
+
+        @Override
+        public Mono<Long> contarSolicitudesRevision(String estado) {
+                if (esEstadoDesconocido(estado)) {
+                        return Mono.just(0L);
+                }
+                return solicitudRepositoryPort.contarSolicitudes(resolverEstado(estado));
+        }
 
-                return solicitudesFlux
-                        .skip((long) page * size)
-                        .take(size)
-                        .flatMap(solicitud -> calcularDeudaTotalMensualAprobada(solicitud.getDocumentoIdentidad())
-                                .map(deudaTotal -> mapToRevisionDto(solicitud, deudaTotal))
-                        );
+        /**
+         * Crea las solicitudes de un lote por bloques consecutivos. Cada bloque resuelve a todos sus clientes
+         * con una consulta en bloque y guarda sus solicitudes con un único INSERT en una transacción.
+         * Los errores se reportan por item: un monto fuera de rango o un cliente inexistente rechaza solo su item,
+         * y un fallo del bloque (servicio de usuarios o base de datos) no es un rechazo: los items de ese bloque se
+         * emiten como no procesados ({@link ItemLote#reintentable()}) sin detener el lote, para que el llamador
+         * pueda reintentarlos.
+         * El token del llamador se reenvía al servicio de usuarios, como en la creación individual.
+         */
+        @Override
+        public Flux<ItemLote> crearSolicitudesEnLote(Flux<ItemLote> items, String jwtToken) {
+                return items
+                        .map(this::aplicarCondiciones)
+                        .buffer(tamanoBloqueLote)
+                        .concatMap(bloque -> procesarBloqueLote(bloque, jwtToken));
+        }
+
+        private ItemLote aplicarCondiciones(ItemLote item) {
+                if (item.esRechazado()) {
+                        return item;
+                }
+                try {
+                        aplicarCondiciones(item.solicitud());
+                        return item;
+                } catch (MontoFueraDeRangoException e) {
+                        return item.rechazar(e.getMessage());
+                }
+        }
+
+        private Flux<ItemLote> procesarBloqueLote(List<ItemLote> bloque, String jwtToken) {
+                Set<String> documentos = new HashSet<>();
+                for (ItemLote item : bloque) {
+                        if (!item.esRechazado()) {
+                                documentos.add(item.solicitud().getDocumentoIdentidad());
+                        }
+                }
+                if (documentos.isEmpty()) {
+                        return Flux.fromIterable(bloque);
+                }
+                log.debug("Procesando bloque de {} solicitudes de {} clientes", bloque.size(), documentos.size());
+
+                return userClientPort.obtenerUsuarios(documentos, jwtToken)
+                        .flatMapMany(usuarios -> guardarBloqueLote(bloque, usuarios))
+                        .onErrorResume(error -> {
+                                log.error("Error al procesar bloque de {} solicitudes: {}", bloque.size(), error.getMessage(), error);
+                                return Flux.fromIterable(bloque)
+                                        .map(item -> item.esRechazado() ? item : item.noProcesado());
+                        });
+        }
+
+        private Flux<ItemLote> guardarBloqueLote(List<ItemLote> bloque, Map<String, UserClientPort.UserInfo> usuarios) {
+                List<ItemLote> resultado = new ArrayList<>(bloque);
+                List<Integer> posiciones = new ArrayList<>();
+                List<SolicitudPrestamo> nuevas = new ArrayList<>();
+                for (int i = 0; i < bloque.size(); i++) {
+                        ItemLote item = bloque.get(i);
+                        if (item.esRechazado()) {
+                                continue;
+                        }
+                        UserClientPort.UserInfo usuario = usuarios.get(item.solicitud().getDocumentoIdentidad());
+                        if (usuario == null) {
+                                resultado.set(i, item.rechazar("No se encontró un cliente registrado con el documento de identidad: "
+                                        + item.solicitud().getDocumentoIdentidad()));
+                                continue;
+                        }
+                        completarSolicitudNueva(item.solicitud(), usuario);
+                        posiciones.add(i);
+                        nuevas.add(item.solicitud());
+                }
+                if (nuevas.isEmpty()) {
+                        return Flux.fromIterable(resultado);
+                }
+
+                return solicitudRepositoryPort.guardarSolicitudes(nuevas)
+                        .collectList()
+                        .flatMapMany(guardadas -> {
+                                for (int j = 0; j < guardadas.size(); j++) {
+                                        int posicion = posiciones.get(j);
+                                        resultado.set(posicion, resultado.get(posicion).creado(guardadas.get(j)));
+                                }
+                                log.info("Bloque de lote guardado - creadas: {}, rechazadas: {}",
+                                        guardadas.size(), bloque.size() - guardadas.size());
+                                return Flux.fromIterable(resultado);
+                        });
+        }
+
+        /**
+         * Completa una solicitud nueva con los datos del cliente, el estado inicial y las fechas.
+         */
+        private void completarSolicitudNueva(SolicitudPrestamo solicitud, UserClientPort.UserInfo usuario) {
+                LocalDateTime ahora = LocalDateTime.now();
+                solicitud.setEmail(usuario.correoElectronico());
+                solicitud.setNombre((usuario.nombres() != null ? usuario.nombres() : "") + " " + (usuario.apellidos() != null ? usuario.apellidos() : ""));
+                solicitud.setSalarioBase(usuario.salarioBase() != null ? usuario.salarioBase() : java.math.BigDecimal.ZERO);
+                solicitud.setEstado(EstadoSolicitud.PENDIENTE_REVISION);
+                solicitud.setFechaCreacion(ahora);
+                solicitud.setFechaActualizacion(ahora);
+        }
+
+        @Override
+        public Flux<SolicitudPrestamo> exportarSolicitudes(String estado, String tipoPrestamo, LocalDate desde, LocalDate hasta) {
+                log.info("Exportando solicitudes - estado: {}, tipoPrestamo: {}, desde: {}, hasta: {}", estado, tipoPrestamo, desde, hasta);
+                if (esEstadoDesconocido(estado)) {
+                        log.warn("Estado de solicitud desconocido para exportación: {}", estado);
+                        return Flux.empty();
+                }
+                if (esTipoPrestamoDesconocido(tipoPrestamo)) {
+                        log.warn("Tipo de préstamo desconocido para exportación: {}", tipoPrestamo);
+                        return Flux.empty();
+                }
+
+                // El rango es de días completos: 'hasta' incluye todo ese día
+                FiltroExportacion filtro = new FiltroExportacion(
+                        resolverEstado(estado),
+                        resolverTipoPrestamo(tipoPrestamo),
+                        desde != null ? desde.atStartOfDay() : null,
+                        hasta != null ? hasta.plusDays(1).atStartOfDay() : null);
+                return solicitudRepositoryPort.exportarSolicitudes(filtro)
+                        .doOnError(error -> log.error("Error al exportar solicitudes con filtro {}: {}",
+                                filtro, error.getMessage(), error));
+        }
+
+        /**
+         * Convierte el filtro de estado recibido por la API; null o vacío significa "todos los estados".
+         */
+        private EstadoSolicitud resolverEstado(String estado) {
+                if (estado == null || estado.isBlank()) {
+                        return null;
+                }
+                for (EstadoSolicitud candidato : EstadoSolicitud.values()) {
+                        if (candidato.name().equalsIgnoreCase(estado.trim())) {
+                                return candidato;
+                        }
+                }
+                return null;
+        }
+
+        private boolean esEstadoDesconocido(String estado) {
+                return estado != null && !estado.isBlank() && resolverEstado(estado) == null;
+        }
+
+        private TipoPrestamo resolverTipoPrestamo(String tipoPrestamo) {
+                if (tipoPrestamo == null || tipoPrestamo.isBlank()) {
+                        return null;
+                }
+                for (TipoPrestamo candidato : TipoPrestamo.values()) {
+                        if (candidato.name().equalsIgnoreCase(tipoPrestamo.trim())) {
+                                return candidato;
+                        }
+                }
+                return null;
         }
 
-        private Mono<java.math.BigDecimal> calcularDeudaTotalMensualAprobada(String documentoIdentidad) {
-                return solicitudRepositoryPort.obtenerSolicitudesPorCliente(documentoIdentidad)
-                        .filter(s -> s.getEstado() == com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud.APROBADA)
-                        .map(com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo::getMonto)
-                        .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
+        private boolean esTipoPrestamoDesconocido(String tipoPrestamo) {
+                return tipoPrestamo != null && !tipoPrestamo.isBlank() && resolverTipoPrestamo(tipoPrestamo) == null;
         }
 
         private com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto mapToRevisionDto(com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo solicitud, java.math.BigDecimal deudaTotal) {
@@ -154,6 +398,7 @@ public class SolicitudUseCase implements ISolicitudServicePort {
                         .estadoSolicitud(solicitud.getEstado().name())
                         .salarioBase(solicitud.getSalarioBase())
                         .deudaTotalMensualSolicitudesAprobadas(deudaTotal)
+                        .fechaCreacion(solicitud.getFechaCreacion())
                         .build();
         }
                 }
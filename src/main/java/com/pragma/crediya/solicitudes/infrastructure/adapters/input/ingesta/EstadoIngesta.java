@@ -0,0 +1,15 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta;
+
+/**
+ * Situación de una solicitud recibida en modo asíncrono.
+ *
+ * @param estado RECIBIDA (en cola), CREADA o RECHAZADA
+ * @param idSolicitud ID de la solicitud creada, si el estado es CREADA
+ * @param error Motivo del rechazo, si el estado es RECHAZADA
+ */
+public record EstadoIngesta(String idSeguimiento, String estado, String documentoIdentidad, Long idSolicitud, String error) {
+
+    public static final String RECIBIDA = "RECIBIDA";
+    public static final String CREADA = "CREADA";
+    public static final String RECHAZADA = "RECHAZADA";
+}
@@ -0,0 +1,181 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Log local de solo escritura al final, repartido en segmentos de tamaño fijo mapeados en memoria
+ * (ingesta-000001.log, ingesta-000002.log, ...). Cada registro es [longitud][crc32][datos]; una
+ * longitud 0 marca el final del segmento, y un registro con CRC inválido (escritura interrumpida
+ * por una caída) también, de modo que al reabrir se continúa escribiendo desde ese punto.
+ * Con fsync cada registro se fuerza a disco antes de confirmarse; sin él sobrevive a la caída del
+ * proceso (las páginas quedan en la caché del sistema operativo) pero no a la de la máquina.
+ */
+@Slf4j
+public class IngestaLog implements AutoCloseable {
+
+    private static final String PREFIJO = "ingesta-";
+    private static final String SUFIJO = ".log";
+    private static final int CABECERA = Integer.BYTES * 2;
+
+    private final Path directorio;
+    private final int tamanoSegmento;
+    private final boolean fsync;
+
+    private long segmentoActivo;
+    private FileChannel canal;
+    private MappedByteBuffer buffer;
+
+    private IngestaLog(Path directorio, int tamanoSegmento, boolean fsync) {
+        this.directorio = directorio;
+        this.tamanoSegmento = tamanoSegmento;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Abre el log, entrega al consumidor cada registro existente (número de segmento y datos) en orden
+     * de escritura y deja el log listo para agregar al final del último segmento.
+     */
+    public static IngestaLog abrir(Path directorio, int tamanoSegmento, boolean fsync,
+                                   BiConsumer<Long, byte[]> alReproducir) throws IOException {
+        Files.createDirectories(directorio);
+        IngestaLog ingestaLog = new IngestaLog(directorio, tamanoSegmento, fsync);
+        List<Long> segmentos = ingestaLog.segmentos();
+        for (long segmento : segmentos) {
+            ingestaLog.mapear(segmento);
+            ingestaLog.reproducirSegmento(segmento, alReproducir);
+            if (segmento != segmentos.get(segmentos.size() - 1)) {
+                ingestaLog.canal.close();
+            }
+        }
+        if (segmentos.isEmpty()) {
+            ingestaLog.mapear(1);
+        }
+        log.info("Log de ingesta abierto en {} - segmentos: {}, segmento activo: {}",
+                directorio, Math.max(segmentos.size(), 1), ingestaLog.segmentoActivo);
+        return ingestaLog;
+    }
+
+    /**
+     * Agrega un registro; al retornar el registro es durable según la política de fsync.
+     *
+     * @return Número del segmento en que quedó escrito
+     */
+    public synchronized long agregar(byte[] datos) {
+        if (datos.length + CABECERA > tamanoSegmento - Integer.BYTES) {
+            throw new IllegalArgumentException("Registro de " + datos.length + " bytes excede el tamaño de segmento");
+        }
+        try {
+            if (buffer.remaining() < datos.length + CABECERA + Integer.BYTES) {
+                rotar();
+            }
+            int inicio = buffer.position();
+            CRC32 crc = new CRC32();
+            crc.update(datos);
+            // Se escribe la longitud al final: un registro a medio escribir queda con longitud 0
+            buffer.position(inicio + Integer.BYTES);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(datos);
+            buffer.putInt(inicio, datos.length);
+            if (fsync) {
+                buffer.force(inicio, datos.length + CABECERA);
+            }
+            return segmentoActivo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir en el log de ingesta", e);
+        }
+    }
+
+    /**
+     * Elimina los segmentos anteriores a {@code segmento}; el segmento activo nunca se elimina.
+     */
+    public synchronized void eliminarSegmentosAnteriores(long segmento) {
+        try {
+            for (long existente : segmentos()) {
+                if (existente >= segmento || existente >= segmentoActivo) {
+                    break;
+                }
+                Files.deleteIfExists(ruta(existente));
+                log.debug("Segmento de ingesta {} eliminado", existente);
+            }
+        } catch (IOException e) {
+            log.warn("No se pudieron eliminar segmentos de ingesta anteriores a {}: {}", segmento, e.getMessage());
+        }
+    }
+
+    public synchronized long segmentoActivo() {
+        return segmentoActivo;
+    }
+
+    private void reproducirSegmento(long segmento, BiConsumer<Long, byte[]> alReproducir) {
+        while (buffer.remaining() >= CABECERA) {
+            int inicio = buffer.position();
+            int longitud = buffer.getInt();
+            if (longitud <= 0 || longitud > buffer.remaining() - Integer.BYTES) {
+                buffer.position(inicio);
+                return;
+            }
+            int crcEsperado = buffer.getInt();
+            byte[] datos = new byte[longitud];
+            buffer.get(datos);
+            CRC32 crc = new CRC32();
+            crc.update(datos);
+            if ((int) crc.getValue() != crcEsperado) {
+                log.warn("Registro truncado en el segmento de ingesta {} (posición {}), se descarta", segmento, inicio);
+                buffer.position(inicio);
+                buffer.putInt(inicio, 0);
+                return;
+            }
+            alReproducir.accept(segmento, datos);
+        }
+    }
+
+    private void rotar() throws IOException {
+        buffer.force();
+        canal.close();
+        mapear(segmentoActivo + 1);
+        log.debug("Log de ingesta rotado al segmento {}", segmentoActivo);
+    }
+
+    private void mapear(long segmento) throws IOException {
+        canal = FileChannel.open(ruta(segmento), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanoSegmento);
+        segmentoActivo = segmento;
+    }
+
+    private List<Long> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos
+                    .map(archivo -> archivo.getFileName().toString())
+                    .filter(nombre -> nombre.startsWith(PREFIJO) && nombre.endsWith(SUFIJO))
+                    .map(nombre -> Long.parseLong(nombre.substring(PREFIJO.length(), nombre.length() - SUFIJO.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path ruta(long segmento) {
+        return directorio.resolve(String.format("%s%06d%s", PREFIJO, segmento, SUFIJO));
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            buffer.force();
+            canal.close();
+        } catch (IOException e) {
+            log.warn("Error al cerrar el log de ingesta: {}", e.getMessage());
+        }
+    }
+}
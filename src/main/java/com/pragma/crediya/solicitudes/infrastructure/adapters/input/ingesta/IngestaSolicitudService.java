@@ -0,0 +1,249 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Modo de ingesta asíncrono: cada solicitud aceptada se agrega al {@link IngestaLog} antes de
+ * responder, y un procesador en segundo plano la crea después con la creación en lote, por bloques y
+ * con concurrencia acotada. El resultado también se registra en el log; al arrancar, las solicitudes
+ * sin resultado se vuelven a encolar, por lo que una caída no pierde solicitudes aceptadas (a cambio,
+ * una solicitud creada justo antes de la caída puede crearse de nuevo).
+ * Si un lote falla o alguno de sus bloques no se procesa por un fallo temporal, sus solicitudes sin
+ * resultado se reintentan con backoff; agotados los reintentos quedan RECHAZADAS, de modo que el log
+ * siempre termina compactándose.
+ */
+@Slf4j
+public class IngestaSolicitudService implements AutoCloseable {
+
+    private record Pendiente(String idSeguimiento, long segmento, SolicitudPrestamo solicitud) { }
+
+    static final String ERROR_PROCESAMIENTO = "No se pudo crear la solicitud, intente nuevamente";
+
+    private final ISolicitudServicePort solicitudServicePort;
+    private final ObjectMapper objectMapper;
+    private final IngestaLog ingestaLog;
+    private final Cache<String, EstadoIngesta> estados;
+    private final Map<String, Pendiente> recuperadas = new LinkedHashMap<>();
+    private final TreeMap<Long, Integer> pendientesPorSegmento = new TreeMap<>();
+    private final Sinks.Many<Pendiente> cola = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable procesamiento;
+    private final int maxReintentos;
+    private final Duration esperaReintento;
+    private long limiteCompactado;
+
+    public IngestaSolicitudService(ISolicitudServicePort solicitudServicePort, ObjectMapper objectMapper,
+                                   Path directorio, int tamanoSegmento, boolean fsync,
+                                   int maxLote, Duration ventana, int lotesConcurrentes, Duration retencionEstados,
+                                   int maxReintentos, Duration esperaReintento) {
+        this.solicitudServicePort = solicitudServicePort;
+        this.objectMapper = objectMapper;
+        this.maxReintentos = maxReintentos;
+        this.esperaReintento = esperaReintento;
+        this.estados = Caffeine.newBuilder().expireAfterWrite(retencionEstados).build();
+        try {
+            this.ingestaLog = IngestaLog.abrir(directorio, tamanoSegmento, fsync, this::reproducir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el log de ingesta en " + directorio, e);
+        }
+        this.procesamiento = cola.asFlux()
+                .bufferTimeout(maxLote, ventana, true)
+                .flatMap(this::procesarLote, lotesConcurrentes)
+                .subscribe();
+
+        log.info("Ingesta asíncrona habilitada - {} solicitudes recuperadas del log", recuperadas.size());
+        recuperadas.values().forEach(pendiente -> {
+            registrarPendiente(pendiente.segmento());
+            encolar(pendiente);
+        });
+        recuperadas.clear();
+        compactar();
+    }
+
+    /**
+     * Registra la solicitud de forma durable y la encola para su creación.
+     *
+     * @return Estado inicial (RECIBIDA) con el ID de seguimiento
+     */
+    public Mono<EstadoIngesta> recibir(SolicitudPrestamo solicitud) {
+        return Mono.fromCallable(() -> {
+                    String idSeguimiento = UUID.randomUUID().toString();
+                    long segmento = agregarPendiente(new RegistroIngesta(RegistroIngesta.SOLICITUD, idSeguimiento,
+                            solicitud.getDocumentoIdentidad(), solicitud.getMonto(), solicitud.getPlazo(),
+                            solicitud.getTipoPrestamo(), null, null));
+                    EstadoIngesta estado = new EstadoIngesta(idSeguimiento, EstadoIngesta.RECIBIDA,
+                            solicitud.getDocumentoIdentidad(), null, null);
+                    estados.put(idSeguimiento, estado);
+                    encolar(new Pendiente(idSeguimiento, segmento, solicitud));
+                    return estado;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<EstadoIngesta> consultar(String idSeguimiento) {
+        return Mono.justOrEmpty(estados.getIfPresent(idSeguimiento));
+    }
+
+    /**
+     * Crea el lote; si falla, o quedan items no procesados por un fallo temporal, reintenta con backoff
+     * solo las solicitudes que aún no tienen resultado y, agotados los reintentos, las rechaza.
+     */
+    private Mono<Void> procesarLote(List<Pendiente> lote) {
+        log.debug("Procesando lote de {} solicitudes de ingesta", lote.size());
+        // IDs de seguimiento: la solicitud de cada pendiente cambia (recibe su id) al crearse
+        Set<String> sinResultado = ConcurrentHashMap.newKeySet();
+        lote.forEach(pendiente -> sinResultado.add(pendiente.idSeguimiento()));
+
+        return Mono.defer(() -> crear(lote.stream()
+                        .filter(pendiente -> sinResultado.contains(pendiente.idSeguimiento()))
+                        .toList(), sinResultado))
+                .retryWhen(Retry.backoff(maxReintentos, esperaReintento)
+                        .doBeforeRetry(senal -> log.warn("Falló el lote de {} solicitudes de ingesta, reintento {}: {}",
+                                sinResultado.size(), senal.totalRetries() + 1, senal.failure().getMessage())))
+                .onErrorResume(error -> {
+                    log.error("Se rechazan {} solicitudes de ingesta tras agotar los reintentos: {}",
+                            sinResultado.size(), error.getMessage(), error);
+                    return Mono.fromRunnable(() -> lote.stream()
+                                    .filter(pendiente -> sinResultado.remove(pendiente.idSeguimiento()))
+                                    .forEach(pendiente -> registrarResultado(pendiente, null, ERROR_PROCESAMIENTO)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then();
+                });
+    }
+
+    private Mono<Void> crear(List<Pendiente> pendientes, Set<String> sinResultado) {
+        Flux<ItemLote> items = Flux.range(0, pendientes.size())
+                .map(i -> ItemLote.pendiente(i, pendientes.get(i).solicitud()));
+
+        // Sin token: el lote mezcla solicitudes de varios llamadores y se procesa después de responder
+        return solicitudServicePort.crearSolicitudesEnLote(items, null)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(item -> {
+                    if (item.reintentable()) {
+                        return;
+                    }
+                    Pendiente pendiente = pendientes.get((int) item.indice());
+                    if (sinResultado.remove(pendiente.idSeguimiento())) {
+                        registrarResultado(pendiente, item.esRechazado() ? null : item.solicitud().getId(), item.error());
+                    }
+                })
+                .filter(ItemLote::reintentable)
+                .count()
+                .flatMap(noProcesados -> noProcesados == 0 ? Mono.<Void>empty()
+                        : Mono.error(new IllegalStateException(noProcesados + " solicitudes no procesadas por un fallo temporal")));
+    }
+
+    private void registrarResultado(Pendiente pendiente, Long idSolicitud, String error) {
+        agregar(new RegistroIngesta(RegistroIngesta.RESULTADO, pendiente.idSeguimiento(), null, null, null, null,
+                idSolicitud, error));
+        estados.put(pendiente.idSeguimiento(), new EstadoIngesta(pendiente.idSeguimiento(),
+                error != null ? EstadoIngesta.RECHAZADA : EstadoIngesta.CREADA,
+                pendiente.solicitud().getDocumentoIdentidad(), idSolicitud, error));
+        liberarPendiente(pendiente.segmento());
+    }
+
+    private void reproducir(long segmento, byte[] datos) {
+        RegistroIngesta registro = leer(datos);
+        if (RegistroIngesta.SOLICITUD.equals(registro.tipo())) {
+            SolicitudPrestamo solicitud = SolicitudPrestamo.builder()
+                    .documentoIdentidad(registro.documentoIdentidad())
+                    .monto(registro.monto())
+                    .plazo(registro.plazo())
+                    .tipoPrestamo(registro.tipoPrestamo())
+                    .build();
+            recuperadas.put(registro.idSeguimiento(), new Pendiente(registro.idSeguimiento(), segmento, solicitud));
+            estados.put(registro.idSeguimiento(), new EstadoIngesta(registro.idSeguimiento(), EstadoIngesta.RECIBIDA,
+                    registro.documentoIdentidad(), null, null));
+            return;
+        }
+        Pendiente pendiente = recuperadas.remove(registro.idSeguimiento());
+        estados.put(registro.idSeguimiento(), new EstadoIngesta(registro.idSeguimiento(),
+                registro.error() != null ? EstadoIngesta.RECHAZADA : EstadoIngesta.CREADA,
+                pendiente != null ? pendiente.solicitud().getDocumentoIdentidad() : null,
+                registro.idSolicitud(), registro.error()));
+    }
+
+    private void encolar(Pendiente pendiente) {
+        cola.emitNext(pendiente, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private synchronized void registrarPendiente(long segmento) {
+        pendientesPorSegmento.merge(segmento, 1, Integer::sum);
+    }
+
+    private synchronized void liberarPendiente(long segmento) {
+        Integer restantes = pendientesPorSegmento.merge(segmento, -1, Integer::sum);
+        if (restantes != null && restantes <= 0) {
+            pendientesPorSegmento.remove(segmento);
+            compactar();
+        }
+    }
+
+    /**
+     * Elimina los segmentos cuyas solicitudes ya tienen resultado, del más antiguo en adelante.
+     */
+    private synchronized void compactar() {
+        long limite = pendientesPorSegmento.isEmpty() ? ingestaLog.segmentoActivo() : pendientesPorSegmento.firstKey();
+        if (limite > limiteCompactado) {
+            ingestaLog.eliminarSegmentosAnteriores(limite);
+            limiteCompactado = limite;
+        }
+    }
+
+    /**
+     * Agrega una solicitud y la cuenta como pendiente de su segmento de forma atómica respecto de
+     * {@link #compactar()}: si otro hilo rotara el log en medio, el segmento podría eliminarse con una
+     * solicitud aceptada y aún sin resultado. El orden de bloqueo (servicio, luego log) es el de compactar.
+     */
+    private synchronized long agregarPendiente(RegistroIngesta registro) {
+        long segmento = agregar(registro);
+        registrarPendiente(segmento);
+        return segmento;
+    }
+
+    private long agregar(RegistroIngesta registro) {
+        try {
+            return ingestaLog.agregar(objectMapper.writeValueAsBytes(registro));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo serializar el registro de ingesta", e);
+        }
+    }
+
+    private RegistroIngesta leer(byte[] datos) {
+        try {
+            return objectMapper.readValue(datos, RegistroIngesta.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro de ingesta ilegible", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        cola.tryEmitComplete();
+        procesamiento.dispose();
+        ingestaLog.close();
+    }
+}
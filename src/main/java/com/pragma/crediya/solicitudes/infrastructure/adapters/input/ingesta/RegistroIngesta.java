@@ -0,0 +1,15 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta;
+
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+
+import java.math.BigDecimal;
+
+/**
+ * Registro del log de ingesta: una solicitud recibida o el resultado de procesarla.
+ */
+record RegistroIngesta(String tipo, String idSeguimiento, String documentoIdentidad, BigDecimal monto,
+                       Integer plazo, TipoPrestamo tipoPrestamo, Long idSolicitud, String error) {
+
+    static final String SOLICITUD = "SOLICITUD";
+    static final String RESULTADO = "RESULTADO";
+}
@@ -1,10 +1,20 @@
 package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest;
 
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta.IngestaSolicitudService;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.IngestaResponseDto;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.ResultadoLoteDto;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudExportDto;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudRequestDto;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudResponseDto;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.idempotencia.IdempotenciaService;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.mapper.ISolicitudRequestMapper;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.pagination.CursorCodec;
 import com.pragma.crediya.solicitudes.infrastructure.security.AuthenticationContext;
+import com.pragma.crediya.solicitudes.infrastructure.security.UsuarioAutenticado;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,14 +23,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,6 +46,15 @@ import reactor.core.publisher.Mono;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 /**
  * Controlador REST para gestionar solicitudes de préstamo.
  */
@@ -39,6 +64,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Slf4j
 @Tag(name = "Solicitudes de Préstamo", description = "Operaciones para gestionar solicitudes de préstamo")
 public class SolicitudController {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String INGESTAS_PATH = "/api/v1/solicitudes/ingestas/";
+    private static final String PREFER_ASYNC = "respond-async";
+
     /**
      * Endpoint para obtener solo las solicitudes en estado PENDIENTE_REVISION.
      * Accesible solo por roles ADMIN/ASESOR.
@@ -46,11 +76,15 @@ public class SolicitudController {
     @GetMapping("/pendientes")
     @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('ASESOR')")
     @Operation(summary = "Solicitudes pendientes de revisión", description = "Obtiene únicamente las solicitudes en estado PENDIENTE_REVISION. Solo ADMIN/ASESOR.")
-    public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesPendientes(
+    public Mono<ResponseEntity<Flux<RevisionSolicitudResponseDto>>> obtenerSolicitudesPendientes(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
-        log.info("Solicitudes pendientes de revisión - page: {}, size: {}", page, size);
-        return solicitudServicePort.obtenerSolicitudesRevision("PENDIENTE_REVISION", page, size);
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        log.info("Solicitudes pendientes de revisión - page: {}, size: {}, cursor: {}", page, size, cursor);
+        if (cursor != null) {
+            return paginaConCursor("PENDIENTE_REVISION", cursor, size);
+        }
+        return paginaConTotal("PENDIENTE_REVISION", page, size);
     }
 
     /**
@@ -61,6 +95,9 @@ public class SolicitudController {
     private final ISolicitudServicePort solicitudServicePort;
     private final ISolicitudRequestMapper solicitudRequestMapper;
     private final AuthenticationContext authenticationContext;
+    private final Validator validator;
+    private final ObjectProvider<IngestaSolicitudService> ingestaSolicitudService;
+    private final IdempotenciaService idempotenciaService;
         /**
          * Endpoint para revisión manual de solicitudes con paginación y filtro por estado.
          * Solo accesible por roles ADMIN/ASESOR.
@@ -69,13 +106,71 @@ public class SolicitudController {
         @GetMapping("/revision")
         @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('ASESOR')")
         @Operation(summary = "Revisión manual de solicitudes", description = "Obtiene solicitudes para revisión manual, filtrando por estado y paginando resultados. Solo ADMIN/ASESOR.")
-        public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesRevision(
+        public Mono<ResponseEntity<Flux<RevisionSolicitudResponseDto>>> obtenerSolicitudesRevision(
                 @RequestParam(name = "estado", required = false) String estado,
                 @RequestParam(name = "page", defaultValue = "0") int page,
-                @RequestParam(name = "size", defaultValue = "10") int size) {
-            log.info("Revisión manual de solicitudes - estado: {}, page: {}, size: {}", estado, page, size);
-            return solicitudServicePort.obtenerSolicitudesRevision(estado, page, size);
+                @RequestParam(name = "size", defaultValue = "10") int size,
+                @RequestParam(name = "cursor", required = false) String cursor) {
+            log.info("Revisión manual de solicitudes - estado: {}, page: {}, size: {}, cursor: {}", estado, page, size, cursor);
+            if (cursor != null) {
+                return paginaConCursor(estado, cursor, size);
+            }
+            return paginaConTotal(estado, page, size);
+        }
+
+    /**
+     * Exportación masiva en NDJSON (una solicitud compacta por línea). El cuerpo se escribe a medida
+     * que se leen las filas y la lectura avanza según lo que consume el cliente, por lo que el
+     * tamaño de la exportación no afecta la memoria del servicio. Solo ADMIN/ASESOR.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('ASESOR')")
+    @Operation(summary = "Exportar solicitudes", description = "Exporta en streaming (application/x-ndjson) las solicitudes que cumplen los filtros. Solo ADMIN/ASESOR.")
+    public Flux<SolicitudExportDto> exportarSolicitudes(
+            @RequestParam(name = "estado", required = false) String estado,
+            @RequestParam(name = "tipoPrestamo", required = false) String tipoPrestamo,
+            @Parameter(description = "Fecha de creación inicial (inclusive), yyyy-MM-dd")
+            @RequestParam(name = "desde", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Fecha de creación final (inclusive), yyyy-MM-dd")
+            @RequestParam(name = "hasta", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        log.info("Exportación de solicitudes - estado: {}, tipoPrestamo: {}, desde: {}, hasta: {}", estado, tipoPrestamo, desde, hasta);
+        return solicitudServicePort.exportarSolicitudes(estado, tipoPrestamo, desde, hasta)
+                .map(SolicitudExportDto::desde);
+    }
+
+    /**
+     * Devuelve la página solicitada y el total de solicitudes del filtro en la cabecera X-Total-Count,
+     * manteniendo el cuerpo como un arreglo JSON.
+     */
+    private Mono<ResponseEntity<Flux<RevisionSolicitudResponseDto>>> paginaConTotal(String estado, int page, int size) {
+        return solicitudServicePort.contarSolicitudesRevision(estado)
+                .map(total -> ResponseEntity.ok()
+                        .header(TOTAL_COUNT_HEADER, String.valueOf(total))
+                        .body(solicitudServicePort.obtenerSolicitudesRevision(estado, page, size)));
+    }
+
+    /**
+     * Modo cursor: un cursor vacío pide la primera página y la posición para continuar
+     * se devuelve en la cabecera X-Next-Cursor (ausente en la última página).
+     */
+    private Mono<ResponseEntity<Flux<RevisionSolicitudResponseDto>>> paginaConCursor(String estado, String cursor, int size) {
+        return Mono.fromCallable(() -> Optional.ofNullable(CursorCodec.decodificar(cursor)))
+                .flatMap(posicion -> solicitudServicePort
+                        .obtenerSolicitudesRevisionDesdeCursor(estado, posicion.orElse(null), size)
+                        .collectList())
+                .map(pagina -> respuestaConCursor(pagina, size,
+                        ultima -> new CursorSolicitud(ultima.getFechaCreacion(), ultima.getId()),
+                        Flux.fromIterable(pagina)));
+    }
+
+    private <T, R> ResponseEntity<Flux<R>> respuestaConCursor(List<T> pagina, int size,
+                                                             Function<T, CursorSolicitud> posicion, Flux<R> cuerpo) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (!pagina.isEmpty() && pagina.size() >= size) {
+            respuesta.header(NEXT_CURSOR_HEADER, CursorCodec.codificar(posicion.apply(pagina.get(pagina.size() - 1))));
         }
+        return respuesta.body(cuerpo);
+    }
 
     /**
      * Endpoint para crear una nueva solicitud de préstamo.
@@ -88,7 +183,11 @@ public class SolicitudController {
      * 5. Se ejecuta lógica de negocio
      * 6. Se retorna respuesta HTTP 201 con la solicitud creada
      * 
+     * Con la cabecera Idempotency-Key un reintento del cliente recibe la respuesta original
+     * (cabecera Idempotent-Replayed) sin crear otra solicitud.
+     * 
      * @param solicitudRequestDto Datos de la solicitud desde el cliente
+     * @param idempotencyKey Clave de idempotencia opcional
      * @return Mono<ResponseEntity<SolicitudPrestamo>> Respuesta reactiva con la solicitud creada
      */
     @PostMapping
@@ -205,32 +304,26 @@ public class SolicitudController {
                 )
             )
             @Valid @RequestBody SolicitudRequestDto solicitudRequestDto,
+            @Parameter(description = "Clave única por intento lógico; los reintentos con la misma clave no crean otra solicitud")
+            @RequestHeader(name = IdempotenciaService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             org.springframework.http.server.reactive.ServerHttpRequest request) {
-        String jwtToken = request.getHeaders().getFirst("Authorization");
         log.info("Solicitud de préstamo recibida - Cliente: {}, Tipo: {}, Monto: {} con validación de autorización", 
                 solicitudRequestDto.getDocumentoIdentidad(), 
                 solicitudRequestDto.getTipoPrestamo(), 
                 solicitudRequestDto.getMonto());
-        return authenticationContext.isAdminOrAsesor()
-                .flatMap(isAdminOrAsesor -> {
-                    if (isAdminOrAsesor) {
-                        log.info("Usuario ADMIN/ASESOR: puede crear solicitudes para cualquier cliente");
-                        return Mono.just(solicitudRequestDto);
-                    } else {
-                        log.info("Usuario CLIENTE: validando autorización para crear solicitud");
-                        return authenticationContext.getCurrentUserDocument()
-                                .flatMap(currentUserDocument -> {
-                                    if (solicitudRequestDto.getDocumentoIdentidad().equals(currentUserDocument)) {
-                                        log.debug("Cliente autorizado para crear solicitud para sí mismo: {}", currentUserDocument);
-                                        return Mono.just(solicitudRequestDto);
-                                    } else {
-                                        log.warn("Cliente {} intentó crear solicitud para otro cliente: {}", 
-                                                currentUserDocument, solicitudRequestDto.getDocumentoIdentidad());
-                                        return Mono.error(new SecurityException("No está autorizado para crear solicitudes para otro cliente"));
-                                    }
-                                });
-                    }
-                })
+        if (idempotencyKey == null) {
+            return ejecutarCreacion(solicitudRequestDto, request);
+        }
+        return authenticationContext.getCurrentUserDocument()
+                .defaultIfEmpty("")
+                .flatMap(propietario -> idempotenciaService.ejecutar(propietario, idempotencyKey, solicitudRequestDto,
+                        SolicitudResponseDto.class, () -> ejecutarCreacion(solicitudRequestDto, request)));
+    }
+
+    private Mono<ResponseEntity<SolicitudResponseDto>> ejecutarCreacion(SolicitudRequestDto solicitudRequestDto,
+                                                                        org.springframework.http.server.reactive.ServerHttpRequest request) {
+        String jwtToken = request.getHeaders().getFirst("Authorization");
+        return autorizarCreacion(solicitudRequestDto)
                 .map(solicitudRequestMapper::toSolicitud)
                 .flatMap(solicitud -> solicitudServicePort.crearSolicitudConToken(solicitud, jwtToken))
                 .map(SolicitudResponseDto::crearRespuestaExitosa)
@@ -242,6 +335,139 @@ public class SolicitudController {
                 });
     }
 
+    /**
+     * Modo asíncrono de la creación (cabecera Prefer: respond-async): valida, registra la solicitud en el
+     * log de ingesta y responde 202 con el ID de seguimiento sin esperar al servicio de usuarios ni a la
+     * base de datos. Si la ingesta asíncrona no está habilitada la solicitud se crea de forma síncrona (201).
+     *
+     * Con la cabecera Idempotency-Key un reintento recibe el acuse original (cabecera Idempotent-Replayed) con el
+     * mismo ID de seguimiento, sin encolar otra solicitud.
+     */
+    @PostMapping(headers = "Prefer=respond-async")
+    @Operation(summary = "Crear solicitud de préstamo (asíncrono)",
+               description = "Con la cabecera 'Prefer: respond-async' la solicitud se acepta con 202 y un ID de seguimiento; " +
+                             "su resultado se consulta en /api/v1/solicitudes/ingestas/{idSeguimiento}.")
+    public Mono<ResponseEntity<?>> recibirSolicitud(@Valid @RequestBody SolicitudRequestDto solicitudRequestDto,
+                                                    @RequestHeader(name = IdempotenciaService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                    org.springframework.http.server.reactive.ServerHttpRequest request) {
+        IngestaSolicitudService ingesta = ingestaSolicitudService.getIfAvailable();
+        if (ingesta == null) {
+            log.debug("Ingesta asíncrona deshabilitada, la solicitud se procesa de forma síncrona");
+            return crearSolicitud(solicitudRequestDto, idempotencyKey, request).map(respuesta -> respuesta);
+        }
+        log.info("Solicitud de préstamo recibida en modo asíncrono - Cliente: {}, Tipo: {}, Monto: {}",
+                solicitudRequestDto.getDocumentoIdentidad(),
+                solicitudRequestDto.getTipoPrestamo(),
+                solicitudRequestDto.getMonto());
+        Mono<ResponseEntity<IngestaResponseDto>> acuse = idempotencyKey == null
+                ? encolarCreacion(ingesta, solicitudRequestDto)
+                : authenticationContext.getCurrentUserDocument()
+                        .defaultIfEmpty("")
+                        // La huella distingue el modo asíncrono: reusar la clave de un 201 con el mismo cuerpo es un conflicto
+                        .flatMap(propietario -> idempotenciaService.ejecutar(propietario, idempotencyKey,
+                                Map.of(PREFER_ASYNC, solicitudRequestDto), IngestaResponseDto.class,
+                                () -> encolarCreacion(ingesta, solicitudRequestDto)));
+        return acuse.map(SolicitudController::conUbicacionIngesta);
+    }
+
+    private Mono<ResponseEntity<IngestaResponseDto>> encolarCreacion(IngestaSolicitudService ingesta,
+                                                                     SolicitudRequestDto solicitudRequestDto) {
+        return autorizarCreacion(solicitudRequestDto)
+                .map(solicitudRequestMapper::toSolicitud)
+                .flatMap(ingesta::recibir)
+                .map(estado -> ResponseEntity.accepted().body(IngestaResponseDto.desde(estado)));
+    }
+
+    /**
+     * La respuesta idempotente almacenada solo conserva estado y cuerpo, así que la cabecera Location se
+     * reconstruye a partir del ID de seguimiento tanto en la respuesta original como en las repetidas.
+     */
+    private static ResponseEntity<IngestaResponseDto> conUbicacionIngesta(ResponseEntity<IngestaResponseDto> respuesta) {
+        IngestaResponseDto cuerpo = respuesta.getBody();
+        if (cuerpo == null || cuerpo.getIdSeguimiento() == null) {
+            return respuesta;
+        }
+        return ResponseEntity.status(respuesta.getStatusCode())
+                .headers(respuesta.getHeaders())
+                .location(java.net.URI.create(INGESTAS_PATH + cuerpo.getIdSeguimiento()))
+                .body(cuerpo);
+    }
+
+    /**
+     * Estado de una solicitud recibida en modo asíncrono. Un CLIENTE solo ve las suyas.
+     */
+    @GetMapping("/ingestas/{idSeguimiento}")
+    @Operation(summary = "Estado de una solicitud asíncrona", description = "Indica si la solicitud sigue en cola (RECIBIDA), fue CREADA o RECHAZADA.")
+    public Mono<ResponseEntity<IngestaResponseDto>> consultarIngesta(@PathVariable String idSeguimiento) {
+        IngestaSolicitudService ingesta = ingestaSolicitudService.getIfAvailable();
+        if (ingesta == null) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        return ingesta.consultar(idSeguimiento)
+                .filterWhen(estado -> authenticationContext.getUsuarioActual()
+                        .map(usuario -> usuario.puedeAccederA(estado.documentoIdentidad())))
+                .map(estado -> ResponseEntity.ok(IngestaResponseDto.desde(estado)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * ADMIN/ASESOR pueden crear solicitudes para cualquier cliente; un CLIENTE solo para sí mismo.
+     */
+    private Mono<SolicitudRequestDto> autorizarCreacion(SolicitudRequestDto solicitudRequestDto) {
+        return authenticationContext.getUsuarioActual()
+                .flatMap(usuario -> {
+                    if (usuario.puedeAccederA(solicitudRequestDto.getDocumentoIdentidad())) {
+                        return Mono.just(solicitudRequestDto);
+                    }
+                    log.warn("Cliente {} intentó crear solicitud para otro cliente: {}",
+                            usuario.documento(), solicitudRequestDto.getDocumentoIdentidad());
+                    return Mono.error(new SecurityException("No está autorizado para crear solicitudes para otro cliente"));
+                });
+    }
+
+    /**
+     * Creación masiva de solicitudes. Acepta un arreglo JSON o NDJSON que se decodifica item a item
+     * mientras llega el cuerpo, y responde en NDJSON con el resultado de cada item en cuanto se
+     * procesa su bloque. Un item inválido o no autorizado se rechaza sin afectar al resto del lote; los items
+     * de un bloque que falla por un fallo temporal se informan como NO_PROCESADA y pueden reenviarse.
+     */
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Crear solicitudes en lote",
+               description = "Crea solicitudes a partir de un arreglo JSON o de NDJSON y retorna en NDJSON el resultado de cada item. " +
+                             "Un CLIENTE solo puede crear solicitudes para sí mismo.")
+    public Flux<ResultadoLoteDto> crearSolicitudesEnLote(@RequestBody Flux<SolicitudRequestDto> solicitudes,
+                                                         org.springframework.http.server.reactive.ServerHttpRequest request) {
+        log.info("Creación de solicitudes en lote recibida");
+        String jwtToken = request.getHeaders().getFirst("Authorization");
+        return authenticationContext.getUsuarioActual()
+                .flatMapMany(usuario -> solicitudServicePort.crearSolicitudesEnLote(solicitudes
+                        .index()
+                        .map(item -> prepararItemLote(item.getT1(), item.getT2(), usuario)), jwtToken))
+                .map(ResultadoLoteDto::desde);
+    }
+
+    /**
+     * Valida un item del lote con las mismas reglas que la creación individual.
+     */
+    private ItemLote prepararItemLote(long indice, SolicitudRequestDto dto, UsuarioAutenticado usuario) {
+        SolicitudPrestamo solicitud = solicitudRequestMapper.toSolicitud(dto);
+        Set<ConstraintViolation<SolicitudRequestDto>> violaciones = validator.validate(dto);
+        if (!violaciones.isEmpty()) {
+            return ItemLote.rechazado(indice, solicitud, violaciones.stream()
+                    .map(violacion -> violacion.getPropertyPath() + ": " + violacion.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (!usuario.puedeAccederA(dto.getDocumentoIdentidad())) {
+            log.warn("Cliente {} intentó crear en lote una solicitud para otro cliente: {}",
+                    usuario.documento(), dto.getDocumentoIdentidad());
+            return ItemLote.rechazado(indice, solicitud, "No está autorizado para crear solicitudes para otro cliente");
+        }
+        return ItemLote.pendiente(indice, solicitud);
+    }
+
     @GetMapping
     @Operation(summary = "Obtener todas las solicitudes", 
                description = "Obtiene un listado de todas las solicitudes de préstamo en el sistema")
@@ -253,19 +479,13 @@ public class SolicitudController {
     public Flux<SolicitudResponseDto> obtenerTodasLasSolicitudes() {
         log.info("Solicitud para obtener solicitudes de préstamo con autorización basada en roles");
         
-        return authenticationContext.isAdminOrAsesor()
-                .flatMapMany(isAdminOrAsesor -> {
-                    if (isAdminOrAsesor) {
-                        log.info("Usuario ADMIN/ASESOR: obteniendo todas las solicitudes");
+        return authenticationContext.getUsuarioActual()
+                .flatMapMany(usuario -> {
+                    if (usuario.esAdminOAsesor()) {
                         return solicitudServicePort.obtenerTodasLasSolicitudes();
-                    } else {
-                        log.info("Usuario CLIENTE: obteniendo solo sus solicitudes");
-                        return authenticationContext.getCurrentUserDocument()
-                                .flatMapMany(documentoIdentidad -> {
-                                    log.debug("Obteniendo solicitudes para cliente: {}", documentoIdentidad);
-                                    return solicitudServicePort.obtenerSolicitudesPorCliente(documentoIdentidad);
-                                });
                     }
+                    return Mono.justOrEmpty(usuario.documento())
+                            .flatMapMany(solicitudServicePort::obtenerSolicitudesPorCliente);
                 })
                 .map(SolicitudResponseDto::crearRespuestaExitosa)
                 .doOnNext(respuesta -> log.debug("Solicitud obtenida - ID: {}, Cliente: {}", 
@@ -282,34 +502,46 @@ public class SolicitudController {
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = SolicitudResponseDto.class)))
     })
-    public Flux<SolicitudResponseDto> obtenerSolicitudesPorCliente(
+    public Mono<ResponseEntity<Flux<SolicitudResponseDto>>> obtenerSolicitudesPorCliente(
             @Parameter(description = "Documento de identidad del cliente", required = true)
-            @PathVariable String documentoIdentidad) {
+            @PathVariable String documentoIdentidad,
+            @Parameter(description = "Cursor opaco de paginación; vacío para la primera página. Sin cursor se retornan todas")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
         log.info("Solicitud para obtener solicitudes del cliente con documento: {} con autorización", documentoIdentidad);
-        
-        return authenticationContext.isAdminOrAsesor()
-                .flatMapMany(isAdminOrAsesor -> {
-                    if (isAdminOrAsesor) {
-                        log.info("Usuario ADMIN/ASESOR: puede acceder a solicitudes de cualquier cliente");
-                        return solicitudServicePort.obtenerSolicitudesPorCliente(documentoIdentidad);
-                    } else {
-                        log.info("Usuario CLIENTE: verificando autorización para acceder a solicitudes");
-                        return authenticationContext.getCurrentUserDocument()
-                                .flatMapMany(currentUserDocument -> {
-                                    if (documentoIdentidad.equals(currentUserDocument)) {
-                                        log.debug("Cliente autorizado para ver sus propias solicitudes: {}", documentoIdentidad);
-                                        return solicitudServicePort.obtenerSolicitudesPorCliente(documentoIdentidad);
-                                    } else {
-                                        log.warn("Cliente {} intentó acceder a solicitudes de otro cliente: {}", 
-                                                currentUserDocument, documentoIdentidad);
-                                        return Flux.empty(); // Cliente no puede ver solicitudes de otros
-                                    }
-                                });
+
+        if (cursor == null) {
+            return Mono.just(ResponseEntity.ok(solicitudesAutorizadasDeCliente(documentoIdentidad,
+                            () -> solicitudServicePort.obtenerSolicitudesPorCliente(documentoIdentidad))
+                    .map(SolicitudResponseDto::crearRespuestaExitosa)
+                    .doOnNext(respuesta -> log.debug("Solicitud encontrada para cliente {} - ID: {}",
+                            documentoIdentidad, respuesta.getSolicitud().getId()))
+                    .doOnComplete(() -> log.info("Consulta de solicitudes para cliente {} completada", documentoIdentidad))));
+        }
+
+        return Mono.fromCallable(() -> Optional.ofNullable(CursorCodec.decodificar(cursor)))
+                .flatMap(posicion -> solicitudesAutorizadasDeCliente(documentoIdentidad,
+                                () -> solicitudServicePort.obtenerSolicitudesPorClienteDesdeCursor(
+                                        documentoIdentidad, posicion.orElse(null), size))
+                        .collectList())
+                .map(pagina -> respuestaConCursor(pagina, size, CursorSolicitud::desde,
+                        Flux.fromIterable(pagina).map(SolicitudResponseDto::crearRespuestaExitosa)));
+    }
+
+    /**
+     * Ejecuta la consulta solo si el usuario es ADMIN/ASESOR o es el propio cliente;
+     * un cliente que consulta a otro recibe un listado vacío.
+     */
+    private Flux<SolicitudPrestamo> solicitudesAutorizadasDeCliente(String documentoIdentidad,
+                                                                  Supplier<Flux<SolicitudPrestamo>> consulta) {
+        return authenticationContext.getUsuarioActual()
+                .flatMapMany(usuario -> {
+                    if (usuario.puedeAccederA(documentoIdentidad)) {
+                        return consulta.get();
                     }
-                })
-                .map(SolicitudResponseDto::crearRespuestaExitosa)
-                .doOnNext(respuesta -> log.debug("Solicitud encontrada para cliente {} - ID: {}", 
-                        documentoIdentidad, respuesta.getSolicitud().getId()))
-                .doOnComplete(() -> log.info("Consulta de solicitudes para cliente {} completada", documentoIdentidad));
+                    log.warn("Cliente {} intentó acceder a solicitudes de otro cliente: {}",
+                            usuario.documento(), documentoIdentidad);
+                    return Flux.empty(); // Cliente no puede ver solicitudes de otros
+                });
     }
 }
@@ -0,0 +1,42 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta.EstadoIngesta;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Acuse de recibo (202) y consulta de estado de una solicitud recibida en modo asíncrono.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Estado de una solicitud recibida en modo asíncrono")
+public class IngestaResponseDto {
+
+    @Schema(description = "ID de seguimiento", example = "3f2c6a0e-7d4b-4a51-9b0e-1c2d3e4f5a6b")
+    private String idSeguimiento;
+
+    @Schema(description = "RECIBIDA, CREADA o RECHAZADA", example = "RECIBIDA")
+    private String estado;
+
+    @Schema(description = "ID de la solicitud creada", example = "10")
+    private Long idSolicitud;
+
+    @Schema(description = "Motivo del rechazo")
+    private String error;
+
+    public static IngestaResponseDto desde(EstadoIngesta estado) {
+        return IngestaResponseDto.builder()
+                .idSeguimiento(estado.idSeguimiento())
+                .estado(estado.estado())
+                .idSolicitud(estado.idSolicitud())
+                .error(estado.error())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de un item de la creación en lote (una línea NDJSON por item).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de un item de la creación en lote")
+public class ResultadoLoteDto {
+
+    public static final String CREADA = "CREADA";
+    public static final String RECHAZADA = "RECHAZADA";
+    public static final String NO_PROCESADA = "NO_PROCESADA";
+
+    @Schema(description = "Posición del item en el lote, desde 0", example = "0")
+    private Long indice;
+
+    @Schema(description = "Resultado del item: CREADA, RECHAZADA o NO_PROCESADA (fallo temporal, puede reenviarse)",
+            example = "CREADA")
+    private String resultado;
+
+    @Schema(description = "ID de la solicitud creada", example = "10")
+    private Long id;
+
+    @Schema(description = "Documento de identidad del cliente", example = "12345678")
+    private String documentoIdentidad;
+
+    @Schema(description = "Motivo del rechazo o de que no se procesara")
+    private String error;
+
+    public static ResultadoLoteDto desde(ItemLote item) {
+        return ResultadoLoteDto.builder()
+                .indice(item.indice())
+                .resultado(item.reintentable() ? NO_PROCESADA : item.esRechazado() ? RECHAZADA : CREADA)
+                .id(item.solicitud() != null ? item.solicitud().getId() : null)
+                .documentoIdentidad(item.solicitud() != null ? item.solicitud().getDocumentoIdentidad() : null)
+                .error(item.error())
+                .build();
+    }
+}
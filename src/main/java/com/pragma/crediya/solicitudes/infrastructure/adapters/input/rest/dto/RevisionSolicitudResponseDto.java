@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -21,4 +22,5 @@ public class RevisionSolicitudResponseDto {
     private String estadoSolicitud;
     private BigDecimal salarioBase;
     private BigDecimal deudaTotalMensualSolicitudesAprobadas;
+    private LocalDateTime fechaCreacion;
 }
@@ -0,0 +1,48 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Línea de la exportación NDJSON: una solicitud plana, sin envoltorio de respuesta
+ * y sin campos nulos, para que cada línea sea lo más compacta posible.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Solicitud exportada (una por línea)")
+public class SolicitudExportDto {
+    private Long id;
+    private String documentoIdentidad;
+    private String email;
+    private BigDecimal monto;
+    private Integer plazo;
+    private String tipoPrestamo;
+    private String estado;
+    private LocalDateTime fechaCreacion;
+    private LocalDateTime fechaActualizacion;
+
+    public static SolicitudExportDto desde(SolicitudPrestamo solicitud) {
+        return SolicitudExportDto.builder()
+                .id(solicitud.getId())
+                .documentoIdentidad(solicitud.getDocumentoIdentidad())
+                .email(solicitud.getEmail())
+                .monto(solicitud.getMonto())
+                .plazo(solicitud.getPlazo())
+                .tipoPrestamo(solicitud.getTipoPrestamo() != null ? solicitud.getTipoPrestamo().name() : null)
+                .estado(solicitud.getEstado() != null ? solicitud.getEstado().name() : null)
+                .fechaCreacion(solicitud.getFechaCreacion())
+                .fechaActualizacion(solicitud.getFechaActualizacion())
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.handler;
 
 import com.pragma.crediya.solicitudes.domain.exception.ClienteNoEncontradoException;
+import com.pragma.crediya.solicitudes.domain.exception.ConflictoIdempotenciaException;
+import com.pragma.crediya.solicitudes.domain.exception.CursorInvalidoException;
+import com.pragma.crediya.solicitudes.domain.exception.MontoFueraDeRangoException;
+import com.pragma.crediya.solicitudes.domain.exception.ServicioUsuariosNoDisponibleException;
 import com.pragma.crediya.solicitudes.domain.exception.TipoPrestamoInvalidoException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -44,6 +48,63 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
     }
 
+    @ExceptionHandler(MontoFueraDeRangoException.class)
+    public ResponseEntity<Map<String, Object>> handleMontoFueraDeRango(MontoFueraDeRangoException ex) {
+        log.warn("Error: Monto fuera del rango del tipo de préstamo - {}", ex.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.UNPROCESSABLE_ENTITY.value());
+        response.put("error", "Monto fuera de rango");
+        response.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    @ExceptionHandler(CursorInvalidoException.class)
+    public ResponseEntity<Map<String, Object>> handleCursorInvalido(CursorInvalidoException ex) {
+        log.warn("Error: Cursor de paginación inválido - {}", ex.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("error", "Cursor inválido");
+        response.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(ServicioUsuariosNoDisponibleException.class)
+    public ResponseEntity<Map<String, Object>> handleServicioUsuariosNoDisponible(ServicioUsuariosNoDisponibleException ex) {
+        log.warn("Error: Servicio de usuarios no disponible - {}", ex.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.put("error", "Servicio no disponible");
+        response.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    @ExceptionHandler(ConflictoIdempotenciaException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictoIdempotencia(ConflictoIdempotenciaException ex) {
+        log.warn("Error: Conflicto de idempotencia ({}) - {}", ex.getMotivo(), ex.getMessage());
+
+        HttpStatus status = switch (ex.getMotivo()) {
+            case CLAVE_INVALIDA -> HttpStatus.BAD_REQUEST;
+            case PETICION_DIFERENTE -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case EN_PROCESO -> HttpStatus.CONFLICT;
+        };
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", status.value());
+        response.put("error", "Conflicto de idempotencia");
+        response.put("message", ex.getMessage());
+
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(WebExchangeBindException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(WebExchangeBindException ex) {
         log.error("Error de validación: {}", ex.getMessage());
@@ -0,0 +1,218 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.crediya.solicitudes.domain.exception.ConflictoIdempotenciaException;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.RegistroIdempotencia;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.SolicitudIdempotenciaStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una operación a lo sumo una vez por cabecera Idempotency-Key (por usuario) y devuelve la
+ * respuesta almacenada a las repeticiones. Las respuestas recientes se sirven desde una caché LRU en
+ * memoria; la tabla 'solicitud_idempotencia' las conserva durante app.idempotency.ttl y coordina a
+ * varias instancias. Una repetición que llega mientras la original sigue en curso espera su resultado.
+ * Solo se almacenan las respuestas exitosas: si la operación falla la clave se libera y el reintento
+ * vuelve a ejecutarla.
+ */
+@Slf4j
+@Component
+public class IdempotenciaService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int LONGITUD_MAXIMA_CLAVE = 100;
+    private static final int MAX_INTENTOS_RESERVA = 2;
+
+    private record RespuestaAlmacenada(String huella, int estadoHttp, String cuerpo) { }
+
+    private record Resultado(RespuestaAlmacenada respuesta, boolean reproducida) { }
+
+    private record Ejecucion(String huella, Mono<Resultado> resultado) { }
+
+    private final SolicitudIdempotenciaStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration retencion;
+    private final Duration reserva;
+    private final Duration esperaMaxima;
+    private final Duration intervaloConsulta;
+    private final Cache<String, RespuestaAlmacenada> recientes;
+    private final ConcurrentMap<String, Ejecucion> enCurso = new ConcurrentHashMap<>();
+
+    public IdempotenciaService(SolicitudIdempotenciaStore store,
+                               ObjectMapper objectMapper,
+                               @Value("${app.idempotency.ttl:24h}") Duration retencion,
+                               @Value("${app.idempotency.lease:30s}") Duration reserva,
+                               @Value("${app.idempotency.wait-timeout:10s}") Duration esperaMaxima,
+                               @Value("${app.idempotency.poll-interval:200ms}") Duration intervaloConsulta,
+                               @Value("${app.idempotency.cache.maximum-size:10000}") long tamanoCache) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.retencion = retencion;
+        this.reserva = reserva;
+        this.esperaMaxima = esperaMaxima;
+        this.intervaloConsulta = intervaloConsulta;
+        this.recientes = Caffeine.newBuilder()
+                .maximumSize(tamanoCache)
+                .expireAfterWrite(retencion)
+                .build();
+    }
+
+    /**
+     * @param propietario Usuario que envía la petición; la clave solo se reconoce para el mismo usuario
+     * @param clave Valor de la cabecera Idempotency-Key
+     * @param peticion Cuerpo de la petición, del que se calcula la huella
+     * @param tipoRespuesta Tipo del cuerpo de la respuesta, para reconstruir las respuestas almacenadas
+     * @param operacion Operación a ejecutar si la clave es nueva
+     */
+    public <T> Mono<ResponseEntity<T>> ejecutar(String propietario, String clave, Object peticion,
+                                                Class<T> tipoRespuesta, Supplier<Mono<ResponseEntity<T>>> operacion) {
+        if (clave.isBlank() || clave.length() > LONGITUD_MAXIMA_CLAVE) {
+            return Mono.error(new ConflictoIdempotenciaException(ConflictoIdempotenciaException.Motivo.CLAVE_INVALIDA,
+                    "La cabecera " + IDEMPOTENCY_KEY_HEADER + " debe tener entre 1 y " + LONGITUD_MAXIMA_CLAVE + " caracteres"));
+        }
+        return Mono.defer(() -> {
+            String id = propietario + ":" + clave;
+            String huella = huella(peticion);
+            RespuestaAlmacenada reciente = recientes.getIfPresent(id);
+            if (reciente != null) {
+                return verificarHuella(reciente.huella(), huella)
+                        .then(Mono.fromCallable(() -> aRespuesta(new Resultado(reciente, true), tipoRespuesta)));
+            }
+            Ejecucion propia = new Ejecucion(huella, resolver(id, huella, operacion, 1)
+                    .doFinally(senal -> enCurso.remove(id))
+                    .cache());
+            Ejecucion existente = enCurso.putIfAbsent(id, propia);
+            if (existente == null) {
+                return propia.resultado().map(resultado -> aRespuesta(resultado, tipoRespuesta));
+            }
+            log.info("Petición repetida con clave de idempotencia en curso, esperando la ejecución original");
+            return verificarHuella(existente.huella(), huella)
+                    .then(existente.resultado())
+                    .map(resultado -> aRespuesta(new Resultado(resultado.respuesta(), true), tipoRespuesta));
+        });
+    }
+
+    private <T> Mono<Resultado> resolver(String id, String huella, Supplier<Mono<ResponseEntity<T>>> operacion, int intento) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return store.reservar(id, huella, ahora, ahora.plus(reserva))
+                .flatMap(reservada -> reservada
+                        ? ejecutarYRegistrar(id, huella, operacion)
+                        : resolverExistente(id, huella, operacion, intento));
+    }
+
+    private <T> Mono<Resultado> resolverExistente(String id, String huella, Supplier<Mono<ResponseEntity<T>>> operacion,
+                                                  int intento) {
+        LocalDateTime ahora = LocalDateTime.now();
+        Mono<Resultado> reintentar = Mono.defer(() -> intento < MAX_INTENTOS_RESERVA
+                ? resolver(id, huella, operacion, intento + 1)
+                : Mono.error(enProceso()));
+        return store.buscar(id)
+                .flatMap(registro -> {
+                    if (registro.expirado(ahora)) {
+                        return store.eliminarSiExpirada(id, ahora).then(reintentar);
+                    }
+                    if (registro.completado()) {
+                        return verificarHuella(registro.huella(), huella).thenReturn(reproducir(id, registro));
+                    }
+                    return verificarHuella(registro.huella(), huella).then(esperarOtraInstancia(id));
+                })
+                .switchIfEmpty(reintentar);
+    }
+
+    /**
+     * La reserva pertenece a otra instancia: se consulta la tabla hasta que publique su respuesta.
+     */
+    private Mono<Resultado> esperarOtraInstancia(String id) {
+        return Mono.defer(() -> store.buscar(id))
+                .filter(RegistroIdempotencia::completado)
+                .repeatWhenEmpty(repeticiones -> repeticiones.delayElements(intervaloConsulta))
+                .timeout(esperaMaxima, Mono.error(this::enProceso))
+                .map(registro -> reproducir(id, registro));
+    }
+
+    private <T> Mono<Resultado> ejecutarYRegistrar(String id, String huella, Supplier<Mono<ResponseEntity<T>>> operacion) {
+        return operacion.get()
+                .onErrorResume(error -> store.liberar(id)
+                        .onErrorResume(liberacion -> {
+                            log.warn("No se pudo liberar la clave de idempotencia tras un fallo: {}", liberacion.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(error)))
+                .flatMap(respuesta -> {
+                    RespuestaAlmacenada almacenada = new RespuestaAlmacenada(huella,
+                            respuesta.getStatusCode().value(), serializar(respuesta.getBody()));
+                    recientes.put(id, almacenada);
+                    // Si no se puede registrar, la reserva vence sola; la respuesta ya está confirmada
+                    return store.completar(id, almacenada.estadoHttp(), almacenada.cuerpo(), LocalDateTime.now().plus(retencion))
+                            .onErrorResume(error -> {
+                                log.warn("No se pudo registrar la respuesta idempotente: {}", error.getMessage());
+                                return Mono.empty();
+                            })
+                            .thenReturn(new Resultado(almacenada, false));
+                });
+    }
+
+    private Resultado reproducir(String id, RegistroIdempotencia registro) {
+        RespuestaAlmacenada almacenada = new RespuestaAlmacenada(registro.huella(), registro.estadoHttp(), registro.respuesta());
+        recientes.put(id, almacenada);
+        return new Resultado(almacenada, true);
+    }
+
+    private <T> ResponseEntity<T> aRespuesta(Resultado resultado, Class<T> tipoRespuesta) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.status(resultado.respuesta().estadoHttp());
+        if (resultado.reproducida()) {
+            respuesta.header(REPLAYED_HEADER, "true");
+        }
+        try {
+            return respuesta.body(objectMapper.readValue(resultado.respuesta().cuerpo(), tipoRespuesta));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Respuesta idempotente almacenada ilegible", e);
+        }
+    }
+
+    private static Mono<Void> verificarHuella(String huellaOriginal, String huella) {
+        if (huellaOriginal.equals(huella)) {
+            return Mono.empty();
+        }
+        return Mono.error(new ConflictoIdempotenciaException(ConflictoIdempotenciaException.Motivo.PETICION_DIFERENTE,
+                "La clave de idempotencia ya se usó con una petición diferente"));
+    }
+
+    private ConflictoIdempotenciaException enProceso() {
+        return new ConflictoIdempotenciaException(ConflictoIdempotenciaException.Motivo.EN_PROCESO,
+                "Una petición con la misma clave de idempotencia sigue en proceso. Intente nuevamente en unos segundos.");
+    }
+
+    private String huella(Object peticion) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(peticion)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No se pudo calcular la huella de la petición", e);
+        }
+    }
+
+    private String serializar(Object cuerpo) {
+        try {
+            return objectMapper.writeValueAsString(cuerpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta idempotente", e);
+        }
+    }
+}
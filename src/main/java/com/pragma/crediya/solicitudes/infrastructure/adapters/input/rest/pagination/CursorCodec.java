@@ -0,0 +1,42 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.pagination;
+
+import com.pragma.crediya.solicitudes.domain.exception.CursorInvalidoException;
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Codifica el cursor de paginación como un texto opaco para el cliente (Base64 URL-safe).
+ */
+public final class CursorCodec {
+
+    private static final String SEPARADOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String codificar(CursorSolicitud cursor) {
+        String plano = cursor.fechaCreacion() + SEPARADOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica el cursor recibido. Un cursor vacío representa la primera página y retorna null.
+     */
+    public static CursorSolicitud decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String plano = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = plano.lastIndexOf(SEPARADOR);
+            return new CursorSolicitud(
+                    LocalDateTime.parse(plano.substring(0, separador)),
+                    Long.parseLong(plano.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException("El cursor de paginación no es válido: " + cursor);
+        }
+    }
+}
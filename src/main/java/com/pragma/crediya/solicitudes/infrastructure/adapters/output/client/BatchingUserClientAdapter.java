@@ -0,0 +1,61 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorador de {@link UserClientPort} que resuelve las consultas sin token mediante
+ * {@link UserLookupBatcher}, de modo que consultas concurrentes de distintos documentos viajan
+ * juntas en una sola petición en bloque. Las consultas con token se envían tal cual, porque
+ * deben autenticarse con la credencial de quien las pide.
+ */
+public class BatchingUserClientAdapter implements UserClientPort {
+
+    private final UserClientPort delegate;
+    private final UserLookupBatcher batcher;
+
+    public BatchingUserClientAdapter(UserClientPort delegate, UserLookupBatcher batcher) {
+        this.delegate = delegate;
+        this.batcher = batcher;
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuarioConToken(String documentoIdentidad, String jwtToken) {
+        return delegate.obtenerUsuarioConToken(documentoIdentidad, jwtToken);
+    }
+
+    @Override
+    public Mono<Boolean> existeUsuario(String documentoIdentidad) {
+        return obtenerUsuario(documentoIdentidad)
+                .map(user -> true)
+                .onErrorReturn(false);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuario(String documentoIdentidad) {
+        if (documentoIdentidad == null) {
+            return delegate.obtenerUsuario(null);
+        }
+        return batcher.cargar(documentoIdentidad);
+    }
+
+    /**
+     * Con token la consulta en bloque se envía tal cual, como las consultas individuales con token.
+     */
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        if (jwtToken != null && !jwtToken.isBlank()) {
+            return delegate.obtenerUsuarios(documentosIdentidad, jwtToken);
+        }
+        return Flux.fromIterable(documentosIdentidad)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(documento -> batcher.cargar(documento).map(usuario -> Map.entry(documento, usuario)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
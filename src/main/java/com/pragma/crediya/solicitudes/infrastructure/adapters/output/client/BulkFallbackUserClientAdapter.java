@@ -0,0 +1,81 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorador de {@link UserClientPort} que resuelve {@link #obtenerUsuarios} con consultas individuales
+ * cuando el microservicio de usuarios no ofrece el endpoint en bloque: porque está deshabilitado por
+ * configuración o porque la petición en bloque responde 404/405. Las consultas individuales corren con
+ * concurrencia acotada para no agotar el bulkhead del cliente.
+ */
+@Slf4j
+public class BulkFallbackUserClientAdapter implements UserClientPort {
+
+    private final UserClientPort delegate;
+    private final boolean consultaEnBloqueHabilitada;
+    private final int concurrencia;
+
+    public BulkFallbackUserClientAdapter(UserClientPort delegate, boolean consultaEnBloqueHabilitada, int concurrencia) {
+        this.delegate = delegate;
+        this.consultaEnBloqueHabilitada = consultaEnBloqueHabilitada;
+        this.concurrencia = concurrencia;
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuarioConToken(String documentoIdentidad, String jwtToken) {
+        return delegate.obtenerUsuarioConToken(documentoIdentidad, jwtToken);
+    }
+
+    @Override
+    public Mono<Boolean> existeUsuario(String documentoIdentidad) {
+        return delegate.existeUsuario(documentoIdentidad);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuario(String documentoIdentidad) {
+        return delegate.obtenerUsuario(documentoIdentidad);
+    }
+
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        if (!consultaEnBloqueHabilitada) {
+            return consultarUnoAUno(documentosIdentidad, jwtToken);
+        }
+        return delegate.obtenerUsuarios(documentosIdentidad, jwtToken)
+                .onErrorResume(BulkFallbackUserClientAdapter::esEndpointNoDisponible, error -> {
+                    log.warn("Consulta en bloque no disponible ({}), se consultan {} usuarios uno a uno",
+                            ((WebClientResponseException) error).getStatusCode(), documentosIdentidad.size());
+                    return consultarUnoAUno(documentosIdentidad, jwtToken);
+                });
+    }
+
+    private Mono<Map<String, UserInfo>> consultarUnoAUno(Collection<String> documentosIdentidad, String jwtToken) {
+        return Flux.fromIterable(documentosIdentidad)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(documento -> consultar(documento, jwtToken)
+                        .map(usuario -> Map.entry(documento, usuario)), concurrencia)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<UserInfo> consultar(String documentoIdentidad, String jwtToken) {
+        return jwtToken != null && !jwtToken.isBlank()
+                ? delegate.obtenerUsuarioConToken(documentoIdentidad, jwtToken)
+                : delegate.obtenerUsuario(documentoIdentidad);
+    }
+
+    private static boolean esEndpointNoDisponible(Throwable error) {
+        return error instanceof WebClientResponseException respuesta
+                && (respuesta.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+                || respuesta.getStatusCode().isSameCodeAs(HttpStatus.METHOD_NOT_ALLOWED));
+    }
+}
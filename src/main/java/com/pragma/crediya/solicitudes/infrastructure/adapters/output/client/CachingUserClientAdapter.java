@@ -0,0 +1,163 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decorador de {@link UserClientPort} con caché asíncrona por documento de identidad.
+ * Los usuarios encontrados se guardan con un TTL largo y los 404 (Optional vacío) con uno corto;
+ * los errores no se guardan, así la siguiente consulta vuelve a intentar contra el microservicio.
+ * Publica las métricas cache.gets (hit/miss), cache.evictions y cache.size con cache=usuarios.
+ * <p>
+ * La clave es solo el documento, también para las consultas con token: la caché guarda datos de identidad
+ * del solicitante, no el resultado de una autorización. Quién puede operar sobre un documento lo decide este
+ * servicio antes de consultar (JWT validado por el resource server y autorización por rol en el controlador),
+ * así que un usuario obtenido con el token de un llamador se sirve a cualquier otro. Un 401/403 del
+ * microservicio es un error y no se guarda.
+ */
+@Slf4j
+public class CachingUserClientAdapter implements UserClientPort {
+
+    static final String CACHE_NAME = "usuarios";
+
+    private final UserClientPort delegate;
+    private final AsyncCache<String, Optional<UserInfo>> cache;
+
+    public CachingUserClientAdapter(UserClientPort delegate, long maximumSize, Duration ttl,
+                                    Duration ttlNoEncontrado, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, ttl, ttlNoEncontrado, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingUserClientAdapter(UserClientPort delegate, long maximumSize, Duration ttl,
+                             Duration ttlNoEncontrado, MeterRegistry meterRegistry, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(expiracion(ttl, ttlNoEncontrado))
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Caché de usuarios habilitada - tamaño máximo: {}, TTL: {}, TTL no encontrados: {}",
+                maximumSize, ttl, ttlNoEncontrado);
+    }
+
+    /**
+     * Comparte la entrada con las consultas de cualquier otro token o sin token; ver la documentación de la clase.
+     */
+    @Override
+    public Mono<UserInfo> obtenerUsuarioConToken(String documentoIdentidad, String jwtToken) {
+        return consultar(documentoIdentidad, documento -> delegate.obtenerUsuarioConToken(documento, jwtToken));
+    }
+
+    @Override
+    public Mono<Boolean> existeUsuario(String documentoIdentidad) {
+        return obtenerUsuario(documentoIdentidad)
+                .map(user -> true)
+                .onErrorReturn(false);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuario(String documentoIdentidad) {
+        return consultar(documentoIdentidad, delegate::obtenerUsuario);
+    }
+
+    /**
+     * Resuelve desde la caché los documentos ya conocidos y consulta en bloque solo los que faltan.
+     */
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        Set<String> documentos = documentosIdentidad.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (documentos.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.defer(() -> Mono.fromFuture(cache.getAll(documentos, (faltantes, executor) -> {
+                            log.debug("{} de {} usuarios no están en caché, consultando en bloque",
+                                    faltantes.size(), documentos.size());
+                            return delegate.obtenerUsuarios(Set.copyOf(faltantes), jwtToken)
+                                    .map(encontrados -> {
+                                        Map<String, Optional<UserInfo>> cargados = new HashMap<>();
+                                        faltantes.forEach(documento ->
+                                                cargados.put(documento, Optional.ofNullable(encontrados.get(documento))));
+                                        return cargados;
+                                    })
+                                    .toFuture();
+                        }), true))
+                .map(usuarios -> {
+                    Map<String, UserInfo> encontrados = new HashMap<>();
+                    usuarios.forEach((documento, usuario) -> usuario.ifPresent(u -> encontrados.put(documento, u)));
+                    return encontrados;
+                });
+    }
+
+    /**
+     * Elimina de la caché la entrada de un usuario, por ejemplo tras un cambio de sus datos.
+     */
+    public void invalidar(String documentoIdentidad) {
+        log.debug("Invalidando usuario en caché con documento: {}", documentoIdentidad);
+        cache.synchronous().invalidate(documentoIdentidad);
+    }
+
+    /**
+     * Vacía por completo la caché de usuarios.
+     */
+    public void invalidarTodos() {
+        log.debug("Invalidando toda la caché de usuarios");
+        cache.synchronous().invalidateAll();
+    }
+
+    private Mono<UserInfo> consultar(String documentoIdentidad, Function<String, Mono<UserInfo>> consultaRemota) {
+        if (documentoIdentidad == null) {
+            return consultaRemota.apply(null);
+        }
+        // suppressCancel: cancelar un suscriptor no debe cancelar la carga compartida en la caché
+        return Mono.defer(() -> Mono.fromFuture(cache.get(documentoIdentidad, (documento, executor) -> {
+                            log.debug("Usuario con documento {} no está en caché, consultando microservicio", documento);
+                            return consultaRemota.apply(documento)
+                                    .map(Optional::of)
+                                    .defaultIfEmpty(Optional.empty())
+                                    .toFuture();
+                        }), true))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private static Expiry<String, Optional<UserInfo>> expiracion(Duration ttl, Duration ttlNoEncontrado) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String documento, Optional<UserInfo> usuario, long currentTime) {
+                return (usuario.isPresent() ? ttl : ttlNoEncontrado).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String documento, Optional<UserInfo> usuario, long currentTime,
+                                          long currentDuration) {
+                return expireAfterCreate(documento, usuario, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String documento, Optional<UserInfo> usuario, long currentTime,
+                                        long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.exception.ServicioUsuariosNoDisponibleException;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorador de {@link UserClientPort} que protege las llamadas HTTP al microservicio de usuarios con
+ * un bulkhead de concurrencia y un circuit breaker; las consultas GET (idempotentes) además se
+ * reintentan con backoff exponencial con jitter. Cuando el circuito está abierto o el bulkhead lleno
+ * la llamada falla de inmediato con {@link ServicioUsuariosNoDisponibleException} (503).
+ */
+@Slf4j
+public class ResilientUserClientAdapter implements UserClientPort {
+
+    private final UserClientPort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+
+    public ResilientUserClientAdapter(UserClientPort delegate, CircuitBreaker circuitBreaker,
+                                      Bulkhead bulkhead, Retry retry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retry = retry;
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuarioConToken(String documentoIdentidad, String jwtToken) {
+        return consultaIdempotente(delegate.obtenerUsuarioConToken(documentoIdentidad, jwtToken));
+    }
+
+    @Override
+    public Mono<Boolean> existeUsuario(String documentoIdentidad) {
+        return obtenerUsuario(documentoIdentidad)
+                .map(user -> true)
+                .onErrorReturn(false);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuario(String documentoIdentidad) {
+        return consultaIdempotente(delegate.obtenerUsuario(documentoIdentidad));
+    }
+
+    /**
+     * La consulta en bloque es un POST: se protege con bulkhead y circuit breaker pero no se reintenta.
+     */
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        return traducirRechazos(proteger(delegate.obtenerUsuarios(documentosIdentidad, jwtToken)));
+    }
+
+    /**
+     * Fallos que indican un problema del microservicio o de la red, y no de la petición:
+     * errores de conexión, timeouts y respuestas 5xx. Son los que cuentan para el circuito y los
+     * únicos que se reintentan.
+     */
+    public static boolean esFalloTransitorio(Throwable error) {
+        if (error instanceof WebClientResponseException respuesta) {
+            return respuesta.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private <T> Mono<T> consultaIdempotente(Mono<T> llamada) {
+        return traducirRechazos(proteger(llamada).transformDeferred(RetryOperator.of(retry)));
+    }
+
+    private <T> Mono<T> proteger(Mono<T> llamada) {
+        return llamada.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private <T> Mono<T> traducirRechazos(Mono<T> llamada) {
+        return llamada.onErrorMap(ResilientUserClientAdapter::esRechazoInmediato, error -> {
+            log.warn("Llamada al microservicio de usuarios rechazada sin ejecutarse: {}", error.getMessage());
+            return new ServicioUsuariosNoDisponibleException(
+                    "El servicio de usuarios no está disponible en este momento. Intente nuevamente más tarde.", error);
+        });
+    }
+
+    private static boolean esRechazoInmediato(Throwable error) {
+        return error instanceof CallNotPermittedException || error instanceof BulkheadFullException;
+    }
+}
@@ -0,0 +1,87 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link UserClientPort} que agrupa consultas concurrentes del mismo documento:
+ * mientras una consulta está en curso, las siguientes se suscriben al mismo Mono compartido
+ * en lugar de abrir otro intercambio HTTP. La entrada se libera al completar, fallar o cancelar.
+ * Las consultas con token solo se agrupan con las del mismo token, para que ninguna llamada viaje con
+ * la credencial de otro llamador.
+ */
+@Slf4j
+public class SingleFlightUserClientAdapter implements UserClientPort {
+
+    static final String COALESCED_METRIC = "usuarios.consultas.coalescidas";
+
+    private final UserClientPort delegate;
+    private final Map<Clave, Mono<UserInfo>> consultasEnCurso = new ConcurrentHashMap<>();
+    private final Counter consultasCoalescidas;
+
+    private record Clave(String documentoIdentidad, String jwtToken) { }
+
+    public SingleFlightUserClientAdapter(UserClientPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.consultasCoalescidas = Counter.builder(COALESCED_METRIC)
+                .description("Consultas de usuario resueltas con una llamada ya en curso")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuarioConToken(String documentoIdentidad, String jwtToken) {
+        return compartir(documentoIdentidad, jwtToken, () -> delegate.obtenerUsuarioConToken(documentoIdentidad, jwtToken));
+    }
+
+    @Override
+    public Mono<Boolean> existeUsuario(String documentoIdentidad) {
+        return obtenerUsuario(documentoIdentidad)
+                .map(user -> true)
+                .onErrorReturn(false);
+    }
+
+    @Override
+    public Mono<UserInfo> obtenerUsuario(String documentoIdentidad) {
+        return compartir(documentoIdentidad, null, () -> delegate.obtenerUsuario(documentoIdentidad));
+    }
+
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        return delegate.obtenerUsuarios(documentosIdentidad, jwtToken);
+    }
+
+    /**
+     * La entrada se elimina solo si sigue siendo la misma: un suscriptor tardío de un share() ya terminado
+     * vuelve a ejecutar la consulta, y su doFinally no debe borrar una consulta más reciente del mismo documento.
+     */
+    private Mono<UserInfo> compartir(String documentoIdentidad, String jwtToken, Supplier<Mono<UserInfo>> consulta) {
+        if (documentoIdentidad == null) {
+            return consulta.get();
+        }
+        return Mono.defer(() -> {
+            AtomicReference<Mono<UserInfo>> propia = new AtomicReference<>();
+            Mono<UserInfo> compartida = consultasEnCurso.computeIfAbsent(new Clave(documentoIdentidad, jwtToken), clave -> {
+                // share() cancela la consulta remota solo cuando todos los suscriptores cancelan
+                Mono<UserInfo> nueva = consulta.get()
+                        .doFinally(senal -> consultasEnCurso.remove(clave, propia.get()))
+                        .share();
+                propia.set(nueva);
+                return nueva;
+            });
+            if (propia.get() == null) {
+                log.debug("Consulta de usuario con documento {} agrupada con una ya en curso", documentoIdentidad);
+                consultasCoalescidas.increment();
+            }
+            return compartida;
+        });
+    }
+}
@@ -10,6 +10,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Adaptador para la comunicación HTTP con el microservicio de usuarios (HU1)
@@ -54,6 +59,13 @@ public class UserClientAdapter implements UserClientPort {
     @Value("${app.services.user-service.endpoints.get-by-document:/api/v1/usuarios/documento/{documento}}")
     private String getUserByDocumentEndpoint;
 
+    @Value("${app.services.user-service.endpoints.get-by-documents:/api/v1/usuarios/documentos}")
+    private String getUsersByDocumentsEndpoint;
+
+    // La consulta en bloque tarda más que una individual; sobrescribe el response-timeout del pool
+    @Value("${app.services.user-service.bulk-response-timeout:10s}")
+    private Duration bulkResponseTimeout;
+
     @Override
     public Mono<Boolean> existeUsuario(String documentoIdentidad) {
         log.debug("Verificando existencia de usuario con documento: {}", documentoIdentidad);
@@ -93,6 +105,36 @@ public class UserClientAdapter implements UserClientPort {
                             documentoIdentidad, ex.getMessage()));
     }
     
+    @Override
+    public Mono<Map<String, UserInfo>> obtenerUsuarios(Collection<String> documentosIdentidad, String jwtToken) {
+        if (documentosIdentidad.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        log.debug("Obteniendo información de {} usuarios en bloque", documentosIdentidad.size());
+
+        String url = userServiceBaseUrl + getUsersByDocumentsEndpoint;
+
+        var requestSpec = webClient.post().uri(url);
+        if (jwtToken != null && !jwtToken.isBlank()) {
+            requestSpec = requestSpec.header("Authorization", jwtToken);
+        }
+        return requestSpec
+                .httpRequest(request -> {
+                    if (bulkResponseTimeout != null) {
+                        HttpClientRequest reactorRequest = request.getNativeRequest();
+                        reactorRequest.responseTimeout(bulkResponseTimeout);
+                    }
+                })
+                .bodyValue(documentosIdentidad)
+                .retrieve()
+                .bodyToFlux(UserResponseDto.class)
+                .map(this::mapToUserInfo)
+                .collectMap(UserInfo::documentoIdentidad)
+                .doOnSuccess(usuarios -> log.debug("Usuarios obtenidos en bloque: {} de {}",
+                        usuarios.size(), documentosIdentidad.size()))
+                .doOnError(ex -> log.error("Error al obtener usuarios en bloque: {}", ex.getMessage()));
+    }
+    
     private UserInfo mapToUserInfo(UserResponseDto dto) {
     return new UserClientPort.UserInfo(
         dto.getId(),
@@ -0,0 +1,79 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort.UserInfo;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recolector estilo DataLoader: acumula consultas individuales de usuario durante una ventana corta
+ * (o hasta completar un lote) y las resuelve con una sola consulta en bloque al microservicio,
+ * repartiendo después cada resultado a quien lo pidió.
+ */
+@Slf4j
+public class UserLookupBatcher implements AutoCloseable {
+
+    private record Peticion(String documentoIdentidad, Sinks.One<UserInfo> resultado) { }
+
+    private final UserClientPort delegate;
+    private final Sinks.Many<Peticion> peticiones = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable procesamiento;
+
+    public UserLookupBatcher(UserClientPort delegate, int maxBatchSize, Duration ventana) {
+        this.delegate = delegate;
+        this.procesamiento = peticiones.asFlux()
+                .bufferTimeout(maxBatchSize, ventana, true)
+                .flatMap(lote -> despachar(lote).onErrorResume(error -> Mono.empty()))
+                .subscribe();
+        log.info("Consultas de usuario en bloque habilitadas - lote máximo: {}, ventana: {}", maxBatchSize, ventana);
+    }
+
+    /**
+     * Encola la consulta de un usuario; se resuelve cuando se despacha el lote que la contiene.
+     * @return Mono con el usuario, vacío si no existe
+     */
+    public Mono<UserInfo> cargar(String documentoIdentidad) {
+        return Mono.defer(() -> {
+            Sinks.One<UserInfo> resultado = Sinks.one();
+            peticiones.emitNext(new Peticion(documentoIdentidad, resultado),
+                    Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            return resultado.asMono();
+        });
+    }
+
+    private Mono<Void> despachar(List<Peticion> lote) {
+        Set<String> documentos = new LinkedHashSet<>();
+        lote.forEach(peticion -> documentos.add(peticion.documentoIdentidad()));
+        log.debug("Despachando lote de {} consultas de usuario ({} documentos distintos)", lote.size(), documentos.size());
+
+        return delegate.obtenerUsuarios(documentos, null)
+                .defaultIfEmpty(Map.of())
+                .doOnNext(usuarios -> lote.forEach(peticion -> {
+                    UserInfo usuario = usuarios.get(peticion.documentoIdentidad());
+                    if (usuario != null) {
+                        peticion.resultado().tryEmitValue(usuario);
+                    } else {
+                        peticion.resultado().tryEmitEmpty();
+                    }
+                }))
+                .doOnError(error -> {
+                    log.error("Error al consultar lote de {} usuarios: {}", documentos.size(), error.getMessage());
+                    lote.forEach(peticion -> peticion.resultado().tryEmitError(error));
+                })
+                .then();
+    }
+
+    @Override
+    public void close() {
+        peticiones.tryEmitComplete();
+        procesamiento.dispose();
+    }
+}
@@ -0,0 +1,59 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudEventPublisherPort;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Publicador que agrega los eventos como líneas NDJSON a un archivo local. Sustituto del broker para
+ * entornos sin mensajería: cada lote se escribe y se fuerza a disco antes de confirmarse.
+ */
+@Slf4j
+public class ArchivoSolicitudEventPublisher implements SolicitudEventPublisherPort {
+
+    private final Path archivo;
+    private final ObjectMapper objectMapper;
+
+    public ArchivoSolicitudEventPublisher(Path archivo, ObjectMapper objectMapper) {
+        this.archivo = archivo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> publicar(List<EventoSolicitud> eventos) {
+        return Mono.<Void>fromCallable(() -> {
+                    ByteArrayOutputStream lineas = new ByteArrayOutputStream();
+                    for (EventoSolicitud evento : eventos) {
+                        objectMapper.writeValue(lineas, evento);
+                        lineas.write('\n');
+                    }
+                    synchronized (this) {
+                        if (archivo.getParent() != null) {
+                            Files.createDirectories(archivo.getParent());
+                        }
+                        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                            ByteBuffer buffer = ByteBuffer.wrap(lineas.toByteArray());
+                            while (buffer.hasRemaining()) {
+                                canal.write(buffer);
+                            }
+                            canal.force(false);
+                        }
+                    }
+                    log.debug("{} eventos de solicitudes escritos en {}", eventos.size(), archivo);
+                    return null;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
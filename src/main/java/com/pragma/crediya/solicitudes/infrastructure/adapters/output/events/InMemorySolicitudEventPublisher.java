@@ -0,0 +1,49 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.events;
+
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudEventPublisherPort;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Publicador en memoria que conserva los últimos eventos publicados. Sustituto local del broker
+ * para desarrollo y pruebas.
+ */
+@Slf4j
+public class InMemorySolicitudEventPublisher implements SolicitudEventPublisherPort {
+
+    private final int capacidad;
+    private final Deque<EventoSolicitud> eventos = new ArrayDeque<>();
+
+    public InMemorySolicitudEventPublisher(int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    @Override
+    public Mono<Void> publicar(List<EventoSolicitud> lote) {
+        return Mono.fromRunnable(() -> {
+            synchronized (eventos) {
+                for (EventoSolicitud evento : lote) {
+                    if (eventos.size() == capacidad) {
+                        eventos.removeFirst();
+                    }
+                    eventos.addLast(evento);
+                }
+            }
+            log.debug("{} eventos de solicitudes publicados en memoria", lote.size());
+        });
+    }
+
+    /**
+     * Últimos eventos publicados, del más antiguo al más reciente.
+     */
+    public List<EventoSolicitud> eventos() {
+        synchronized (eventos) {
+            return List.copyOf(eventos);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics;
+
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de la creación de solicitudes en Micrometer:
+ * <ul>
+ *   <li>solicitudes.creacion.etapa: timer con histograma de percentiles por etapa, tipo de préstamo y
+ *   resultado (exito, vacio, error).</li>
+ *   <li>solicitudes.creacion.resultado: contador de solicitudes creadas, con cliente no encontrado y fallidas.</li>
+ * </ul>
+ */
+public class MicrometerSolicitudMetricsAdapter implements SolicitudMetricsPort {
+
+    static final String TIMER_ETAPA = "solicitudes.creacion.etapa";
+    static final String CONTADOR_RESULTADO = "solicitudes.creacion.resultado";
+
+    private static final String EXITO = "exito";
+    private static final String VACIO = "vacio";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerSolicitudMetricsAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> Mono<T> medir(Etapa etapa, TipoPrestamo tipoPrestamo, Mono<T> operacion) {
+        return Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            return operacion
+                    .doOnSuccess(valor -> timer(etapa, tipoPrestamo, valor != null ? EXITO : VACIO)
+                            .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> timer(etapa, tipoPrestamo, ERROR)
+                            .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public void registrar(Etapa etapa, TipoPrestamo tipoPrestamo, Duration duracion) {
+        timer(etapa, tipoPrestamo, EXITO).record(duracion);
+    }
+
+    @Override
+    public void contar(Resultado resultado, TipoPrestamo tipoPrestamo) {
+        Counter.builder(CONTADOR_RESULTADO)
+                .description("Solicitudes de préstamo procesadas por resultado")
+                .tag("resultado", etiqueta(resultado))
+                .tag("tipoPrestamo", etiqueta(tipoPrestamo))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(Etapa etapa, TipoPrestamo tipoPrestamo, String resultado) {
+        return Timer.builder(TIMER_ETAPA)
+                .description("Duración de cada etapa de la creación de solicitudes")
+                .tag("etapa", etiqueta(etapa))
+                .tag("tipoPrestamo", etiqueta(tipoPrestamo))
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String etiqueta(Enum<?> valor) {
+        return valor != null ? valor.name().toLowerCase(Locale.ROOT) : "desconocido";
+    }
+}
@@ -0,0 +1,186 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.MethodExecutionInfo;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyMethodExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Listener de r2dbc-proxy que mide cada sentencia ejecutada a través del ConnectionFactory:
+ * <ul>
+ *   <li>r2dbc.consultas: timer con histograma de percentiles por forma de la consulta, operación y resultado.</li>
+ *   <li>r2dbc.consultas.filas: filas devueltas por las consultas SELECT, por forma de la consulta.</li>
+ *   <li>r2dbc.conexiones.retencion: tiempo entre que se obtiene una conexión del pool y se devuelve.</li>
+ * </ul>
+ * La forma es el SQL normalizado: bind markers como '?' y listas IN / tuplas de VALUES colapsadas, para
+ * que un INSERT multi-fila o un IN de tamaño variable no generen una serie por cada tamaño. Las sentencias
+ * que superan el umbral se registran en el logger de consultas lentas con su número de parámetros, nunca
+ * con sus valores.
+ * <p>
+ * El límite de cardinalidad se aplica a las formas normalizadas, no al SQL original: un IN con cien tamaños
+ * distintos es una sola forma. La traducción SQL → forma se guarda en una caché acotada para no normalizar
+ * cada ejecución ni retener sin límite las variantes del SQL original.
+ */
+public class R2dbcQueryMetricsListener implements ProxyMethodExecutionListener {
+
+    static final String TIMER_CONSULTAS = "r2dbc.consultas";
+    static final String FILAS_CONSULTAS = "r2dbc.consultas.filas";
+    static final String TIMER_RETENCION = "r2dbc.conexiones.retencion";
+    static final String FORMA_OTRAS = "otras";
+
+    private static final Logger CONSULTAS_LENTAS =
+            LoggerFactory.getLogger("com.pragma.crediya.solicitudes.r2dbc.ConsultasLentas");
+    private static final String INICIO_RETENCION = R2dbcQueryMetricsListener.class.getName() + ".inicio";
+    private static final String MEDIDA = R2dbcQueryMetricsListener.class.getName() + ".medida";
+    private static final int LONGITUD_MAXIMA_FORMA = 300;
+    private static final int SQL_EN_CACHE_POR_FORMA = 10;
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern MARCADORES = Pattern.compile("\\$\\d+|(?<!:):[A-Za-z_]\\w*");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern TUPLAS_REPETIDAS = Pattern.compile("\\(\\?\\)(\\s*,\\s*\\(\\?\\))+");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration umbralLenta;
+    private final int maximoFormas;
+    private final Set<String> formas = ConcurrentHashMap.newKeySet();
+    private final Cache<String, String> normalizadas;
+
+    public R2dbcQueryMetricsListener(MeterRegistry meterRegistry, Duration umbralLenta, int maximoFormas) {
+        this.meterRegistry = meterRegistry;
+        this.umbralLenta = umbralLenta;
+        this.maximoFormas = maximoFormas;
+        this.normalizadas = Caffeine.newBuilder()
+                .maximumSize((long) maximoFormas * SQL_EN_CACHE_POR_FORMA)
+                .build();
+    }
+
+    @Override
+    public void afterCreateOnConnectionFactory(MethodExecutionInfo executionInfo) {
+        if (executionInfo.getConnectionInfo() != null && executionInfo.getThrown() == null) {
+            executionInfo.getConnectionInfo().getValueStore().put(INICIO_RETENCION, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCloseOnConnection(MethodExecutionInfo executionInfo) {
+        Long inicio = (Long) executionInfo.getConnectionInfo().getValueStore().remove(INICIO_RETENCION);
+        if (inicio != null) {
+            Timer.builder(TIMER_RETENCION)
+                    .description("Tiempo que cada conexión permanece fuera del pool")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Se invoca cuando termina el consumo del resultado, así la duración incluye la lectura de las filas.
+     */
+    @Override
+    public void afterQuery(QueryExecutionInfo executionInfo) {
+        // r2dbc-proxy notifica dos veces una sentencia fallida (al ejecutar y al consumir el resultado)
+        if (executionInfo.getValueStore().get(MEDIDA) != null) {
+            return;
+        }
+        executionInfo.getValueStore().put(MEDIDA, Boolean.TRUE);
+        String forma = executionInfo.getQueries().stream()
+                .map(QueryInfo::getQuery)
+                .map(this::formaRegistrada)
+                .distinct()
+                .collect(Collectors.joining("; "));
+        String operacion = operacion(forma);
+        String resultado = executionInfo.isSuccess() ? "exito" : "error";
+        Duration duracion = executionInfo.getExecuteDuration();
+        int filas = executionInfo.getCurrentResultCount();
+
+        Timer.builder(TIMER_CONSULTAS)
+                .description("Duración de las sentencias SQL por forma de la consulta")
+                .tag("consulta", forma)
+                .tag("operacion", operacion)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duracion);
+        if (executionInfo.isSuccess() && devuelveFilas(operacion)) {
+            DistributionSummary.builder(FILAS_CONSULTAS)
+                    .description("Filas devueltas por las sentencias SQL")
+                    .tag("consulta", forma)
+                    .tag("operacion", operacion)
+                    .register(meterRegistry)
+                    .record(filas);
+        }
+
+        if (duracion.compareTo(umbralLenta) >= 0) {
+            CONSULTAS_LENTAS.warn("consulta_lenta duracionMs={} operacion={} resultado={} filas={} parametros={} lotes={} conexion={} consulta=\"{}\"",
+                    duracion.toMillis(), operacion, resultado, devuelveFilas(operacion) ? filas : "-", contarParametros(executionInfo),
+                    Math.max(executionInfo.getBindingsSize(), executionInfo.getBatchSize()),
+                    executionInfo.getConnectionInfo() != null ? executionInfo.getConnectionInfo().getConnectionId() : "-",
+                    forma);
+        }
+    }
+
+    /**
+     * Forma de la consulta; a partir de {@code maximoFormas} formas distintas las nuevas se agrupan en
+     * "otras" para acotar la cardinalidad de las métricas.
+     */
+    private String formaRegistrada(String sql) {
+        String forma = normalizadas.get(sql, R2dbcQueryMetricsListener::normalizar);
+        return formas.contains(forma) || admitir(forma) ? forma : FORMA_OTRAS;
+    }
+
+    private synchronized boolean admitir(String forma) {
+        if (formas.size() >= maximoFormas && !formas.contains(forma)) {
+            return false;
+        }
+        formas.add(forma);
+        return true;
+    }
+
+    static String normalizar(String sql) {
+        String forma = ESPACIOS.matcher(sql.trim()).replaceAll(" ");
+        forma = MARCADORES.matcher(forma).replaceAll("?");
+        forma = LISTA_PARAMETROS.matcher(forma).replaceAll("(?)");
+        forma = TUPLAS_REPETIDAS.matcher(forma).replaceAll("(?)");
+        return forma.length() > LONGITUD_MAXIMA_FORMA ? forma.substring(0, LONGITUD_MAXIMA_FORMA) : forma;
+    }
+
+    private static String operacion(String forma) {
+        int fin = forma.indexOf(' ');
+        String primera = (fin > 0 ? forma.substring(0, fin) : forma).toLowerCase(Locale.ROOT);
+        return switch (primera) {
+            case "select", "insert", "update", "delete", "with" -> primera;
+            default -> "otra";
+        };
+    }
+
+    private static boolean devuelveFilas(String operacion) {
+        return "select".equals(operacion) || "with".equals(operacion);
+    }
+
+    private static int contarParametros(QueryExecutionInfo executionInfo) {
+        int parametros = 0;
+        for (QueryInfo query : executionInfo.getQueries()) {
+            for (Bindings bindings : query.getBindingsList()) {
+                parametros += bindings.getIndexBindings().size() + bindings.getNamedBindings().size();
+            }
+        }
+        return parametros;
+    }
+}
@@ -0,0 +1,211 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.CondicionesTipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.out.CatalogoPrestamosPort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.EstadoEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.TipoPrestamoEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.IEstadoRepository;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.ITipoPrestamoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.mapstruct.Named;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Catálogo en memoria de las tablas 'estados' y 'tipo_prestamo'. Se carga al iniciar y se recarga
+ * cada app.catalog.refresh-interval; cada carga construye una instantánea inmutable que reemplaza
+ * a la anterior de forma atómica, y si falla se conserva la anterior.
+ * Resuelve en ambos sentidos la conversión entre los enums del dominio y los ids de la base de datos
+ * (la usa {@code ISolicitudPersistenceMapper}) y las condiciones de cada tipo de préstamo, sin consultas.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class CatalogoPrestamosAdapter implements CatalogoPrestamosPort {
+
+    private final IEstadoRepository estadoRepository;
+    private final ITipoPrestamoRepository tipoPrestamoRepository;
+    private final Duration timeoutCarga;
+
+    private volatile Instantanea instantanea;
+
+    public CatalogoPrestamosAdapter(IEstadoRepository estadoRepository,
+                                    ITipoPrestamoRepository tipoPrestamoRepository,
+                                    @Value("${app.catalog.load-timeout:10s}") Duration timeoutCarga) {
+        this.estadoRepository = estadoRepository;
+        this.tipoPrestamoRepository = tipoPrestamoRepository;
+        this.timeoutCarga = timeoutCarga;
+    }
+
+    /**
+     * Si la base de datos no está disponible al iniciar, la aplicación arranca igual y el refresco
+     * programado reintenta la carga.
+     */
+    @PostConstruct
+    void cargarAlIniciar() {
+        try {
+            refrescar().block(timeoutCarga);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo cargar el catálogo de préstamos al iniciar: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval:5m}",
+               initialDelayString = "${app.catalog.refresh-interval:5m}")
+    public void refrescarProgramado() {
+        refrescar().subscribe(
+                sinValor -> { },
+                error -> log.warn("Falló el refresco del catálogo de préstamos, se conserva la instantánea anterior: {}",
+                        error.getMessage()));
+    }
+
+    /**
+     * Lee ambas tablas y publica la nueva instantánea solo si la lectura completa tuvo éxito.
+     */
+    public Mono<Void> refrescar() {
+        return Mono.zip(estadoRepository.findAll().collectList(), tipoPrestamoRepository.findAll().collectList())
+                .map(tablas -> Instantanea.desde(tablas.getT1(), tablas.getT2()))
+                .doOnNext(nueva -> {
+                    instantanea = nueva;
+                    log.debug("Catálogo de préstamos cargado - estados: {}, tipos de préstamo: {}",
+                            nueva.estadoPorId().length, nueva.condiciones().size());
+                })
+                .then();
+    }
+
+    @Override
+    public Optional<CondicionesTipoPrestamo> condiciones(TipoPrestamo tipoPrestamo) {
+        if (tipoPrestamo == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(actual().condiciones().get(tipoPrestamo));
+    }
+
+    @Named("estadoToId")
+    public Long idEstado(EstadoSolicitud estado) {
+        if (estado == null) {
+            return null;
+        }
+        long id = actual().idPorEstado()[estado.ordinal()];
+        if (id == 0) {
+            throw new IllegalArgumentException("Estado sin registro en el catálogo: " + estado);
+        }
+        return id;
+    }
+
+    @Named("idToEstado")
+    public EstadoSolicitud estado(Long idEstado) {
+        if (idEstado == null) {
+            return null;
+        }
+        EstadoSolicitud[] estadoPorId = actual().estadoPorId();
+        EstadoSolicitud estado = idEstado > 0 && idEstado < estadoPorId.length ? estadoPorId[idEstado.intValue()] : null;
+        if (estado == null) {
+            throw new IllegalArgumentException("ID de estado desconocido: " + idEstado);
+        }
+        return estado;
+    }
+
+    @Named("tipoPrestamoToId")
+    public Long idTipoPrestamo(TipoPrestamo tipoPrestamo) {
+        if (tipoPrestamo == null) {
+            return null;
+        }
+        long id = actual().idPorTipo()[tipoPrestamo.ordinal()];
+        if (id == 0) {
+            throw new IllegalArgumentException("Tipo de préstamo sin registro en el catálogo: " + tipoPrestamo);
+        }
+        return id;
+    }
+
+    @Named("idToTipoPrestamo")
+    public TipoPrestamo tipoPrestamo(Long idTipoPrestamo) {
+        if (idTipoPrestamo == null) {
+            return null;
+        }
+        TipoPrestamo[] tipoPorId = actual().tipoPorId();
+        TipoPrestamo tipo = idTipoPrestamo > 0 && idTipoPrestamo < tipoPorId.length ? tipoPorId[idTipoPrestamo.intValue()] : null;
+        if (tipo == null) {
+            throw new IllegalArgumentException("ID de tipo de préstamo desconocido: " + idTipoPrestamo);
+        }
+        return tipo;
+    }
+
+    private Instantanea actual() {
+        Instantanea actual = instantanea;
+        if (actual == null) {
+            throw new IllegalStateException("El catálogo de préstamos aún no se ha cargado");
+        }
+        return actual;
+    }
+
+    /**
+     * Contenido del catálogo en un momento dado. Los arreglos se indexan por ordinal del enum (id de la
+     * fila, 0 si no hay fila) o por id de la fila (enum, null si la fila no corresponde a ningún valor).
+     * No se modifica después de construirse.
+     */
+    private record Instantanea(long[] idPorEstado,
+                               EstadoSolicitud[] estadoPorId,
+                               long[] idPorTipo,
+                               TipoPrestamo[] tipoPorId,
+                               Map<TipoPrestamo, CondicionesTipoPrestamo> condiciones) {
+
+        static Instantanea desde(List<EstadoEntity> estados, List<TipoPrestamoEntity> tipos) {
+            long[] idPorEstado = new long[EstadoSolicitud.values().length];
+            EstadoSolicitud[] estadoPorId = new EstadoSolicitud[idMaximo(estados.stream().map(EstadoEntity::getIdEstado).toList()) + 1];
+            for (EstadoEntity fila : estados) {
+                EstadoSolicitud estado = buscar(EstadoSolicitud.class, fila.getNombre());
+                if (estado != null) {
+                    idPorEstado[estado.ordinal()] = fila.getIdEstado();
+                    estadoPorId[fila.getIdEstado().intValue()] = estado;
+                }
+            }
+
+            long[] idPorTipo = new long[TipoPrestamo.values().length];
+            TipoPrestamo[] tipoPorId = new TipoPrestamo[idMaximo(tipos.stream().map(TipoPrestamoEntity::getIdTipoPrestamo).toList()) + 1];
+            Map<TipoPrestamo, CondicionesTipoPrestamo> condiciones = new EnumMap<>(TipoPrestamo.class);
+            for (TipoPrestamoEntity fila : tipos) {
+                TipoPrestamo tipo = buscar(TipoPrestamo.class, fila.getNombre());
+                if (tipo != null) {
+                    idPorTipo[tipo.ordinal()] = fila.getIdTipoPrestamo();
+                    tipoPorId[fila.getIdTipoPrestamo().intValue()] = tipo;
+                    condiciones.put(tipo, new CondicionesTipoPrestamo(tipo, fila.getMontoMinimo(), fila.getMontoMaximo(),
+                            fila.getTasaInteres(), Boolean.TRUE.equals(fila.getValidacionAutomatica())));
+                }
+            }
+            return new Instantanea(idPorEstado, estadoPorId, idPorTipo, tipoPorId, condiciones);
+        }
+
+        private static int idMaximo(List<Long> ids) {
+            long maximo = 0;
+            for (Long id : ids) {
+                if (id == null || id < 1 || id > Integer.MAX_VALUE - 1) {
+                    throw new IllegalStateException("ID de catálogo fuera de rango: " + id);
+                }
+                maximo = Math.max(maximo, id);
+            }
+            return (int) maximo;
+        }
+
+        private static <E extends Enum<E>> E buscar(Class<E> tipo, String nombre) {
+            for (E candidato : tipo.getEnumConstants()) {
+                if (candidato.name().equalsIgnoreCase(nombre)) {
+                    return candidato;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de 'solicitud_idempotencia'. Mientras la petición original se ejecuta, estadoHttp y respuesta
+ * son null y fechaExpiracion marca hasta cuándo se respeta la reserva.
+ *
+ * @param huella SHA-256 del cuerpo de la petición original
+ * @param respuesta Cuerpo JSON de la respuesta almacenada
+ */
+public record RegistroIdempotencia(String clave, String huella, Integer estadoHttp, String respuesta,
+                                   LocalDateTime fechaExpiracion) {
+
+    public boolean completado() {
+        return estadoHttp != null;
+    }
+
+    public boolean expirado(LocalDateTime ahora) {
+        return fechaExpiracion.isBefore(ahora);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+
+import java.math.BigDecimal;
+
+/**
+ * Variación de los acumulados de 'resumen_cliente' que produce una escritura de solicitudes.
+ */
+final class ResumenClienteDelta {
+
+    private BigDecimal totalAprobado = BigDecimal.ZERO;
+    private BigDecimal cuotaMensualAprobada = BigDecimal.ZERO;
+    private final int[] cantidades = new int[EstadoSolicitud.values().length];
+
+    /**
+     * Suma (signo 1) o resta (signo -1) el aporte de una solicitud a los acumulados de su cliente.
+     */
+    ResumenClienteDelta acumular(SolicitudPrestamo solicitud, int signo) {
+        EstadoSolicitud estado = solicitud.getEstado();
+        if (estado == null) {
+            return this;
+        }
+        cantidades[estado.ordinal()] += signo;
+        if (estado == EstadoSolicitud.APROBADA) {
+            BigDecimal factor = BigDecimal.valueOf(signo);
+            totalAprobado = totalAprobado.add(solicitud.getMonto().multiply(factor));
+            cuotaMensualAprobada = cuotaMensualAprobada.add(solicitud.calcularCuotaMensual().multiply(factor));
+        }
+        return this;
+    }
+
+    boolean esNulo() {
+        if (totalAprobado.signum() != 0 || cuotaMensualAprobada.signum() != 0) {
+            return false;
+        }
+        for (int cantidad : cantidades) {
+            if (cantidad != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    BigDecimal totalAprobado() {
+        return totalAprobado;
+    }
+
+    BigDecimal cuotaMensualAprobada() {
+        return cuotaMensualAprobada;
+    }
+
+    int cantidad(EstadoSolicitud estado) {
+        return cantidades[estado.ordinal()];
+    }
+}
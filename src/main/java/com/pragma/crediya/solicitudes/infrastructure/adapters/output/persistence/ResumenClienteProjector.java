@@ -0,0 +1,105 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.ResumenClienteEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.IResumenClienteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantiene la proyección 'resumen_cliente' aplicando deltas en la transacción de quien escribe la solicitud.
+ * Los deltas se aplican en orden de documento: transacciones concurrentes que tocan varios clientes
+ * (lotes, group commit) bloquean las filas siempre en el mismo orden y no se interbloquean.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumenClienteProjector {
+
+    private final IResumenClienteRepository resumenClienteRepository;
+    private final CatalogoPrestamosAdapter catalogoPrestamos;
+
+    /**
+     * Registra el paso de una solicitud de su versión anterior (null si es nueva) a la guardada.
+     */
+    public Mono<Void> registrarCambio(SolicitudPrestamo anterior, SolicitudPrestamo guardada) {
+        Map<String, ResumenClienteDelta> deltas = new TreeMap<>();
+        if (anterior != null) {
+            deltas.computeIfAbsent(anterior.getDocumentoIdentidad(), documento -> new ResumenClienteDelta())
+                    .acumular(anterior, -1);
+        }
+        deltas.computeIfAbsent(guardada.getDocumentoIdentidad(), documento -> new ResumenClienteDelta())
+                .acumular(guardada, 1);
+        return aplicar(deltas);
+    }
+
+    /**
+     * Registra un conjunto de solicitudes nuevas acumulando un único delta por cliente.
+     */
+    public Mono<Void> registrarNuevas(Collection<SolicitudPrestamo> guardadas) {
+        Map<String, ResumenClienteDelta> deltas = new TreeMap<>();
+        for (SolicitudPrestamo guardada : guardadas) {
+            deltas.computeIfAbsent(guardada.getDocumentoIdentidad(), documento -> new ResumenClienteDelta())
+                    .acumular(guardada, 1);
+        }
+        return aplicar(deltas);
+    }
+
+    /**
+     * Obtiene el total aprobado precalculado de cada cliente con una sola consulta por clave primaria.
+     */
+    public Mono<Map<String, BigDecimal>> obtenerTotalAprobado(Collection<String> documentosIdentidad) {
+        return resumenClienteRepository.findByDocumentoIdentidadIn(documentosIdentidad)
+                .collectMap(ResumenClienteEntity::getDocumentoIdentidad, ResumenClienteEntity::getTotalAprobado);
+    }
+
+    /**
+     * Recalcula toda la proyección desde 'solicitud'. Debe ejecutarse dentro de una transacción.
+     */
+    public Mono<Integer> reconstruir() {
+        return resumenClienteRepository.eliminarResumenes()
+                .then(resumenClienteRepository.reconstruirResumenes(
+                        catalogoPrestamos.idEstado(EstadoSolicitud.PENDIENTE_REVISION),
+                        catalogoPrestamos.idEstado(EstadoSolicitud.EN_EVALUACION),
+                        catalogoPrestamos.idEstado(EstadoSolicitud.APROBADA),
+                        catalogoPrestamos.idEstado(EstadoSolicitud.RECHAZADA),
+                        catalogoPrestamos.idEstado(EstadoSolicitud.DESEMBOLSADA),
+                        LocalDateTime.now()));
+    }
+
+    private Mono<Void> aplicar(Map<String, ResumenClienteDelta> deltas) {
+        return Flux.fromIterable(deltas.entrySet())
+                .filter(entrada -> !entrada.getValue().esNulo())
+                .concatMap(entrada -> aplicar(entrada.getKey(), entrada.getValue()))
+                .then();
+    }
+
+    private Mono<Integer> aplicar(String documentoIdentidad, ResumenClienteDelta delta) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return sumar(documentoIdentidad, delta, ahora)
+                .flatMap(actualizadas -> actualizadas > 0
+                        ? Mono.just(actualizadas)
+                        : resumenClienteRepository.crearResumenSiNoExiste(documentoIdentidad, ahora)
+                                .then(sumar(documentoIdentidad, delta, ahora)))
+                .doOnError(error -> log.error("Error al actualizar resumen del cliente {}: {}",
+                        documentoIdentidad, error.getMessage(), error));
+    }
+
+    private Mono<Integer> sumar(String documentoIdentidad, ResumenClienteDelta delta, LocalDateTime ahora) {
+        return resumenClienteRepository.sumarDelta(documentoIdentidad,
+                delta.totalAprobado(), delta.cuotaMensualAprobada(),
+                delta.cantidad(EstadoSolicitud.PENDIENTE_REVISION), delta.cantidad(EstadoSolicitud.EN_EVALUACION),
+                delta.cantidad(EstadoSolicitud.APROBADA), delta.cantidad(EstadoSolicitud.RECHAZADA),
+                delta.cantidad(EstadoSolicitud.DESEMBOLSADA), ahora);
+    }
+}
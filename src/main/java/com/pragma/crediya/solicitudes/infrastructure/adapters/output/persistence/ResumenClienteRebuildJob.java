@@ -0,0 +1,39 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reconstruye la proyección 'resumen_cliente' desde 'solicitud' para corregir cualquier desviación.
+ * Se programa con app.resumen-cliente.rebuild-cron (desactivado por defecto).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumenClienteRebuildJob {
+
+    private final ResumenClienteProjector resumenClienteProjector;
+    private final TransactionalOperator transactionalOperator;
+
+    @Scheduled(cron = "${app.resumen-cliente.rebuild-cron:-}")
+    public void reconstruirProgramado() {
+        reconstruir().subscribe(
+                clientes -> { },
+                error -> log.error("Falló la reconstrucción programada de resumen_cliente: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Borra y recalcula todos los resúmenes en una sola transacción.
+     * @return Mono con el número de clientes reconstruidos
+     */
+    public Mono<Integer> reconstruir() {
+        log.info("Iniciando reconstrucción de resumen_cliente");
+        return resumenClienteProjector.reconstruir()
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(clientes -> log.info("Reconstrucción de resumen_cliente completada - clientes: {}", clientes));
+    }
+}
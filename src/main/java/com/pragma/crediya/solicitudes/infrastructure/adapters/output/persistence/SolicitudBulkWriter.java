@@ -0,0 +1,65 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.SolicitudEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserta varias solicitudes nuevas con una única sentencia INSERT de múltiples filas,
+ * devolviendo los id_solicitud generados en el mismo orden de la lista.
+ */
+@Component
+@RequiredArgsConstructor
+public class SolicitudBulkWriter {
+
+    private static final String INSERT = "INSERT INTO solicitud (monto, plazo, email, documento_identidad, "
+            + "nombre, salario_base, tasa_interes, id_estado, id_tipo_prestamo, fecha_creacion, fecha_actualizacion) VALUES ";
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    public Flux<Long> insertar(List<SolicitudEntity> entidades) {
+        if (entidades.isEmpty()) {
+            return Flux.empty();
+        }
+        StringBuilder sql = new StringBuilder(INSERT);
+        for (int i = 0; i < entidades.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:monto").append(i).append(", :plazo").append(i)
+                    .append(", :email").append(i).append(", :documento").append(i)
+                    .append(", :nombre").append(i).append(", :salario").append(i).append(", :tasa").append(i)
+                    .append(", :estado").append(i).append(", :tipo").append(i)
+                    .append(", :creacion").append(i).append(", :actualizacion").append(i).append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec insert = r2dbcEntityTemplate.getDatabaseClient()
+                .sql(sql.toString())
+                .filter(statement -> statement.returnGeneratedValues("id_solicitud"));
+        for (int i = 0; i < entidades.size(); i++) {
+            SolicitudEntity entidad = entidades.get(i);
+            insert = bind(insert, "monto" + i, entidad.getMonto(), BigDecimal.class);
+            insert = bind(insert, "plazo" + i, entidad.getPlazo(), Integer.class);
+            insert = bind(insert, "email" + i, entidad.getEmail(), String.class);
+            insert = bind(insert, "documento" + i, entidad.getDocumentoIdentidad(), String.class);
+            insert = bind(insert, "nombre" + i, entidad.getNombre(), String.class);
+            insert = bind(insert, "salario" + i, entidad.getSalarioBase(), BigDecimal.class);
+            insert = bind(insert, "tasa" + i, entidad.getTasaInteres(), BigDecimal.class);
+            insert = bind(insert, "estado" + i, entidad.getIdEstado(), Long.class);
+            insert = bind(insert, "tipo" + i, entidad.getIdTipoPrestamo(), Long.class);
+            insert = bind(insert, "creacion" + i, entidad.getFechaCreacion(), LocalDateTime.class);
+            insert = bind(insert, "actualizacion" + i, entidad.getFechaActualizacion(), LocalDateTime.class);
+        }
+        return insert.map(row -> row.get("id_solicitud", Long.class)).all();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String nombre,
+                                                          Object valor, Class<?> tipo) {
+        return valor != null ? spec.bind(nombre, valor) : spec.bindNull(nombre, tipo);
+    }
+}
@@ -0,0 +1,68 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.SolicitudEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lectura en streaming de la tabla 'solicitud' para exportaciones masivas.
+ * El fetch size hace que el driver traiga las filas por bloques (cursor en PostgreSQL) y limitRate
+ * acota la demanda hacia la base de datos a ese mismo tamaño, de modo que la memoria usada no
+ * depende del número de filas exportadas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolicitudExportReader {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    public Flux<SolicitudEntity> leer(Long idEstado, Long idTipoPrestamo, LocalDateTime desde, LocalDateTime hasta) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM solicitud WHERE 1 = 1");
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        if (idEstado != null) {
+            sql.append(" AND id_estado = :idEstado");
+            parametros.put("idEstado", idEstado);
+        }
+        if (idTipoPrestamo != null) {
+            sql.append(" AND id_tipo_prestamo = :idTipoPrestamo");
+            parametros.put("idTipoPrestamo", idTipoPrestamo);
+        }
+        if (desde != null) {
+            sql.append(" AND fecha_creacion >= :desde");
+            parametros.put("desde", desde);
+        }
+        if (hasta != null) {
+            sql.append(" AND fecha_creacion < :hasta");
+            parametros.put("hasta", hasta);
+        }
+        sql.append(" ORDER BY id_solicitud");
+        log.debug("Exportando solicitudes con fetch size {} - SQL: {}", fetchSize, sql);
+
+        DatabaseClient.GenericExecuteSpec consulta = r2dbcEntityTemplate.getDatabaseClient()
+                .sql(sql.toString())
+                .filter(statement -> statement.fetchSize(fetchSize));
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            consulta = consulta.bind(parametro.getKey(), parametro.getValue());
+        }
+
+        R2dbcConverter converter = r2dbcEntityTemplate.getConverter();
+        return consulta
+                .map((row, metadata) -> converter.read(SolicitudEntity.class, row, metadata))
+                .all()
+                .limitRate(fetchSize);
+    }
+}
@@ -0,0 +1,143 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Group commit de inserciones: acumula las solicitudes nuevas que llegan durante una ventana corta
+ * (o hasta completar un lote) y las guarda con un único INSERT de múltiples filas en una transacción,
+ * entregando después a cada llamador su solicitud guardada.
+ * Si el lote falla, sus solicitudes se reintentan de a una para que cada llamador reciba su propio error.
+ * Al cerrarse deja de aceptar solicitudes y espera a que se escriban las encoladas; las que no alcanzan
+ * a escribirse en la espera de cierre fallan con {@link IllegalStateException}, igual que las que llegan después.
+ */
+@Slf4j
+public class SolicitudGroupCommitter implements AutoCloseable {
+
+    private record Peticion(SolicitudPrestamo solicitud, Sinks.One<SolicitudPrestamo> resultado) { }
+
+    private static final Duration ESPERA_EMISION = Duration.ofMillis(100);
+
+    private final Function<List<SolicitudPrestamo>, Flux<SolicitudPrestamo>> insercion;
+    private final Sinks.Many<Peticion> peticiones = Sinks.many().unicast().onBackpressureBuffer();
+    private final Set<Peticion> pendientes = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch terminado = new CountDownLatch(1);
+    private final Duration esperaCierre;
+    private final Disposable procesamiento;
+    private volatile boolean cerrado;
+
+    /**
+     * @param insercion Inserta en una transacción una lista de solicitudes y las devuelve guardadas en el mismo orden
+     * @param maxLote Máximo de solicitudes por INSERT
+     * @param ventana Espera máxima para completar un lote
+     * @param lotesConcurrentes Lotes que se pueden estar escribiendo a la vez
+     * @param esperaCierre Espera máxima al cerrar para escribir las solicitudes ya encoladas
+     */
+    public SolicitudGroupCommitter(Function<List<SolicitudPrestamo>, Flux<SolicitudPrestamo>> insercion,
+                                   int maxLote, Duration ventana, int lotesConcurrentes, Duration esperaCierre) {
+        this.insercion = insercion;
+        this.esperaCierre = esperaCierre;
+        // Con backpressure justo, los lotes esperan mientras haya lotesConcurrentes escribiéndose
+        this.procesamiento = peticiones.asFlux()
+                .bufferTimeout(maxLote, ventana, true)
+                .flatMap(this::despachar, lotesConcurrentes)
+                .doFinally(senal -> terminado.countDown())
+                .subscribe();
+        log.info("Group commit de solicitudes habilitado - lote máximo: {}, ventana: {}, lotes concurrentes: {}",
+                maxLote, ventana, lotesConcurrentes);
+    }
+
+    public SolicitudGroupCommitter(Function<List<SolicitudPrestamo>, Flux<SolicitudPrestamo>> insercion,
+                                   int maxLote, Duration ventana, int lotesConcurrentes) {
+        this(insercion, maxLote, ventana, lotesConcurrentes, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Encola una solicitud nueva; se resuelve cuando se confirma la transacción del lote que la contiene.
+     */
+    public Mono<SolicitudPrestamo> guardar(SolicitudPrestamo solicitud) {
+        return Mono.defer(() -> {
+            if (cerrado) {
+                return Mono.error(detenido());
+            }
+            Peticion peticion = new Peticion(solicitud, Sinks.one());
+            pendientes.add(peticion);
+            // El sink unicast no admite emisiones simultáneas: se reintenta brevemente mientras otro hilo emite
+            long limite = System.nanoTime() + ESPERA_EMISION.toNanos();
+            Sinks.EmitResult emision;
+            while ((emision = peticiones.tryEmitNext(peticion)) == Sinks.EmitResult.FAIL_NON_SERIALIZED
+                    && System.nanoTime() < limite) {
+                Thread.onSpinWait();
+            }
+            if (emision.isFailure()) {
+                pendientes.remove(peticion);
+                return Mono.error(emision == Sinks.EmitResult.FAIL_TERMINATED ? detenido()
+                        : new IllegalStateException("No se pudo encolar la solicitud para group commit: " + emision));
+            }
+            return peticion.resultado().asMono()
+                    .doFinally(senal -> pendientes.remove(peticion));
+        });
+    }
+
+    private Mono<Void> despachar(List<Peticion> lote) {
+        log.debug("Escribiendo lote de {} solicitudes en una transacción", lote.size());
+
+        return insercion.apply(lote.stream().map(Peticion::solicitud).toList())
+                .collectList()
+                .flatMap(guardadas -> {
+                    if (guardadas.size() != lote.size()) {
+                        return Mono.error(new IllegalStateException("Se guardaron " + guardadas.size()
+                                + " solicitudes de un lote de " + lote.size()));
+                    }
+                    for (int i = 0; i < lote.size(); i++) {
+                        lote.get(i).resultado().tryEmitValue(guardadas.get(i));
+                    }
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(error -> {
+                    if (lote.size() == 1) {
+                        lote.get(0).resultado().tryEmitError(error);
+                        return Mono.empty();
+                    }
+                    log.warn("Falló el lote de {} solicitudes, se guardarán de a una: {}", lote.size(), error.getMessage());
+                    return Flux.fromIterable(lote)
+                            .concatMap(peticion -> despachar(List.of(peticion)))
+                            .then();
+                });
+    }
+
+    /**
+     * Deja de aceptar solicitudes y espera a que se escriban las encoladas. Las que siguen sin resultado
+     * al vencer la espera (lote colgado o cancelado) reciben un error en lugar de quedar sin respuesta.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        peticiones.tryEmitComplete();
+        try {
+            if (!terminado.await(esperaCierre.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("El group commit no terminó de escribir las solicitudes encoladas en {}", esperaCierre);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        procesamiento.dispose();
+        pendientes.forEach(peticion -> peticion.resultado().tryEmitError(detenido()));
+    }
+
+    private static IllegalStateException detenido() {
+        return new IllegalStateException("El group commit de solicitudes está detenido");
+    }
+}
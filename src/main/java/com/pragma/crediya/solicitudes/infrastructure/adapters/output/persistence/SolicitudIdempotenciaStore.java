@@ -0,0 +1,86 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Acceso a la tabla 'solicitud_idempotencia'. La clave primaria hace de cerrojo entre instancias:
+ * solo la petición que logra insertar la reserva ejecuta la operación.
+ */
+@Component
+@RequiredArgsConstructor
+public class SolicitudIdempotenciaStore {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    /**
+     * Reserva la clave para ejecutar la petición.
+     * @return Mono con false si la clave ya existe
+     */
+    public Mono<Boolean> reservar(String clave, String huella, LocalDateTime ahora, LocalDateTime expiracion) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("INSERT INTO solicitud_idempotencia (clave, huella, fecha_creacion, fecha_expiracion) "
+                        + "VALUES (:clave, :huella, :ahora, :expiracion)")
+                .bind("clave", clave)
+                .bind("huella", huella)
+                .bind("ahora", ahora)
+                .bind("expiracion", expiracion)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(true)
+                .onErrorResume(DataIntegrityViolationException.class, error -> Mono.just(false));
+    }
+
+    public Mono<RegistroIdempotencia> buscar(String clave) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("SELECT clave, huella, estado_http, respuesta, fecha_expiracion FROM solicitud_idempotencia "
+                        + "WHERE clave = :clave")
+                .bind("clave", clave)
+                .map(row -> new RegistroIdempotencia(row.get("clave", String.class), row.get("huella", String.class),
+                        row.get("estado_http", Integer.class), row.get("respuesta", String.class),
+                        row.get("fecha_expiracion", LocalDateTime.class)))
+                .one();
+    }
+
+    public Mono<Void> completar(String clave, int estadoHttp, String respuesta, LocalDateTime expiracion) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("UPDATE solicitud_idempotencia SET estado_http = :estado, respuesta = :respuesta, "
+                        + "fecha_expiracion = :expiracion WHERE clave = :clave")
+                .bind("estado", estadoHttp)
+                .bind("respuesta", respuesta)
+                .bind("expiracion", expiracion)
+                .bind("clave", clave)
+                .then();
+    }
+
+    /**
+     * Libera una reserva cuya ejecución falló para que un reintento pueda volver a ejecutarla.
+     */
+    public Mono<Void> liberar(String clave) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("DELETE FROM solicitud_idempotencia WHERE clave = :clave AND estado_http IS NULL")
+                .bind("clave", clave)
+                .then();
+    }
+
+    public Mono<Long> eliminarExpiradas(LocalDateTime ahora) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("DELETE FROM solicitud_idempotencia WHERE fecha_expiracion < :ahora")
+                .bind("ahora", ahora)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Void> eliminarSiExpirada(String clave, LocalDateTime ahora) {
+        return r2dbcEntityTemplate.getDatabaseClient()
+                .sql("DELETE FROM solicitud_idempotencia WHERE clave = :clave AND fecha_expiracion < :ahora")
+                .bind("clave", clave)
+                .bind("ahora", ahora)
+                .then();
+    }
+}
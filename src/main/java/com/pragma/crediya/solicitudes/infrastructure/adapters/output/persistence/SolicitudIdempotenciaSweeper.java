@@ -0,0 +1,41 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purga las claves de idempotencia vencidas (respuestas fuera de la ventana de retención y reservas
+ * de ejecuciones que nunca terminaron). Se programa con app.idempotency.sweep-interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolicitudIdempotenciaSweeper {
+
+    private final SolicitudIdempotenciaStore solicitudIdempotenciaStore;
+
+    @Scheduled(fixedDelayString = "${app.idempotency.sweep-interval:10m}",
+               initialDelayString = "${app.idempotency.sweep-interval:10m}")
+    public void purgarProgramado() {
+        purgar().subscribe(
+                eliminadas -> { },
+                error -> log.warn("Falló la purga de claves de idempotencia: {}", error.getMessage()));
+    }
+
+    /**
+     * @return Mono con el número de claves eliminadas
+     */
+    public Mono<Long> purgar() {
+        return solicitudIdempotenciaStore.eliminarExpiradas(LocalDateTime.now())
+                .doOnNext(eliminadas -> {
+                    if (eliminadas > 0) {
+                        log.info("Claves de idempotencia vencidas eliminadas: {}", eliminadas);
+                    }
+                });
+    }
+}
@@ -0,0 +1,191 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudEventPublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Relay del outbox: reclama lotes de eventos pendientes con FOR UPDATE SKIP LOCKED (varias instancias
+ * pueden ejecutarlo a la vez sin repartirse el mismo evento), los publica y los marca como enviados en la
+ * misma transacción. Si la publicación falla, la transacción se revierte y el lote se reintenta en la
+ * siguiente pasada. Un evento cuyo payload no se puede leer no se publica: se marca con su error en la
+ * columna 'error' y deja de contarse como pendiente, para que no bloquee la cola.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class SolicitudOutboxRelay {
+
+    static final String PENDIENTES_METRIC = "solicitudes.outbox.pendientes";
+    static final String LAG_METRIC = "solicitudes.outbox.lag";
+    static final String PUBLICADOS_METRIC = "solicitudes.outbox.publicados";
+    static final String RETRASO_METRIC = "solicitudes.outbox.retraso";
+    static final String ILEGIBLES_METRIC = "solicitudes.outbox.ilegibles";
+
+    private static final int LARGO_MAXIMO_ERROR = 500;
+
+    private record EventoPendiente(Long idEvento, String payload, LocalDateTime fechaCreacion) { }
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final SolicitudEventPublisherPort publisher;
+    private final ObjectMapper objectMapper;
+    private final int tamanoLote;
+    private final AtomicBoolean enCurso = new AtomicBoolean();
+    private final AtomicLong pendientes = new AtomicLong();
+    private final AtomicReference<LocalDateTime> pendienteMasAntiguo = new AtomicReference<>();
+    private final Counter publicados;
+    private final Counter ilegibles;
+    private final Timer retraso;
+
+    public SolicitudOutboxRelay(R2dbcEntityTemplate r2dbcEntityTemplate,
+                                TransactionalOperator transactionalOperator,
+                                SolicitudEventPublisherPort publisher,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.outbox.relay.batch-size:100}") int tamanoLote) {
+        this.databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+        this.transactionalOperator = transactionalOperator;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.tamanoLote = tamanoLote;
+        this.publicados = Counter.builder(PUBLICADOS_METRIC)
+                .description("Eventos de solicitudes publicados desde el outbox")
+                .register(meterRegistry);
+        this.ilegibles = Counter.builder(ILEGIBLES_METRIC)
+                .description("Eventos del outbox apartados porque su payload no se pudo leer")
+                .register(meterRegistry);
+        this.retraso = Timer.builder(RETRASO_METRIC)
+                .description("Tiempo entre el registro de un evento en el outbox y su publicación")
+                .register(meterRegistry);
+        Gauge.builder(PENDIENTES_METRIC, pendientes, AtomicLong::get)
+                .description("Eventos pendientes de publicar en la última pasada del relay")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, pendienteMasAntiguo, SolicitudOutboxRelay::segundosDesde)
+                .description("Antigüedad en segundos del evento pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:1s}",
+               initialDelayString = "${app.outbox.relay.poll-interval:1s}")
+    public void relevarProgramado() {
+        if (!enCurso.compareAndSet(false, true)) {
+            return;
+        }
+        relevar()
+                .doFinally(senal -> enCurso.set(false))
+                .subscribe(
+                        total -> { },
+                        error -> log.warn("Falló la pasada del relay del outbox: {}", error.getMessage()));
+    }
+
+    /**
+     * Publica lotes mientras salgan completos y actualiza las métricas de atraso.
+     * @return Mono con el número de eventos procesados (publicados o apartados por ilegibles)
+     */
+    public Mono<Integer> relevar() {
+        return relevarLote()
+                .expand(publicadosEnLote -> publicadosEnLote == tamanoLote ? relevarLote() : Mono.empty())
+                .reduce(0, Integer::sum)
+                .flatMap(total -> actualizarPendientes().thenReturn(total))
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.debug("Relay del outbox publicó {} eventos", total);
+                    }
+                });
+    }
+
+    private Mono<Integer> relevarLote() {
+        return databaseClient.sql("SELECT id_evento, payload, fecha_creacion FROM solicitud_outbox "
+                        + "WHERE fecha_envio IS NULL AND error IS NULL ORDER BY id_evento LIMIT :limite FOR UPDATE SKIP LOCKED")
+                .bind("limite", tamanoLote)
+                .map(row -> new EventoPendiente(row.get("id_evento", Long.class), row.get("payload", String.class),
+                        row.get("fecha_creacion", LocalDateTime.class)))
+                .all()
+                .collectList()
+                .flatMap(lote -> lote.isEmpty() ? Mono.just(0) : publicarLote(lote))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Integer> publicarLote(List<EventoPendiente> lote) {
+        List<EventoPendiente> legibles = new ArrayList<>(lote.size());
+        List<EventoSolicitud> eventos = new ArrayList<>(lote.size());
+        Map<Long, String> errores = new LinkedHashMap<>();
+        for (EventoPendiente pendiente : lote) {
+            try {
+                eventos.add(objectMapper.readValue(pendiente.payload(), EventoSolicitud.class).conIdEvento(pendiente.idEvento()));
+                legibles.add(pendiente);
+            } catch (IOException e) {
+                log.error("Evento {} del outbox ilegible, se aparta sin publicar: {}", pendiente.idEvento(), e.getMessage());
+                errores.put(pendiente.idEvento(), e.getMessage());
+            }
+        }
+        LocalDateTime ahora = LocalDateTime.now();
+        Mono<Void> publicacion = legibles.isEmpty() ? Mono.empty() : publisher.publicar(eventos)
+                .then(databaseClient.sql("UPDATE solicitud_outbox SET fecha_envio = :ahora WHERE id_evento IN (:ids)")
+                        .bind("ahora", ahora)
+                        .bind("ids", legibles.stream().map(EventoPendiente::idEvento).toList())
+                        .then());
+        return publicacion
+                .thenMany(Flux.fromIterable(errores.entrySet()))
+                .concatMap(error -> databaseClient.sql("UPDATE solicitud_outbox SET error = :error WHERE id_evento = :id")
+                        .bind("error", recortar(error.getValue()))
+                        .bind("id", error.getKey())
+                        .then())
+                .then(Mono.fromRunnable(() -> {
+                    publicados.increment(legibles.size());
+                    ilegibles.increment(errores.size());
+                    legibles.forEach(pendiente -> retraso.record(Duration.between(pendiente.fechaCreacion(), ahora)));
+                }))
+                .thenReturn(lote.size());
+    }
+
+    private Mono<Void> actualizarPendientes() {
+        return databaseClient.sql("SELECT COUNT(*) AS pendientes, MIN(fecha_creacion) AS mas_antiguo "
+                        + "FROM solicitud_outbox WHERE fecha_envio IS NULL AND error IS NULL")
+                .map(row -> {
+                    Number cantidad = row.get("pendientes", Number.class);
+                    pendientes.set(cantidad != null ? cantidad.longValue() : 0);
+                    pendienteMasAntiguo.set(row.get("mas_antiguo", LocalDateTime.class));
+                    return true;
+                })
+                .one()
+                .then();
+    }
+
+    private static String recortar(String error) {
+        String mensaje = error != null ? error : "Payload ilegible";
+        return mensaje.length() <= LARGO_MAXIMO_ERROR ? mensaje : mensaje.substring(0, LARGO_MAXIMO_ERROR);
+    }
+
+    private static double segundosDesde(AtomicReference<LocalDateTime> fecha) {
+        LocalDateTime valor = fecha.get();
+        return valor == null ? 0 : Math.max(0, Duration.between(valor, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+}
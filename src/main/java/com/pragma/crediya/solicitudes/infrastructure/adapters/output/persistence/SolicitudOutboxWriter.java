@@ -0,0 +1,58 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Registra eventos en la tabla 'solicitud_outbox'. Debe llamarse dentro de la transacción que guarda
+ * la solicitud, para que el evento exista si y solo si el cambio se confirmó.
+ */
+@Component
+@RequiredArgsConstructor
+public class SolicitudOutboxWriter {
+
+    private static final String INSERT = "INSERT INTO solicitud_outbox (id_solicitud, tipo_evento, payload, fecha_creacion) VALUES ";
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> registrar(List<EventoSolicitud> eventos) {
+        if (eventos.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            StringBuilder sql = new StringBuilder(INSERT);
+            for (int i = 0; i < eventos.size(); i++) {
+                sql.append(i == 0 ? "" : ", ")
+                        .append("(:solicitud").append(i).append(", :tipo").append(i)
+                        .append(", :payload").append(i).append(", :fecha").append(i).append(')');
+            }
+            DatabaseClient.GenericExecuteSpec insert = r2dbcEntityTemplate.getDatabaseClient().sql(sql.toString());
+            for (int i = 0; i < eventos.size(); i++) {
+                EventoSolicitud evento = eventos.get(i);
+                insert = insert.bind("solicitud" + i, evento.idSolicitud())
+                        .bind("tipo" + i, evento.tipo())
+                        .bind("payload" + i, serializar(evento))
+                        .bind("fecha" + i, evento.fechaEvento());
+            }
+            return insert.then();
+        });
+    }
+
+    private String serializar(EventoSolicitud evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + evento.tipo()
+                    + " de la solicitud " + evento.idSolicitud(), e);
+        }
+    }
+}
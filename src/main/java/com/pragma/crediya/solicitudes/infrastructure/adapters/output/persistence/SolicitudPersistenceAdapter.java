@@ -1,41 +1,195 @@
 package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
 
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.FiltroExportacion;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.SolicitudEntity;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.mapper.ISolicitudPersistenceMapper;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.ISolicitudRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SolicitudPersistenceAdapter implements ISolicitudRepositoryPort {
 
+    /**
+     * Orden estable para paginar: id_solicitud desempata solicitudes con la misma fecha de creación.
+     */
+    private static final Sort ORDEN_RECIENTES = Sort.by(Sort.Order.desc("fechaCreacion"), Sort.Order.desc("idSolicitud"));
+
     private final ISolicitudRepository solicitudRepository;
     private final UserClientPort userClientPort;
     private final ISolicitudPersistenceMapper solicitudMapper;
+    private final ResumenClienteProjector resumenClienteProjector;
+    private final SolicitudExportReader solicitudExportReader;
+    private final SolicitudBulkWriter solicitudBulkWriter;
+    private final SolicitudOutboxWriter solicitudOutboxWriter;
+    private final TransactionalOperator transactionalOperator;
+    private final SolicitudMetricsPort solicitudMetricsPort;
+    private final CatalogoPrestamosAdapter catalogoPrestamos;
+
+    @Value("${app.persistence.group-commit.enabled:false}")
+    private boolean groupCommitEnabled;
+
+    @Value("${app.persistence.group-commit.max-size:100}")
+    private int groupCommitMaxSize;
+
+    @Value("${app.persistence.group-commit.window:2ms}")
+    private Duration groupCommitWindow;
+
+    @Value("${app.persistence.group-commit.max-in-flight:4}")
+    private int groupCommitMaxInFlight;
+
+    @Value("${app.persistence.group-commit.shutdown-timeout:10s}")
+    private Duration groupCommitShutdownTimeout;
+
+    private SolicitudGroupCommitter groupCommitter;
 
+    @PostConstruct
+    void iniciarGroupCommit() {
+        if (groupCommitEnabled) {
+            groupCommitter = new SolicitudGroupCommitter(
+                    lote -> enTransaccionMedida(lote, insertarEnBloque(lote).collectList())
+                            .flatMapIterable(Function.identity()),
+                    groupCommitMaxSize, groupCommitWindow, groupCommitMaxInFlight, groupCommitShutdownTimeout);
+        }
+    }
+
+    @PreDestroy
+    void detenerGroupCommit() {
+        if (groupCommitter != null) {
+            groupCommitter.close();
+        }
+    }
+
+    /**
+     * Con group commit habilitado, las solicitudes nuevas se encolan y se insertan junto con las que lleguen
+     * en la misma ventana; las actualizaciones siempre se guardan de forma individual.
+     * La transacción se abre aquí y abarca solo el guardado, el resumen del cliente y el outbox.
+     */
     @Override
-    @Transactional
     public Mono<SolicitudPrestamo> guardarSolicitud(SolicitudPrestamo solicitud) {
         log.debug("Guardando solicitud en base de datos - Cliente: {}, Tipo: {}", 
                 solicitud.getDocumentoIdentidad(), solicitud.getTipoPrestamo());
+
+        if (groupCommitter != null && solicitud.getId() == null) {
+            return groupCommitter.guardar(solicitud)
+                    .doOnError(error -> log.error("Error al guardar solicitud en base de datos: {}", error.getMessage(), error));
+        }
         
-        return Mono.just(solicitud)
-                .map(solicitudMapper::toEntity)
-                .doOnNext(entity -> log.debug("Entidad de solicitud mapeada para persistencia"))
-                .flatMap(solicitudRepository::save)
-                .doOnNext(savedEntity -> log.debug("Solicitud guardada con ID: {}", savedEntity.getIdSolicitud()))
-                .map(solicitudMapper::toSolicitud)
+        // La versión anterior (si existe) permite descontar su aporte al resumen del cliente
+        Mono<Optional<SolicitudPrestamo>> anterior = solicitud.getId() == null
+                ? Mono.just(Optional.empty())
+                : solicitudRepository.findById(solicitud.getId())
+                        .map(solicitudMapper::toSolicitud)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty());
+
+        return anterior
+                .flatMap(previa -> Mono.just(solicitud)
+                        .map(solicitudMapper::toEntity)
+                        .doOnNext(entity -> log.debug("Entidad de solicitud mapeada para persistencia"))
+                        .flatMap(solicitudRepository::save)
+                        .doOnNext(savedEntity -> log.debug("Solicitud guardada con ID: {}", savedEntity.getIdSolicitud()))
+                        .map(solicitudMapper::toSolicitud)
+                        .flatMap(guardada -> resumenClienteProjector.registrarCambio(previa.orElse(null), guardada)
+                                .then(solicitudOutboxWriter.registrar(EventoSolicitud.desdeCambio(previa.orElse(null), guardada)
+                                        .map(List::of)
+                                        .orElse(List.of())))
+                                .thenReturn(guardada)))
+                .as(guardado -> solicitud.getId() == null
+                        ? enTransaccionMedida(List.of(solicitud), guardado)
+                        : guardado.as(transactionalOperator::transactional))
                 .doOnError(error -> log.error("Error al guardar solicitud en base de datos: {}", error.getMessage(), error));
     }
 
+    /**
+     * Transacción de solicitudes nuevas con sus etapas medidas: apertura (incluye obtener la conexión del
+     * pool, hasta que empieza el trabajo dentro de ella) y commit (desde que termina el trabajo hasta que
+     * la transacción se confirma). Con group commit la transacción es la del lote y cada solicitud del lote
+     * registra sus tiempos; la espera en la ventana del lote no forma parte de la apertura.
+     */
+    private <T> Mono<T> enTransaccionMedida(List<SolicitudPrestamo> solicitudes, Mono<T> trabajo) {
+        return Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            AtomicLong finTrabajo = new AtomicLong();
+            return Mono.defer(() -> {
+                        registrarEtapa(SolicitudMetricsPort.Etapa.INICIO_TRANSACCION, solicitudes,
+                                Duration.ofNanos(System.nanoTime() - inicio));
+                        return trabajo;
+                    })
+                    .doOnSuccess(resultado -> finTrabajo.set(System.nanoTime()))
+                    .as(transactionalOperator::transactional)
+                    .doOnSuccess(resultado -> registrarEtapa(SolicitudMetricsPort.Etapa.COMMIT, solicitudes,
+                            Duration.ofNanos(System.nanoTime() - finTrabajo.get())));
+        });
+    }
+
+    private void registrarEtapa(SolicitudMetricsPort.Etapa etapa, List<SolicitudPrestamo> solicitudes, Duration duracion) {
+        for (SolicitudPrestamo solicitud : solicitudes) {
+            solicitudMetricsPort.registrar(etapa, solicitud.getTipoPrestamo(), duracion);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Flux<SolicitudPrestamo> guardarSolicitudes(List<SolicitudPrestamo> solicitudes) {
+        return insertarEnBloque(solicitudes);
+    }
+
+    private Flux<SolicitudPrestamo> insertarEnBloque(List<SolicitudPrestamo> solicitudes) {
+        log.debug("Insertando {} solicitudes nuevas en una sentencia", solicitudes.size());
+
+        List<SolicitudEntity> entidades = solicitudes.stream().map(solicitudMapper::toEntity).toList();
+        return solicitudBulkWriter.insertar(entidades)
+                .collectList()
+                .flatMapMany(ids -> {
+                    if (ids.size() != entidades.size()) {
+                        return Flux.error(new IllegalStateException("Se generaron " + ids.size()
+                                + " ids para " + entidades.size() + " solicitudes"));
+                    }
+                    List<SolicitudPrestamo> guardadas = new ArrayList<>(ids.size());
+                    for (int i = 0; i < ids.size(); i++) {
+                        entidades.get(i).setIdSolicitud(ids.get(i));
+                        guardadas.add(solicitudMapper.toSolicitud(entidades.get(i)));
+                    }
+                    return resumenClienteProjector.registrarNuevas(guardadas)
+                            .then(solicitudOutboxWriter.registrar(guardadas.stream()
+                                    .map(guardada -> EventoSolicitud.desdeCambio(null, guardada).orElseThrow())
+                                    .toList()))
+                            .thenMany(Flux.fromIterable(guardadas));
+                })
+                .doOnError(error -> log.error("Error al insertar {} solicitudes en bloque: {}",
+                        solicitudes.size(), error.getMessage(), error));
+    }
+
     @Override
     public Mono<Boolean> existeClientePorDocumento(String documentoIdentidad) {
         log.debug("Verificando si existe cliente con documento: {}", documentoIdentidad);
@@ -68,4 +222,95 @@ public class SolicitudPersistenceAdapter implements ISolicitudRepositoryPort {
                 .doOnError(error -> log.error("Error al consultar solicitudes para cliente {}: {}", 
                         documentoIdentidad, error.getMessage(), error));
     }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPaginadas(EstadoSolicitud estado, int page, int size) {
+        log.debug("Consultando página {} (tamaño {}) de solicitudes con estado: {}", page, size, estado);
+
+        PageRequest pagina = PageRequest.of(page, size, ORDEN_RECIENTES);
+        Flux<SolicitudEntity> entidades = estado == null
+                ? solicitudRepository.findAllBy(pagina)
+                : solicitudRepository.findByIdEstado(catalogoPrestamos.idEstado(estado), pagina);
+
+        return entidades
+                .map(solicitudMapper::toSolicitud)
+                .doOnError(error -> log.error("Error al consultar página de solicitudes con estado {}: {}",
+                        estado, error.getMessage(), error));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesDesdeCursor(EstadoSolicitud estado, CursorSolicitud cursor, int size) {
+        log.debug("Consultando {} solicitudes con estado {} desde cursor {}", size, estado, cursor);
+
+        Flux<SolicitudEntity> entidades;
+        if (cursor == null) {
+            PageRequest primeraPagina = PageRequest.of(0, size, ORDEN_RECIENTES);
+            entidades = estado == null
+                    ? solicitudRepository.findAllBy(primeraPagina)
+                    : solicitudRepository.findByIdEstado(catalogoPrestamos.idEstado(estado), primeraPagina);
+        } else {
+            entidades = estado == null
+                    ? solicitudRepository.findAntesDe(cursor.fechaCreacion(), cursor.id(), size)
+                    : solicitudRepository.findByIdEstadoAntesDe(catalogoPrestamos.idEstado(estado),
+                            cursor.fechaCreacion(), cursor.id(), size);
+        }
+
+        return entidades
+                .map(solicitudMapper::toSolicitud)
+                .doOnError(error -> log.error("Error al consultar solicitudes con estado {} desde cursor: {}",
+                        estado, error.getMessage(), error));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size) {
+        log.debug("Consultando {} solicitudes del cliente {} desde cursor {}", size, documentoIdentidad, cursor);
+
+        Flux<SolicitudEntity> entidades = cursor == null
+                ? solicitudRepository.findByDocumentoIdentidad(documentoIdentidad, PageRequest.of(0, size, ORDEN_RECIENTES))
+                : solicitudRepository.findByDocumentoIdentidadAntesDe(documentoIdentidad,
+                        cursor.fechaCreacion(), cursor.id(), size);
+
+        return entidades
+                .map(solicitudMapper::toSolicitud)
+                .doOnError(error -> log.error("Error al consultar solicitudes del cliente {} desde cursor: {}",
+                        documentoIdentidad, error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<Long> contarSolicitudes(EstadoSolicitud estado) {
+        log.debug("Contando solicitudes con estado: {}", estado);
+
+        Mono<Long> total = estado == null
+                ? solicitudRepository.count()
+                : solicitudRepository.countByIdEstado(catalogoPrestamos.idEstado(estado));
+
+        return total
+                .doOnError(error -> log.error("Error al contar solicitudes con estado {}: {}",
+                        estado, error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<Map<String, BigDecimal>> obtenerDeudaAprobadaPorClientes(Collection<String> documentosIdentidad) {
+        if (documentosIdentidad.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        log.debug("Consultando deuda aprobada agregada para {} clientes", documentosIdentidad.size());
+
+        return resumenClienteProjector.obtenerTotalAprobado(documentosIdentidad)
+                .doOnError(error -> log.error("Error al consultar deuda aprobada por clientes: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> exportarSolicitudes(FiltroExportacion filtro) {
+        log.debug("Exportando solicitudes con filtro: {}", filtro);
+
+        return solicitudExportReader.leer(
+                        catalogoPrestamos.idEstado(filtro.estado()),
+                        catalogoPrestamos.idTipoPrestamo(filtro.tipoPrestamo()),
+                        filtro.desde(),
+                        filtro.hasta())
+                .map(solicitudMapper::toSolicitud)
+                .doOnError(error -> log.error("Error al exportar solicitudes con filtro {}: {}",
+                        filtro, error.getMessage(), error));
+    }
 }
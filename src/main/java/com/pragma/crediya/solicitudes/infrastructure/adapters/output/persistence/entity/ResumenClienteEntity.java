@@ -0,0 +1,52 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Proyección precalculada por cliente de sus solicitudes.
+ * Mapea a la tabla 'resumen_cliente', mantenida en la misma transacción que cada escritura de 'solicitud'.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("resumen_cliente")
+public class ResumenClienteEntity {
+
+    @Id
+    @Column("documento_identidad")
+    private String documentoIdentidad;
+
+    @Column("total_aprobado")
+    private BigDecimal totalAprobado;
+
+    @Column("cuota_mensual_aprobada")
+    private BigDecimal cuotaMensualAprobada;
+
+    @Column("cantidad_pendiente_revision")
+    private Integer cantidadPendienteRevision;
+
+    @Column("cantidad_en_evaluacion")
+    private Integer cantidadEnEvaluacion;
+
+    @Column("cantidad_aprobada")
+    private Integer cantidadAprobada;
+
+    @Column("cantidad_rechazada")
+    private Integer cantidadRechazada;
+
+    @Column("cantidad_desembolsada")
+    private Integer cantidadDesembolsada;
+
+    @Column("fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+}
@@ -38,6 +38,19 @@ public class SolicitudEntity {
     @Column("documento_identidad")
     private String documentoIdentidad;
 
+    /**
+     * Datos del solicitante y del tipo de préstamo copiados al crear la solicitud, para que las
+     * lecturas no dependan del servicio de usuarios ni del catálogo.
+     */
+    @Column("nombre")
+    private String nombre;
+
+    @Column("salario_base")
+    private BigDecimal salarioBase;
+
+    @Column("tasa_interes")
+    private BigDecimal tasaInteres;
+
     @Column("id_estado")
     private Long idEstado;
 
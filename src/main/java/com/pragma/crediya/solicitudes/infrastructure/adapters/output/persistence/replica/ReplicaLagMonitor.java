@@ -0,0 +1,94 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Mide periódicamente el retraso de replicación de la réplica de lectura (app.r2dbc.replica.lag-check-interval)
+ * y la declara disponible solo si la última medición respondió y no supera app.r2dbc.replica.max-lag.
+ * Hasta la primera medición exitosa la réplica se considera no disponible.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String RETRASO_METRIC = "r2dbc.replica.retraso";
+    static final String DISPONIBLE_METRIC = "r2dbc.replica.disponible";
+
+    /**
+     * Segundos desde la última transacción reproducida, o 0 si la réplica ya reprodujo todo lo recibido
+     * (sin escrituras en la primaria el timestamp envejece aunque no haya retraso).
+     */
+    public static final String CONSULTA_RETRASO_POSTGRESQL = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END::float8";
+
+    private final DatabaseClient replica;
+    private final String consultaRetraso;
+    private final double retrasoMaximoSegundos;
+    private final Duration timeout;
+
+    private volatile boolean disponible;
+    private volatile double retrasoSegundos = Double.NaN;
+
+    public ReplicaLagMonitor(ConnectionFactory replica, String consultaRetraso, Duration retrasoMaximo,
+                             Duration timeout, MeterRegistry meterRegistry) {
+        this.replica = DatabaseClient.create(replica);
+        this.consultaRetraso = consultaRetraso;
+        this.retrasoMaximoSegundos = retrasoMaximo.toMillis() / 1000.0;
+        this.timeout = timeout;
+        Gauge.builder(RETRASO_METRIC, this, monitor -> monitor.retrasoSegundos)
+                .description("Retraso de replicación de la réplica de lectura en la última medición")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(DISPONIBLE_METRIC, this, monitor -> monitor.disponible ? 1 : 0)
+                .description("1 si las lecturas se envían a la réplica, 0 si van a la primaria")
+                .register(meterRegistry);
+    }
+
+    public boolean replicaDisponible() {
+        return disponible;
+    }
+
+    @Scheduled(fixedDelayString = "${app.r2dbc.replica.lag-check-interval:5s}")
+    public void verificarProgramado() {
+        verificar().subscribe();
+    }
+
+    /**
+     * @return Mono con la disponibilidad resultante; un fallo de la consulta la deja no disponible
+     */
+    public Mono<Boolean> verificar() {
+        return replica.sql(consultaRetraso)
+                .map(fila -> fila.get(0, Double.class))
+                .one()
+                .timeout(timeout)
+                .doOnNext(segundos -> retrasoSegundos = segundos)
+                .map(segundos -> segundos <= retrasoMaximoSegundos)
+                .defaultIfEmpty(false)
+                .onErrorResume(error -> {
+                    retrasoSegundos = Double.NaN;
+                    log.debug("Falló la medición del retraso de la réplica de lectura: {}", error.getMessage());
+                    return Mono.just(false);
+                })
+                .doOnNext(this::actualizar);
+    }
+
+    private void actualizar(boolean disponibleAhora) {
+        if (disponibleAhora != disponible) {
+            if (disponibleAhora) {
+                log.info("Réplica de lectura disponible - retraso: {} s", retrasoSegundos);
+            } else {
+                log.warn("Réplica de lectura no disponible o retrasada (retraso: {} s), las lecturas van a la primaria",
+                        retrasoSegundos);
+            }
+        }
+        disponible = disponibleAhora;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica;
+
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica.ReplicaRoutingConnectionFactory.soloLectura;
+
+/**
+ * Decorador de {@link ISolicitudServicePort} que marca como de solo lectura los listados y conteos
+ * (listado general, por cliente y bandeja de revisión), de modo que con app.r2dbc.replica.enabled se
+ * atienden desde la réplica. La creación queda en la primaria, y también la exportación: es la base de
+ * reportes que no deben omitir solicitudes recién creadas. Sin réplica configurada la marca no tiene efecto.
+ */
+public class ReplicaReadSolicitudService implements ISolicitudServicePort {
+
+    private final ISolicitudServicePort delegate;
+
+    public ReplicaReadSolicitudService(ISolicitudServicePort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<SolicitudPrestamo> crearSolicitudConToken(SolicitudPrestamo solicitud, String jwtToken) {
+        return delegate.crearSolicitudConToken(solicitud, jwtToken);
+    }
+
+    @Override
+    public Mono<SolicitudPrestamo> crearSolicitud(SolicitudPrestamo solicitud) {
+        return delegate.crearSolicitud(solicitud);
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerTodasLasSolicitudes() {
+        return soloLectura(Flux.defer(delegate::obtenerTodasLasSolicitudes));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPorCliente(String documentoIdentidad) {
+        return soloLectura(Flux.defer(() -> delegate.obtenerSolicitudesPorCliente(documentoIdentidad)));
+    }
+
+    @Override
+    public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesRevision(String estado, int page, int size) {
+        return soloLectura(Flux.defer(() -> delegate.obtenerSolicitudesRevision(estado, page, size)));
+    }
+
+    @Override
+    public Mono<Long> contarSolicitudesRevision(String estado) {
+        return soloLectura(Mono.defer(() -> delegate.contarSolicitudesRevision(estado)));
+    }
+
+    @Override
+    public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesRevisionDesdeCursor(String estado, CursorSolicitud cursor, int size) {
+        return soloLectura(Flux.defer(() -> delegate.obtenerSolicitudesRevisionDesdeCursor(estado, cursor, size)));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size) {
+        return soloLectura(Flux.defer(() -> delegate.obtenerSolicitudesPorClienteDesdeCursor(documentoIdentidad, cursor, size)));
+    }
+
+    @Override
+    public Flux<ItemLote> crearSolicitudesEnLote(Flux<ItemLote> items, String jwtToken) {
+        return delegate.crearSolicitudesEnLote(items, jwtToken);
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> exportarSolicitudes(String estado, String tipoPrestamo, LocalDate desde, LocalDate hasta) {
+        return delegate.exportarSolicitudes(estado, tipoPrestamo, desde, hasta);
+    }
+}
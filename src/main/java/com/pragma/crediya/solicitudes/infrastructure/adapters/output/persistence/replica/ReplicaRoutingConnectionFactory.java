@@ -0,0 +1,91 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * ConnectionFactory que entrega conexiones de la réplica de lectura a los flujos marcados con
+ * {@link #soloLectura(Flux)} y de la primaria a todos los demás. Si la réplica no responde o su retraso
+ * supera el máximo ({@link ReplicaLagMonitor}), las lecturas marcadas también van a la primaria.
+ * Dentro de una transacción la conexión ya está ligada y no se vuelve a enrutar.
+ */
+public class ReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    static final String DESVIOS_METRIC = "r2dbc.replica.desvios";
+
+    private static final String SOLO_LECTURA = ReplicaRoutingConnectionFactory.class.getName() + ".SOLO_LECTURA";
+    private static final String PRIMARIA = "primaria";
+    private static final String REPLICA = "replica";
+
+    private final ConnectionFactory primaria;
+    private final ConnectionFactory replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter desvios;
+
+    public ReplicaRoutingConnectionFactory(ConnectionFactory primaria, ConnectionFactory replica,
+                                           ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.primaria = primaria;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.desvios = Counter.builder(DESVIOS_METRIC)
+                .description("Lecturas enviadas a la primaria porque la réplica no está disponible o va retrasada")
+                .register(meterRegistry);
+        setTargetConnectionFactories(Map.of(PRIMARIA, primaria, REPLICA, replica));
+        setDefaultTargetConnectionFactory(primaria);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Marca el flujo como de solo lectura: sus conexiones se piden a la réplica.
+     */
+    public static <T> Flux<T> soloLectura(Flux<T> flujo) {
+        return flujo.contextWrite(contexto -> contexto.put(SOLO_LECTURA, true));
+    }
+
+    public static <T> Mono<T> soloLectura(Mono<T> mono) {
+        return mono.contextWrite(contexto -> contexto.put(SOLO_LECTURA, true));
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(contexto -> {
+            if (!contexto.<Boolean>getOrDefault(SOLO_LECTURA, false)) {
+                return Mono.just(PRIMARIA);
+            }
+            if (replicaLagMonitor.replicaDisponible()) {
+                return Mono.just(REPLICA);
+            }
+            desvios.increment();
+            return Mono.just(PRIMARIA);
+        });
+    }
+
+    /**
+     * Los pools se publican envueltos por la instrumentación de r2dbc-proxy, que no expone dispose:
+     * se cierran aquí, desenvolviendo hasta el pool.
+     */
+    @Override
+    public void destroy() {
+        cerrar(primaria);
+        cerrar(replica);
+    }
+
+    private static void cerrar(ConnectionFactory connectionFactory) {
+        Object destino = connectionFactory;
+        while (!(destino instanceof Disposable) && destino instanceof Wrapped<?> envoltorio) {
+            destino = envoltorio.unwrap();
+        }
+        if (destino instanceof Disposable pool) {
+            pool.dispose();
+        }
+    }
+}
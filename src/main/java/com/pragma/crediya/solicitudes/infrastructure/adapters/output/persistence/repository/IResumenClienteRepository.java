@@ -0,0 +1,97 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository;
+
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.ResumenClienteEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo para la proyección 'resumen_cliente'.
+ */
+@Repository
+public interface IResumenClienteRepository extends R2dbcRepository<ResumenClienteEntity, String> {
+
+    Flux<ResumenClienteEntity> findByDocumentoIdentidadIn(Collection<String> documentosIdentidad);
+
+    /**
+     * Suma un delta a los acumulados del cliente.
+     * @return Número de filas actualizadas (0 si el cliente aún no tiene resumen)
+     */
+    @Modifying
+    @Query("UPDATE resumen_cliente SET "
+            + "total_aprobado = total_aprobado + :totalAprobado, "
+            + "cuota_mensual_aprobada = cuota_mensual_aprobada + :cuotaMensualAprobada, "
+            + "cantidad_pendiente_revision = cantidad_pendiente_revision + :pendienteRevision, "
+            + "cantidad_en_evaluacion = cantidad_en_evaluacion + :enEvaluacion, "
+            + "cantidad_aprobada = cantidad_aprobada + :aprobada, "
+            + "cantidad_rechazada = cantidad_rechazada + :rechazada, "
+            + "cantidad_desembolsada = cantidad_desembolsada + :desembolsada, "
+            + "fecha_actualizacion = :fecha "
+            + "WHERE documento_identidad = :documento")
+    Mono<Integer> sumarDelta(@Param("documento") String documentoIdentidad,
+                             @Param("totalAprobado") BigDecimal totalAprobado,
+                             @Param("cuotaMensualAprobada") BigDecimal cuotaMensualAprobada,
+                             @Param("pendienteRevision") int pendienteRevision,
+                             @Param("enEvaluacion") int enEvaluacion,
+                             @Param("aprobada") int aprobada,
+                             @Param("rechazada") int rechazada,
+                             @Param("desembolsada") int desembolsada,
+                             @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Crea el resumen en cero si no existe. Con ON CONFLICT dos primeras escrituras concurrentes del mismo
+     * cliente no fallan por clave duplicada: la segunda espera a la primera y no inserta. No se indica la
+     * columna porque H2 no lo admite; la clave primaria es la única restricción única de la tabla.
+     * @return 1 si lo creó, 0 si ya existía
+     */
+    @Modifying
+    @Query("INSERT INTO resumen_cliente (documento_identidad, total_aprobado, cuota_mensual_aprobada, "
+            + "cantidad_pendiente_revision, cantidad_en_evaluacion, cantidad_aprobada, cantidad_rechazada, "
+            + "cantidad_desembolsada, fecha_actualizacion) "
+            + "VALUES (:documento, 0, 0, 0, 0, 0, 0, 0, :fecha) "
+            + "ON CONFLICT DO NOTHING")
+    Mono<Integer> crearResumenSiNoExiste(@Param("documento") String documentoIdentidad,
+                                         @Param("fecha") LocalDateTime fecha);
+
+    @Modifying
+    @Query("DELETE FROM resumen_cliente")
+    Mono<Integer> eliminarResumenes();
+
+    /**
+     * Recalcula todos los resúmenes a partir de la tabla 'solicitud'.
+     * La cuota se calcula por solicitud con la misma fórmula y redondeo que
+     * {@code SolicitudPrestamo#calcularCuotaMensual}: amortización francesa con tasa_interes, o monto/plazo sin tasa.
+     * La migración V6__poblar_resumen_cliente carga la tabla con la misma consulta; un cambio de fórmula va en ambas.
+     */
+    @Modifying
+    @Query("INSERT INTO resumen_cliente (documento_identidad, total_aprobado, cuota_mensual_aprobada, "
+            + "cantidad_pendiente_revision, cantidad_en_evaluacion, cantidad_aprobada, cantidad_rechazada, "
+            + "cantidad_desembolsada, fecha_actualizacion) "
+            + "SELECT documento_identidad, "
+            + "COALESCE(SUM(CASE WHEN id_estado = :aprobada THEN monto END), 0), "
+            + "COALESCE(SUM(CASE WHEN id_estado <> :aprobada OR plazo <= 0 THEN NULL "
+            + "WHEN tasa_interes IS NULL OR tasa_interes = 0 THEN ROUND(monto / plazo, 2) "
+            + "ELSE ROUND(monto * tasa_interes * CAST(POWER(1 + tasa_interes, plazo) AS DECIMAL(32,16)) "
+            + "/ (CAST(POWER(1 + tasa_interes, plazo) AS DECIMAL(32,16)) - 1), 2) END), 0), "
+            + "COUNT(CASE WHEN id_estado = :pendienteRevision THEN 1 END), "
+            + "COUNT(CASE WHEN id_estado = :enEvaluacion THEN 1 END), "
+            + "COUNT(CASE WHEN id_estado = :aprobada THEN 1 END), "
+            + "COUNT(CASE WHEN id_estado = :rechazada THEN 1 END), "
+            + "COUNT(CASE WHEN id_estado = :desembolsada THEN 1 END), "
+            + ":fecha "
+            + "FROM solicitud GROUP BY documento_identidad")
+    Mono<Integer> reconstruirResumenes(@Param("pendienteRevision") Long idPendienteRevision,
+                                       @Param("enEvaluacion") Long idEnEvaluacion,
+                                       @Param("aprobada") Long idAprobada,
+                                       @Param("rechazada") Long idRechazada,
+                                       @Param("desembolsada") Long idDesembolsada,
+                                       @Param("fecha") LocalDateTime fecha);
+}
@@ -1,11 +1,64 @@
 package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository;
 
 import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.SolicitudEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
 
 @Repository
 public interface ISolicitudRepository extends ReactiveCrudRepository<SolicitudEntity, Long> {
     Flux<SolicitudEntity> findByDocumentoIdentidad(String documentoIdentidad);
+
+    /**
+     * Página de solicitudes en un estado: WHERE id_estado + ORDER BY + LIMIT/OFFSET del Pageable.
+     */
+    Flux<SolicitudEntity> findByIdEstado(Long idEstado, Pageable pageable);
+
+    /**
+     * Página de solicitudes sin filtro de estado.
+     */
+    Flux<SolicitudEntity> findAllBy(Pageable pageable);
+
+    Mono<Long> countByIdEstado(Long idEstado);
+
+    Flux<SolicitudEntity> findByDocumentoIdentidad(String documentoIdentidad, Pageable pageable);
+
+    /**
+     * Página por cursor en un estado: solicitudes estrictamente anteriores a (fecha, id).
+     */
+    @Query("SELECT * FROM solicitud "
+            + "WHERE id_estado = :idEstado AND (fecha_creacion, id_solicitud) < (:fecha, :id) "
+            + "ORDER BY fecha_creacion DESC, id_solicitud DESC LIMIT :limite")
+    Flux<SolicitudEntity> findByIdEstadoAntesDe(@Param("idEstado") Long idEstado,
+                                               @Param("fecha") LocalDateTime fechaCreacion,
+                                               @Param("id") Long idSolicitud,
+                                               @Param("limite") int limite);
+
+    /**
+     * Página por cursor sin filtro de estado.
+     */
+    @Query("SELECT * FROM solicitud "
+            + "WHERE (fecha_creacion, id_solicitud) < (:fecha, :id) "
+            + "ORDER BY fecha_creacion DESC, id_solicitud DESC LIMIT :limite")
+    Flux<SolicitudEntity> findAntesDe(@Param("fecha") LocalDateTime fechaCreacion,
+                                      @Param("id") Long idSolicitud,
+                                      @Param("limite") int limite);
+
+    /**
+     * Página por cursor de las solicitudes de un cliente.
+     */
+    @Query("SELECT * FROM solicitud "
+            + "WHERE documento_identidad = :documento AND (fecha_creacion, id_solicitud) < (:fecha, :id) "
+            + "ORDER BY fecha_creacion DESC, id_solicitud DESC LIMIT :limite")
+    Flux<SolicitudEntity> findByDocumentoIdentidadAntesDe(@Param("documento") String documentoIdentidad,
+                                                         @Param("fecha") LocalDateTime fechaCreacion,
+                                                         @Param("id") Long idSolicitud,
+                                                         @Param("limite") int limite);
+
 }
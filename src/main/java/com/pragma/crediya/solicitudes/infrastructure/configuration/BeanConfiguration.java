@@ -1,19 +1,47 @@
 package com.pragma.crediya.solicitudes.infrastructure.configuration;
 
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.domain.ports.out.CatalogoPrestamosPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
 import com.pragma.crediya.solicitudes.domain.usecase.SolicitudUseCase;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics.MicrometerSolicitudMetricsAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica.ReplicaReadSolicitudService;
+import com.pragma.crediya.solicitudes.infrastructure.tracing.ObservedSolicitudService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class BeanConfiguration {
 
+    @Bean
+    public SolicitudMetricsPort solicitudMetricsPort(MeterRegistry meterRegistry) {
+        return new MicrometerSolicitudMetricsAdapter(meterRegistry);
+    }
+
     @Bean
     public SolicitudUseCase solicitudUseCase(ISolicitudRepositoryPort solicitudRepositoryPort,
                                            UserClientPort userClientPort,
-                                           TransactionalOperator transactionalOperator) {
-        return new SolicitudUseCase(solicitudRepositoryPort, userClientPort, transactionalOperator);
+                                           SolicitudMetricsPort solicitudMetricsPort,
+                                           CatalogoPrestamosPort catalogoPrestamosPort,
+                                           @Value("${app.batch.chunk-size:500}") int tamanoBloqueLote) {
+        return new SolicitudUseCase(solicitudRepositoryPort, userClientPort, tamanoBloqueLote,
+                solicitudMetricsPort, catalogoPrestamosPort);
+    }
+
+    /**
+     * Puerto de entrada que usan los adaptadores: el caso de uso con una observación por método y las
+     * consultas marcadas para leerse de la réplica (app.r2dbc.replica).
+     */
+    @Bean
+    @Primary
+    public ISolicitudServicePort solicitudServicePort(SolicitudUseCase solicitudUseCase,
+                                                     ObservationRegistry observationRegistry) {
+        return new ObservedSolicitudService(new ReplicaReadSolicitudService(solicitudUseCase), observationRegistry);
     }
 }
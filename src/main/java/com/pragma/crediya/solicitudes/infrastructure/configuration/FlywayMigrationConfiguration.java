@@ -0,0 +1,64 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.sql.init.dependency.DatabaseInitializationDependencyConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Migraciones versionadas del esquema con Flyway. Flyway trabaja sobre JDBC, así que la URL se deriva de
+ * spring.r2dbc.url salvo que se indique app.migrations.url. Se aplican los scripts de db/migration/common
+ * y los del motor en db/migration/{motor} (postgresql o h2), como los índices parciales de PostgreSQL.
+ * Una base creada antes de las migraciones se toma con línea base 0: los scripts son idempotentes
+ * (IF NOT EXISTS), así que se aplican todos sobre ella.
+ * Se publica como {@link FlywayMigrationInitializer}, de modo que los beans marcados con
+ * {@code @DependsOnDatabaseInitialization} se crean después de migrar.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.migrations.enabled", havingValue = "true", matchIfMissing = true)
+@Import(DatabaseInitializationDependencyConfigurer.class)
+public class FlywayMigrationConfiguration {
+
+    @Bean
+    public Flyway flyway(@Value("${app.migrations.url:}") String url,
+                         @Value("${spring.r2dbc.url}") String r2dbcUrl,
+                         @Value("${spring.r2dbc.username:}") String usuario,
+                         @Value("${spring.r2dbc.password:}") String clave) {
+        String urlJdbc = url.isBlank() ? urlJdbc(r2dbcUrl) : url;
+        return Flyway.configure()
+                .dataSource(urlJdbc, usuario, clave)
+                .locations("classpath:db/migration/common", "classpath:db/migration/" + motor(urlJdbc))
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+    }
+
+    @Bean
+    public FlywayMigrationInitializer flywayMigrationInitializer(Flyway flyway) {
+        return new FlywayMigrationInitializer(flyway);
+    }
+
+    /**
+     * r2dbc:[pool:]postgresql://host/db -> jdbc:postgresql://host/db;
+     * r2dbc:h2:mem:///db;OPCIONES (u ?options=OPCIONES) -> jdbc:h2:mem:db;OPCIONES.
+     */
+    static String urlJdbc(String r2dbcUrl) {
+        String url = r2dbcUrl.replaceFirst("^r2dbc:(pool:)?", "jdbc:");
+        if (url.startsWith("jdbc:h2:")) {
+            url = url.replace(":///", ":").replace("?options=", ";");
+        }
+        return url;
+    }
+
+    private static String motor(String urlJdbc) {
+        String[] partes = urlJdbc.split(":", 3);
+        if (partes.length < 3 || !"jdbc".equals(partes[0])) {
+            throw new IllegalArgumentException("URL JDBC inválida para las migraciones: " + urlJdbc);
+        }
+        return partes[1];
+    }
+}
@@ -0,0 +1,40 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta.IngestaSolicitudService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Ingesta asíncrona de solicitudes (POST con Prefer: respond-async). Sin este bean, esas peticiones
+ * se atienden de forma síncrona.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.ingesta.enabled", havingValue = "true")
+public class IngestaConfiguration {
+
+    @Bean
+    public IngestaSolicitudService ingestaSolicitudService(
+            ISolicitudServicePort solicitudServicePort,
+            ObjectMapper objectMapper,
+            @Value("${app.ingesta.directory:./data/ingesta}") Path directorio,
+            @Value("${app.ingesta.segment-size:16MB}") DataSize tamanoSegmento,
+            @Value("${app.ingesta.fsync:true}") boolean fsync,
+            @Value("${app.ingesta.worker.max-batch-size:100}") int maxLote,
+            @Value("${app.ingesta.worker.window:50ms}") Duration ventana,
+            @Value("${app.ingesta.worker.max-in-flight:2}") int lotesConcurrentes,
+            @Value("${app.ingesta.status-retention:24h}") Duration retencionEstados,
+            @Value("${app.ingesta.worker.retry.max-attempts:3}") int maxReintentos,
+            @Value("${app.ingesta.worker.retry.initial-backoff:1s}") Duration esperaReintento) {
+        return new IngestaSolicitudService(solicitudServicePort, objectMapper, directorio,
+                Math.toIntExact(tamanoSegmento.toBytes()), fsync, maxLote, ventana, lotesConcurrentes, retencionEstados,
+                maxReintentos, esperaReintento);
+    }
+}
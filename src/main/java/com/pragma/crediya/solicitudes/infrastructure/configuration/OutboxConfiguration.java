@@ -0,0 +1,34 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudEventPublisherPort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.events.ArchivoSolicitudEventPublisher;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.events.InMemorySolicitudEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Publicador de los eventos del outbox, elegido con app.outbox.publisher.type.
+ */
+@Configuration
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.publisher.type", havingValue = "file", matchIfMissing = true)
+    public SolicitudEventPublisherPort archivoSolicitudEventPublisher(
+            ObjectMapper objectMapper,
+            @Value("${app.outbox.publisher.file:./data/outbox/eventos-solicitudes.ndjson}") Path archivo) {
+        return new ArchivoSolicitudEventPublisher(archivo, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.publisher.type", havingValue = "memory")
+    public SolicitudEventPublisherPort inMemorySolicitudEventPublisher(
+            @Value("${app.outbox.publisher.memory-capacity:10000}") int capacidad) {
+        return new InMemorySolicitudEventPublisher(capacidad);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics.R2dbcQueryMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.observation.ObservationProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * Envuelve el ConnectionFactory (el pool) en un proxy de r2dbc-proxy con {@link R2dbcQueryMetricsListener},
+ * de modo que toda sentencia (repositorios Spring Data y DatabaseClient) queda medida. Con
+ * app.tracing.r2dbc.enabled cada sentencia abre además un span hijo de la observación en curso, sin los
+ * valores de los parámetros. El proxy implementa Wrapped, así que las métricas del pool (r2dbc.pool.*)
+ * siguen publicándose. Con réplica de lectura se instrumenta cada pool y no el ConnectionFactory de enrutamiento,
+ * para no medir dos veces cada sentencia.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.r2dbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class R2dbcInstrumentationConfiguration {
+
+    @Bean
+    public static BeanPostProcessor r2dbcInstrumentationPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<ObservationRegistry> observationRegistry,
+            @Value("${spring.r2dbc.url:}") String url,
+            @Value("${app.tracing.r2dbc.enabled:true}") boolean trazasHabilitadas,
+            @Value("${app.r2dbc.instrumentation.slow-query-threshold:200ms}") Duration umbralLenta,
+            @Value("${app.r2dbc.instrumentation.max-query-shapes:200}") int maximoFormas) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof ConnectionFactory connectionFactory)
+                        || bean instanceof AbstractRoutingConnectionFactory) {
+                    return bean;
+                }
+                ProxyConnectionFactory.Builder proxy = ProxyConnectionFactory.builder(connectionFactory)
+                        .listener(new R2dbcQueryMetricsListener(meterRegistry.getObject(), umbralLenta, maximoFormas));
+                ObservationRegistry registry = observationRegistry.getIfAvailable();
+                if (trazasHabilitadas && registry != null) {
+                    proxy.listener(new ObservationProxyExecutionListener(registry, connectionFactory, url));
+                }
+                return proxy.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica.ReplicaLagMonitor;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica.ReplicaRoutingConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Réplica de lectura. Con app.r2dbc.replica.enabled reemplaza el ConnectionFactory de Spring Boot por
+ * dos pools con tamaño propio, la primaria (spring.r2dbc.*) y la réplica (app.r2dbc.replica.*), detrás de
+ * un {@link ReplicaRoutingConnectionFactory}. Spring Boot publica r2dbc.pool.* de cada pool con la
+ * etiqueta name=primariaConnectionFactory o name=replicaConnectionFactory.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.r2dbc.replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    /**
+     * Los pools los cierra el {@link ReplicaRoutingConnectionFactory}: el proxy de instrumentación no expone dispose.
+     */
+    @Bean(destroyMethod = "")
+    public ConnectionFactory primariaConnectionFactory(R2dbcProperties properties) {
+        R2dbcProperties.Pool pool = properties.getPool();
+        return pool(properties.getUrl(), properties.getUsername(), properties.getPassword(), "primaria",
+                pool.getInitialSize(), pool.getMaxSize(), pool.getMaxIdleTime());
+    }
+
+    @Bean(destroyMethod = "")
+    public ConnectionFactory replicaConnectionFactory(
+            @Value("${app.r2dbc.replica.url}") String url,
+            @Value("${app.r2dbc.replica.username:}") String username,
+            @Value("${app.r2dbc.replica.password:}") String password,
+            @Value("${app.r2dbc.replica.pool.initial-size:5}") int initialSize,
+            @Value("${app.r2dbc.replica.pool.max-size:20}") int maxSize,
+            @Value("${app.r2dbc.replica.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        return pool(url, username, password, "replica", initialSize, maxSize, maxIdleTime);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaConnectionFactory") ConnectionFactory replica,
+            MeterRegistry meterRegistry,
+            @Value("${app.r2dbc.replica.lag-query:}") String consultaRetraso,
+            @Value("${app.r2dbc.replica.max-lag:5s}") Duration retrasoMaximo,
+            @Value("${app.r2dbc.replica.lag-check-timeout:1s}") Duration timeout) {
+        return new ReplicaLagMonitor(replica,
+                StringUtils.hasText(consultaRetraso) ? consultaRetraso : ReplicaLagMonitor.CONSULTA_RETRASO_POSTGRESQL,
+                retrasoMaximo, timeout, meterRegistry);
+    }
+
+    /**
+     * ConnectionFactory que usan los repositorios, DatabaseClient y el gestor de transacciones.
+     * Cierra los dos pools al detener la aplicación.
+     */
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(@Qualifier("primariaConnectionFactory") ConnectionFactory primaria,
+                                               @Qualifier("replicaConnectionFactory") ConnectionFactory replica,
+                                               ReplicaLagMonitor replicaLagMonitor,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaRoutingConnectionFactory(primaria, replica, replicaLagMonitor, meterRegistry);
+    }
+
+    private static ConnectionPool pool(String url, String username, String password, String nombre,
+                                       int initialSize, int maxSize, Duration maxIdleTime) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+        if (StringUtils.hasText(username)) {
+            builder = builder.username(username);
+        }
+        if (StringUtils.hasText(password)) {
+            builder = builder.password(password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(builder.build())
+                .name(nombre)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    }
+}
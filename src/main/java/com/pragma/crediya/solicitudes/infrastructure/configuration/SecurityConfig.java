@@ -1,6 +1,9 @@
 package com.pragma.crediya.solicitudes.infrastructure.configuration;
 
+import com.pragma.crediya.solicitudes.infrastructure.security.CachingReactiveJwtDecoder;
 import com.pragma.crediya.solicitudes.infrastructure.security.JwtErrorHandler;
+import com.pragma.crediya.solicitudes.infrastructure.security.UsuarioAutenticadoConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,9 +14,6 @@ import org.springframework.security.config.annotation.web.reactive.EnableWebFlux
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
 import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
-import org.springframework.security.oauth2.server.resource.authentication.ReactiveJwtAuthenticationConverterAdapter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 
 import javax.crypto.spec.SecretKeySpec;
@@ -27,12 +27,19 @@ import java.util.Base64;
 public class SecurityConfig {
 
     private final JwtErrorHandler jwtErrorHandler;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    @Value("${app.security.jwt-cache.enabled:true}")
+    private boolean jwtCacheEnabled;
+
+    @Value("${app.security.jwt-cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
     @Bean
-    public SecurityWebFilterChain securityFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityFilterChain(ServerHttpSecurity http, ReactiveJwtDecoder jwtDecoder) {
         return http
                 .authorizeExchange(exchanges -> exchanges
                         // Endpoints públicos para documentación y salud
@@ -43,7 +50,7 @@ public class SecurityConfig {
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwt -> jwt
-                                .jwtDecoder(jwtDecoder())
+                                .jwtDecoder(jwtDecoder)
                                 .jwtAuthenticationConverter(jwtAuthenticationConverter())
                         )
                         .authenticationEntryPoint(jwtErrorHandler)
@@ -61,33 +68,19 @@ public class SecurityConfig {
             SecretKeySpec secretKeySpec = new SecretKeySpec(secretBytes, "HmacSHA256");
             ReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder.withSecretKey(secretKeySpec).build();
             log.info("JWT decoder configurado exitosamente para compatibilidad con ms-autenticacion");
-            return decoder;
+            return jwtCacheEnabled ? new CachingReactiveJwtDecoder(decoder, jwtCacheMaximumSize, meterRegistry) : decoder;
         } catch (Exception e) {
             log.error("Error configurando JWT decoder: {}", e.getMessage(), e);
             throw new RuntimeException("Error configurando JWT decoder", e);
         }
     }
 
+    /**
+     * Construye una sola vez por petición el usuario autenticado (documento, correo y rol) a partir
+     * del JWT; el rol es además la autoridad usada por @PreAuthorize.
+     */
     @Bean
-    public ReactiveJwtAuthenticationConverterAdapter jwtAuthenticationConverter() {
-        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
-        grantedAuthoritiesConverter.setAuthorityPrefix("");
-        // IMPORTANTE: ms-autenticacion usa "rol" (string), no "roles" (array)
-        grantedAuthoritiesConverter.setAuthoritiesClaimName("rol");
-
-        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
-        
-            // Log para depuración: mostrar el claim 'rol' y las autoridades extraídas
-            jwtAuthenticationConverter.setPrincipalClaimName("sub");
-            jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(jwt -> {
-                Object rolClaim = jwt.getClaims().get("rol");
-                log.info("[SECURITY] Claim 'rol' recibido en JWT: {}", rolClaim);
-                var authorities = grantedAuthoritiesConverter.convert(jwt);
-                log.info("[SECURITY] Autoridades extraídas: {}", authorities);
-                return authorities;
-            });
-
-        return new ReactiveJwtAuthenticationConverterAdapter(jwtAuthenticationConverter);
+    public UsuarioAutenticadoConverter jwtAuthenticationConverter() {
+        return new UsuarioAutenticadoConverter();
     }
 }
@@ -0,0 +1,46 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.pragma.crediya.solicitudes.infrastructure.tracing.ArchivoRotativoOutputStream;
+import com.pragma.crediya.solicitudes.infrastructure.tracing.OtlpJsonSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exportador de spans elegido con app.tracing.exporter.type. Ambos escriben una línea JSON OTLP
+ * (ExportTraceServiceRequest) por lote, el formato que lee el receptor otlpjsonfile del OpenTelemetry
+ * Collector, así que funcionan sin conexión. El muestreo se ajusta con management.tracing.sampling.probability.
+ * Por defecto (type none) no se registra ningún exportador y los spans solo se descartan.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * El archivo rota al alcanzar max-file-size, conservando una copia, y se cierra en el shutdown del
+     * exportador, al detenerse el contexto.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter.type", havingValue = "file")
+    public SpanExporter archivoOtlpSpanExporter(
+            @Value("${app.tracing.exporter.file:./data/traces/spans.ndjson}") Path archivo,
+            @Value("${app.tracing.exporter.max-file-size:100MB}") DataSize tamanoMaximo) throws IOException {
+        if (archivo.getParent() != null) {
+            Files.createDirectories(archivo.getParent());
+        }
+        return new OtlpJsonSpanExporter(new ArchivoRotativoOutputStream(archivo, tamanoMaximo.toBytes()), true);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter.type", havingValue = "stdout")
+    public SpanExporter stdoutOtlpSpanExporter() {
+        return new OtlpJsonSpanExporter(System.out, false);
+    }
+}
@@ -0,0 +1,160 @@
+package com.pragma.crediya.solicitudes.infrastructure.configuration;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.BatchingUserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.BulkFallbackUserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.CachingUserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.ResilientUserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.SingleFlightUserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.UserClientAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.client.UserLookupBatcher;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Configuración del cliente del microservicio de usuarios.
+ * Expone como {@link UserClientPort} principal el adaptador HTTP envuelto en sus decoradores:
+ * caché -> agrupación de consultas en curso -> lotes (opcional) -> respaldo de la consulta en bloque
+ * -> resiliencia -> HTTP.
+ */
+@Configuration
+public class UserClientConfiguration {
+
+    private static final String USER_SERVICE = "user-service";
+
+    /**
+     * Circuit breaker con ventana deslizante por número de llamadas. Solo los fallos transitorios
+     * (conexión, timeouts, 5xx) cuentan; un 4xx es un error de la petición, no del servicio.
+     */
+    @Bean
+    public CircuitBreaker userServiceCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${app.services.user-service.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.services.user-service.resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${app.services.user-service.resilience.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${app.services.user-service.resilience.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+            @Value("${app.services.user-service.resilience.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(ResilientUserClientAdapter::esFalloTransitorio)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(USER_SERVICE);
+    }
+
+    /**
+     * Bulkhead de concurrencia: limita las llamadas simultáneas y rechaza al instante las que exceden.
+     */
+    @Bean
+    public Bulkhead userServiceBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${app.services.user-service.resilience.bulkhead.max-concurrent-calls:25}") int maxConcurrentCalls,
+            @Value("${app.services.user-service.resilience.bulkhead.max-wait-duration:0ms}") Duration maxWaitDuration) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWaitDuration)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(USER_SERVICE);
+    }
+
+    /**
+     * Reintentos con backoff exponencial y jitter, aplicados solo a las consultas GET.
+     */
+    @Bean
+    public Retry userServiceRetry(
+            MeterRegistry meterRegistry,
+            @Value("${app.services.user-service.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${app.services.user-service.resilience.retry.initial-interval:100ms}") Duration initialInterval,
+            @Value("${app.services.user-service.resilience.retry.multiplier:2.0}") double multiplier,
+            @Value("${app.services.user-service.resilience.retry.randomization-factor:0.5}") double randomizationFactor) {
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialInterval, multiplier, randomizationFactor))
+                .retryOnException(ResilientUserClientAdapter::esFalloTransitorio)
+                .build());
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry(USER_SERVICE);
+    }
+
+    @Bean
+    public ResilientUserClientAdapter resilientUserClientAdapter(UserClientAdapter userClientAdapter,
+                                                                 CircuitBreaker userServiceCircuitBreaker,
+                                                                 Bulkhead userServiceBulkhead,
+                                                                 Retry userServiceRetry) {
+        return new ResilientUserClientAdapter(userClientAdapter, userServiceCircuitBreaker,
+                userServiceBulkhead, userServiceRetry);
+    }
+
+    /**
+     * Sin el endpoint app.services.user-service.endpoints.get-by-documents (batch.enabled en false,
+     * o 404/405 del microservicio) las consultas en bloque se resuelven documento a documento.
+     */
+    @Bean
+    public BulkFallbackUserClientAdapter bulkFallbackUserClientAdapter(
+            ResilientUserClientAdapter resilientUserClientAdapter,
+            @Value("${app.services.user-service.batch.enabled:false}") boolean consultaEnBloqueHabilitada,
+            @Value("${app.services.user-service.batch.fallback-concurrency:8}") int concurrencia) {
+        return new BulkFallbackUserClientAdapter(resilientUserClientAdapter, consultaEnBloqueHabilitada, concurrencia);
+    }
+
+    /**
+     * Recolector de consultas en bloque. Requiere que el microservicio de usuarios exponga
+     * el endpoint app.services.user-service.endpoints.get-by-documents.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.services.user-service.batch.enabled", havingValue = "true")
+    public UserLookupBatcher userLookupBatcher(
+            BulkFallbackUserClientAdapter bulkFallbackUserClientAdapter,
+            @Value("${app.services.user-service.batch.max-size:100}") int maxBatchSize,
+            @Value("${app.services.user-service.batch.window:10ms}") Duration ventana) {
+        return new UserLookupBatcher(bulkFallbackUserClientAdapter, maxBatchSize, ventana);
+    }
+
+    @Bean
+    @Primary
+    public UserClientPort userClientPort(
+            BulkFallbackUserClientAdapter bulkFallbackUserClientAdapter,
+            ObjectProvider<UserLookupBatcher> userLookupBatcher,
+            MeterRegistry meterRegistry,
+            @Value("${app.services.user-service.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${app.services.user-service.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.services.user-service.cache.ttl:10m}") Duration ttl,
+            @Value("${app.services.user-service.cache.not-found-ttl:30s}") Duration ttlNoEncontrado) {
+        UserLookupBatcher batcher = userLookupBatcher.getIfAvailable();
+        UserClientPort cliente = batcher != null
+                ? new BatchingUserClientAdapter(bulkFallbackUserClientAdapter, batcher)
+                : bulkFallbackUserClientAdapter;
+        cliente = new SingleFlightUserClientAdapter(cliente, meterRegistry);
+        if (!cacheEnabled) {
+            return cliente;
+        }
+        return new CachingUserClientAdapter(cliente, maximumSize, ttl, ttlNoEncontrado, meterRegistry);
+    }
+}
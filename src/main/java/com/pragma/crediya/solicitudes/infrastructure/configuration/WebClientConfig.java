@@ -1,8 +1,16 @@
 package com.pragma.crediya.solicitudes.infrastructure.configuration;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuración de WebClient para comunicación entre microservicios
@@ -10,10 +18,67 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Pool de conexiones dedicado al microservicio de usuarios. Limita las conexiones y la cola de
+     * adquisiciones pendientes para que un servicio lento devuelva errores rápidos en lugar de
+     * acumular peticiones. Publica los gauges reactor.netty.connection.provider.* (active, idle, pending).
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userServiceConnectionProvider(
+            @Value("${app.services.user-service.pool.max-connections:50}") int maxConnections,
+            @Value("${app.services.user-service.pool.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${app.services.user-service.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${app.services.user-service.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${app.services.user-service.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${app.services.user-service.pool.evict-interval:30s}") Duration evictInterval) {
+        return ConnectionProvider.builder("user-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Parte del {@link WebClient.Builder} de Spring Boot, que ya viene instrumentado: cada llamada publica
+     * el timer http.client.requests (uri, method, status, outcome).
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider userServiceConnectionProvider,
+            @Value("${app.services.user-service.base-url:http://localhost:8080}") String baseUrl,
+            @Value("${app.services.user-service.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${app.services.user-service.response-timeout:3s}") Duration responseTimeout,
+            @Value("${app.services.user-service.keep-alive:true}") boolean keepAlive,
+            @Value("${app.services.user-service.http2:false}") boolean http2) {
+        HttpClient httpClient = HttpClient.create(userServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .responseTimeout(responseTimeout)
+                .protocol(protocolos(http2, baseUrl));
+        if (http2 && baseUrl.startsWith("https")) {
+            httpClient = httpClient.secure();
+        }
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB
                 .build();
     }
+
+    /**
+     * HTTP/2 sobre TLS (h2) para URLs https y en texto plano (h2c) para http; HTTP/1.1 queda como alternativa.
+     */
+    private static HttpProtocol[] protocolos(boolean http2, String baseUrl) {
+        if (!http2) {
+            return new HttpProtocol[]{HttpProtocol.HTTP11};
+        }
+        HttpProtocol h2 = baseUrl.startsWith("https") ? HttpProtocol.H2 : HttpProtocol.H2C;
+        return new HttpProtocol[]{h2, HttpProtocol.HTTP11};
+    }
 }
@@ -1,31 +1,34 @@
 package com.pragma.crediya.solicitudes.infrastructure.security;
 
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-@Slf4j
+/**
+ * Acceso al usuario autenticado de la petición. El {@link UsuarioAutenticado} lo construye
+ * {@link UsuarioAutenticadoConverter} al autenticar, así que aquí solo se lee del contexto de Reactor.
+ */
 @Component
 public class AuthenticationContext {
 
+    /**
+     * Obtiene el usuario autenticado; vacío si la petición no está autenticada con JWT.
+     */
+    public Mono<UsuarioAutenticado> getUsuarioActual() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .mapNotNull(AuthenticationContext::usuarioDe);
+    }
+
     /**
      * Obtiene el documento de identidad del usuario autenticado.
      * ms-autenticacion usa el claim "documento"
      */
     public Mono<String> getCurrentUserDocument() {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(securityContext -> securityContext.getAuthentication())
-                .cast(JwtAuthenticationToken.class)
-                .map(jwtToken -> {
-                    Jwt jwt = jwtToken.getToken();
-                    String documento = jwt.getClaimAsString("documento");
-                    log.debug("Documento extraído del JWT: {}", documento);
-                    return documento;
-                })
-                .doOnError(error -> log.error("Error extrayendo documento del contexto de autenticación: {}", error.getMessage(), error));
+        return getUsuarioActual().mapNotNull(UsuarioAutenticado::documento);
     }
 
     /**
@@ -33,16 +36,7 @@ public class AuthenticationContext {
      * ms-autenticacion usa el claim "correo"
      */
     public Mono<String> getCurrentUserEmail() {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(securityContext -> securityContext.getAuthentication())
-                .cast(JwtAuthenticationToken.class)
-                .map(jwtToken -> {
-                    Jwt jwt = jwtToken.getToken();
-                    String correo = jwt.getClaimAsString("correo");
-                    log.debug("Email extraído del JWT: {}", correo);
-                    return correo;
-                })
-                .doOnError(error -> log.error("Error extrayendo email del contexto de autenticación: {}", error.getMessage(), error));
+        return getUsuarioActual().mapNotNull(UsuarioAutenticado::correo);
     }
 
     /**
@@ -50,28 +44,15 @@ public class AuthenticationContext {
      * ms-autenticacion usa el claim "rol" (string único, no array)
      */
     public Mono<String> getCurrentUserRole() {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(securityContext -> securityContext.getAuthentication())
-                .cast(JwtAuthenticationToken.class)
-                .map(jwtToken -> {
-                    Jwt jwt = jwtToken.getToken();
-                    String rol = jwt.getClaimAsString("rol");
-                    log.debug("Rol extraído del JWT: {}", rol);
-                    return rol;
-                })
-                .doOnError(error -> log.error("Error extrayendo rol del contexto de autenticación: {}", error.getMessage(), error));
+        return getUsuarioActual().map(usuario -> usuario.rol().name());
     }
 
     /**
      * Verifica si el usuario tiene un rol específico.
      */
     public Mono<Boolean> hasRole(String role) {
-        return getCurrentUserRole()
-                .map(userRole -> {
-                    boolean hasRole = role.equals(userRole);
-                    log.debug("Usuario tiene rol '{}': {}", role, hasRole);
-                    return hasRole;
-                })
+        return getUsuarioActual()
+                .map(usuario -> usuario.rol().name().equals(role))
                 .defaultIfEmpty(false);
     }
 
@@ -79,12 +60,8 @@ public class AuthenticationContext {
      * Verifica si el usuario es ADMIN o ASESOR.
      */
     public Mono<Boolean> isAdminOrAsesor() {
-        return getCurrentUserRole()
-                .map(rol -> {
-                    boolean isAdminOrAsesor = "ADMIN".equals(rol) || "ASESOR".equals(rol);
-                    log.debug("Usuario es ADMIN o ASESOR: {}", isAdminOrAsesor);
-                    return isAdminOrAsesor;
-                })
+        return getUsuarioActual()
+                .map(UsuarioAutenticado::esAdminOAsesor)
                 .defaultIfEmpty(false);
     }
 
@@ -92,6 +69,16 @@ public class AuthenticationContext {
      * Verifica si el usuario es CLIENTE.
      */
     public Mono<Boolean> isCliente() {
-        return hasRole("CLIENTE");
+        return hasRole(RolUsuario.CLIENTE.name());
+    }
+
+    private static UsuarioAutenticado usuarioDe(Authentication authentication) {
+        if (authentication instanceof UsuarioAutenticadoToken token) {
+            return token.getUsuario();
+        }
+        if (authentication instanceof JwtAuthenticationToken token) {
+            return UsuarioAutenticado.desde(token.getToken());
+        }
+        return null;
     }
 }
@@ -0,0 +1,101 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Decorador de {@link ReactiveJwtDecoder} que recuerda los tokens ya verificados. La clave es el
+ * SHA-256 del token, así un acierto se resuelve sin verificar la firma HMAC ni parsear los claims,
+ * y cada entrada expira en el 'exp' del propio token. Los tokens sin 'exp' y los rechazados no se
+ * guardan. Publica las métricas cache.gets (hit/miss), cache.evictions y cache.size con cache=jwt.
+ */
+@Slf4j
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    static final String CACHE_NAME = "jwt";
+
+    private final ReactiveJwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Clock clock;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry,
+                              Ticker ticker, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(hastaExpiracion())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Caché de JWT verificados habilitada - tamaño máximo: {}", maximumSize);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        return Mono.defer(() -> {
+            String clave = digerir(token);
+            Jwt verificado = cache.getIfPresent(clave);
+            if (verificado != null) {
+                return Mono.just(verificado);
+            }
+            return delegate.decode(token)
+                    .doOnNext(jwt -> {
+                        if (jwt.getExpiresAt() != null) {
+                            cache.put(clave, jwt);
+                        }
+                    });
+        });
+    }
+
+    private Expiry<String, Jwt> hastaExpiracion() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String clave, Jwt jwt, long currentTime) {
+                Duration restante = Duration.between(Instant.now(clock), jwt.getExpiresAt());
+                return Math.max(0, restante.toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(String clave, Jwt jwt, long currentTime, long currentDuration) {
+                return expireAfterCreate(clave, jwt, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String clave, Jwt jwt, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static String digerir(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+/**
+ * Roles emitidos por ms-autenticacion en el claim "rol".
+ */
+public enum RolUsuario {
+    ADMIN,
+    ASESOR,
+    CLIENTE,
+    /** Claim ausente o con un valor que este servicio no reconoce. */
+    DESCONOCIDO;
+
+    public static RolUsuario desde(String rol) {
+        if (rol == null) {
+            return DESCONOCIDO;
+        }
+        return switch (rol) {
+            case "ADMIN" -> ADMIN;
+            case "ASESOR" -> ASESOR;
+            case "CLIENTE" -> CLIENTE;
+            default -> DESCONOCIDO;
+        };
+    }
+
+    public boolean esAdminOAsesor() {
+        return this == ADMIN || this == ASESOR;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Usuario de la petición, resuelto una sola vez a partir de los claims del JWT
+ * (ms-autenticacion usa "documento", "correo" y "rol").
+ */
+public record UsuarioAutenticado(String documento, String correo, RolUsuario rol) {
+
+    public static UsuarioAutenticado desde(Jwt jwt) {
+        return new UsuarioAutenticado(jwt.getClaimAsString("documento"), jwt.getClaimAsString("correo"),
+                RolUsuario.desde(jwt.getClaimAsString("rol")));
+    }
+
+    public boolean esAdminOAsesor() {
+        return rol.esAdminOAsesor();
+    }
+
+    /**
+     * ADMIN/ASESOR acceden a cualquier cliente; cualquier otro rol solo a sí mismo.
+     */
+    public boolean puedeAccederA(String documentoIdentidad) {
+        return esAdminOAsesor() || (documento != null && documento.equals(documentoIdentidad));
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Convierte el JWT verificado en un {@link UsuarioAutenticadoToken}. El claim "rol" (un string, no un
+ * arreglo) es la única autoridad, sin prefijo, para que funcionen las reglas hasAuthority('ADMIN').
+ */
+public class UsuarioAutenticadoConverter implements Converter<Jwt, Mono<AbstractAuthenticationToken>> {
+
+    @Override
+    public Mono<AbstractAuthenticationToken> convert(Jwt jwt) {
+        String rol = jwt.getClaimAsString("rol");
+        List<GrantedAuthority> authorities = rol == null || rol.isBlank()
+                ? List.of()
+                : List.of(new SimpleGrantedAuthority(rol));
+        return Mono.just(new UsuarioAutenticadoToken(jwt, authorities, UsuarioAutenticado.desde(jwt)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * Autenticación JWT que además lleva el {@link UsuarioAutenticado} ya resuelto.
+ */
+public class UsuarioAutenticadoToken extends JwtAuthenticationToken {
+
+    private final transient UsuarioAutenticado usuario;
+
+    public UsuarioAutenticadoToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, UsuarioAutenticado usuario) {
+        super(jwt, authorities, jwt.getSubject());
+        this.usuario = usuario;
+    }
+
+    public UsuarioAutenticado getUsuario() {
+        return usuario;
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Archivo de salida con tamaño acotado: al superar {@code tamanoMaximo} se renombra a {@code <archivo>.1},
+ * reemplazando la copia anterior, y se empieza uno nuevo, así que en disco nunca hay más de dos archivos.
+ * Solo rota en {@link #flush()}, que {@link OtlpJsonSpanExporter} invoca tras cada línea completa, para
+ * no partir una línea JSON entre dos archivos.
+ */
+public class ArchivoRotativoOutputStream extends OutputStream {
+
+    private final Path archivo;
+    private final Path anterior;
+    private final long tamanoMaximo;
+    private OutputStream salida;
+    private long tamano;
+
+    public ArchivoRotativoOutputStream(Path archivo, long tamanoMaximo) throws IOException {
+        this.archivo = archivo;
+        this.anterior = archivo.resolveSibling(archivo.getFileName() + ".1");
+        this.tamanoMaximo = tamanoMaximo;
+        abrir();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        salida.write(b);
+        tamano++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        salida.write(b, off, len);
+        tamano += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        salida.flush();
+        if (tamano >= tamanoMaximo) {
+            salida.close();
+            Files.move(archivo, anterior, StandardCopyOption.REPLACE_EXISTING);
+            abrir();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        salida.close();
+    }
+
+    private void abrir() throws IOException {
+        salida = Files.newOutputStream(archivo, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        tamano = Files.size(archivo);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import com.pragma.crediya.solicitudes.domain.model.CursorSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.observability.SignalListenerFactory;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Decorador de {@link ISolicitudServicePort} que abre una observación (span y timer) por cada método del
+ * caso de uso. La observación se toma como padre del contexto de Reactor, así las llamadas HTTP y las
+ * sentencias R2DBC del método quedan anidadas bajo ella.
+ */
+public class ObservedSolicitudService implements ISolicitudServicePort {
+
+    static final String OBSERVACION = "solicitudes.caso-uso";
+
+    private final ISolicitudServicePort delegate;
+    private final ObservationRegistry observationRegistry;
+
+    public ObservedSolicitudService(ISolicitudServicePort delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Mono<SolicitudPrestamo> crearSolicitudConToken(SolicitudPrestamo solicitud, String jwtToken) {
+        return Mono.defer(() -> delegate.crearSolicitudConToken(solicitud, jwtToken))
+                .tap(observacion("crearSolicitudConToken"));
+    }
+
+    @Override
+    public Mono<SolicitudPrestamo> crearSolicitud(SolicitudPrestamo solicitud) {
+        return Mono.defer(() -> delegate.crearSolicitud(solicitud))
+                .tap(observacion("crearSolicitud"));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerTodasLasSolicitudes() {
+        return Flux.defer(delegate::obtenerTodasLasSolicitudes)
+                .tap(observacion("obtenerTodasLasSolicitudes"));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPorCliente(String documentoIdentidad) {
+        return Flux.defer(() -> delegate.obtenerSolicitudesPorCliente(documentoIdentidad))
+                .tap(observacion("obtenerSolicitudesPorCliente"));
+    }
+
+    @Override
+    public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesRevision(String estado, int page, int size) {
+        return Flux.defer(() -> delegate.obtenerSolicitudesRevision(estado, page, size))
+                .tap(observacion("obtenerSolicitudesRevision"));
+    }
+
+    @Override
+    public Mono<Long> contarSolicitudesRevision(String estado) {
+        return Mono.defer(() -> delegate.contarSolicitudesRevision(estado))
+                .tap(observacion("contarSolicitudesRevision"));
+    }
+
+    @Override
+    public Flux<RevisionSolicitudResponseDto> obtenerSolicitudesRevisionDesdeCursor(String estado, CursorSolicitud cursor, int size) {
+        return Flux.defer(() -> delegate.obtenerSolicitudesRevisionDesdeCursor(estado, cursor, size))
+                .tap(observacion("obtenerSolicitudesRevisionDesdeCursor"));
+    }
+
+    @Override
+    public Flux<SolicitudPrestamo> obtenerSolicitudesPorClienteDesdeCursor(String documentoIdentidad, CursorSolicitud cursor, int size) {
+        return Flux.defer(() -> delegate.obtenerSolicitudesPorClienteDesdeCursor(documentoIdentidad, cursor, size))
+                .tap(observacion("obtenerSolicitudesPorClienteDesdeCursor"));
+    }
+
+    @Override
+    public Flux<ItemLote> crearSolicitudesEnLote(Flux<ItemLote> items, String jwtToken) {
+        return Flux.defer(() -> delegate.crearSolicitudesEnLote(items, jwtToken))
+                .tap(observacion("crearSolicitudesEnLote"));
+    }
+
+    /**
+     * La exportación puede durar minutos: su observación abarca el stream completo.
+     */
+    @Override
+    public Flux<SolicitudPrestamo> exportarSolicitudes(String estado, String tipoPrestamo, LocalDate desde, LocalDate hasta) {
+        return Flux.defer(() -> delegate.exportarSolicitudes(estado, tipoPrestamo, desde, hasta))
+                .tap(observacion("exportarSolicitudes"));
+    }
+
+    private <T> SignalListenerFactory<T, ?> observacion(String metodo) {
+        return Micrometer.observation(observationRegistry, registry -> Observation.createNotStarted(OBSERVACION, registry)
+                .contextualName("SolicitudUseCase." + metodo)
+                .lowCardinalityKeyValue("metodo", metodo));
+    }
+}
@@ -0,0 +1,228 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SpanExporter que escribe cada lote como una línea JSON OTLP (ExportTraceServiceRequest), el formato que
+ * lee el receptor otlpjsonfile del OpenTelemetry Collector. Sigue el mapeo JSON de OTLP: IDs en hexadecimal,
+ * enteros de 64 bits como texto y los campos vacíos omitidos.
+ * <p>
+ * Con {@code cerrarSalida} el exportador es dueño del flujo (un archivo) y lo cierra en shutdown; la salida
+ * estándar se deja abierta.
+ */
+@Slf4j
+public class OtlpJsonSpanExporter implements SpanExporter {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final byte[] FIN_LINEA = {'\n'};
+
+    private final OutputStream salida;
+    private final boolean cerrarSalida;
+    private boolean detenido;
+
+    public OtlpJsonSpanExporter(OutputStream salida, boolean cerrarSalida) {
+        this.salida = salida;
+        this.cerrarSalida = cerrarSalida;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (detenido) {
+            return CompletableResultCode.ofFailure();
+        }
+        if (spans.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            salida.write(JSON.writeValueAsBytes(peticion(spans)));
+            salida.write(FIN_LINEA);
+            salida.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("No se pudieron exportar {} spans: {}", spans.size(), e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        if (detenido) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            salida.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("No se pudo vaciar la salida de spans: {}", e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    /**
+     * Idempotente: lo invocan tanto el procesador de spans como el cierre del contexto de Spring.
+     */
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (detenido) {
+            return CompletableResultCode.ofSuccess();
+        }
+        detenido = true;
+        try {
+            if (cerrarSalida) {
+                salida.close();
+            } else {
+                salida.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("No se pudo cerrar la salida de spans: {}", e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    static ObjectNode peticion(Collection<SpanData> spans) {
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> agrupados = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            agrupados.computeIfAbsent(span.getResource(), recurso -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationScopeInfo(), alcance -> new ArrayList<>())
+                    .add(span);
+        }
+        ObjectNode peticion = JSON.createObjectNode();
+        ArrayNode resourceSpans = peticion.putArray("resourceSpans");
+        agrupados.forEach((recurso, porAlcance) -> {
+            ObjectNode nodoRecurso = resourceSpans.addObject();
+            atributos(nodoRecurso.putObject("resource"), recurso.getAttributes());
+            ArrayNode scopeSpans = nodoRecurso.putArray("scopeSpans");
+            porAlcance.forEach((alcance, spansDelAlcance) -> {
+                ObjectNode nodoAlcance = scopeSpans.addObject();
+                ObjectNode scope = nodoAlcance.putObject("scope");
+                scope.put("name", alcance.getName());
+                texto(scope, "version", alcance.getVersion());
+                atributos(scope, alcance.getAttributes());
+                ArrayNode nodosSpan = nodoAlcance.putArray("spans");
+                spansDelAlcance.forEach(span -> span(nodosSpan.addObject(), span));
+                texto(nodoAlcance, "schemaUrl", alcance.getSchemaUrl());
+            });
+            texto(nodoRecurso, "schemaUrl", recurso.getSchemaUrl());
+        });
+        return peticion;
+    }
+
+    private static void span(ObjectNode nodo, SpanData span) {
+        nodo.put("traceId", span.getTraceId());
+        nodo.put("spanId", span.getSpanId());
+        texto(nodo, "traceState", span.getSpanContext().getTraceState().isEmpty() ? null
+                : span.getSpanContext().getTraceState().asMap().entrySet().stream()
+                        .map(entrada -> entrada.getKey() + "=" + entrada.getValue())
+                        .collect(Collectors.joining(",")));
+        if (span.getParentSpanContext().isValid()) {
+            nodo.put("parentSpanId", span.getParentSpanId());
+        }
+        nodo.put("flags", span.getSpanContext().getTraceFlags().asByte() & 0xff);
+        nodo.put("name", span.getName());
+        // SpanKind de OTLP: 0 sin especificar, luego INTERNAL, SERVER, CLIENT, PRODUCER, CONSUMER
+        nodo.put("kind", span.getKind().ordinal() + 1);
+        nodo.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        nodo.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        atributos(nodo, span.getAttributes());
+        descartados(nodo, "droppedAttributesCount", span.getTotalAttributeCount(), span.getAttributes().size());
+        if (!span.getEvents().isEmpty()) {
+            ArrayNode eventos = nodo.putArray("events");
+            for (EventData evento : span.getEvents()) {
+                ObjectNode nodoEvento = eventos.addObject();
+                nodoEvento.put("timeUnixNano", Long.toString(evento.getEpochNanos()));
+                nodoEvento.put("name", evento.getName());
+                atributos(nodoEvento, evento.getAttributes());
+                descartados(nodoEvento, "droppedAttributesCount", evento.getTotalAttributeCount(), evento.getAttributes().size());
+            }
+        }
+        descartados(nodo, "droppedEventsCount", span.getTotalRecordedEvents(), span.getEvents().size());
+        if (!span.getLinks().isEmpty()) {
+            ArrayNode enlaces = nodo.putArray("links");
+            for (LinkData enlace : span.getLinks()) {
+                SpanContext contexto = enlace.getSpanContext();
+                ObjectNode nodoEnlace = enlaces.addObject();
+                nodoEnlace.put("traceId", contexto.getTraceId());
+                nodoEnlace.put("spanId", contexto.getSpanId());
+                atributos(nodoEnlace, enlace.getAttributes());
+                descartados(nodoEnlace, "droppedAttributesCount", enlace.getTotalAttributeCount(), enlace.getAttributes().size());
+            }
+        }
+        descartados(nodo, "droppedLinksCount", span.getTotalRecordedLinks(), span.getLinks().size());
+        StatusData estado = span.getStatus();
+        ObjectNode nodoEstado = nodo.putObject("status");
+        texto(nodoEstado, "message", estado.getDescription());
+        // StatusCode de OTLP: UNSET, OK, ERROR en el mismo orden que el SDK
+        if (estado.getStatusCode().ordinal() != 0) {
+            nodoEstado.put("code", estado.getStatusCode().ordinal());
+        }
+    }
+
+    private static void atributos(ObjectNode nodo, Attributes atributos) {
+        if (atributos.isEmpty()) {
+            return;
+        }
+        ArrayNode lista = nodo.putArray("attributes");
+        atributos.forEach((clave, valor) -> {
+            ObjectNode atributo = lista.addObject();
+            atributo.put("key", clave.getKey());
+            valor(atributo.putObject("value"), clave, valor);
+        });
+    }
+
+    private static void valor(ObjectNode nodo, AttributeKey<?> clave, Object valor) {
+        switch (clave.getType()) {
+            case BOOLEAN -> nodo.put("boolValue", (Boolean) valor);
+            case LONG -> nodo.put("intValue", valor.toString());
+            case DOUBLE -> nodo.put("doubleValue", (Double) valor);
+            case STRING_ARRAY, BOOLEAN_ARRAY, LONG_ARRAY, DOUBLE_ARRAY -> {
+                ArrayNode valores = nodo.putObject("arrayValue").putArray("values");
+                for (Object elemento : (List<?>) valor) {
+                    ObjectNode nodoElemento = valores.addObject();
+                    switch (clave.getType()) {
+                        case BOOLEAN_ARRAY -> nodoElemento.put("boolValue", (Boolean) elemento);
+                        case LONG_ARRAY -> nodoElemento.put("intValue", elemento.toString());
+                        case DOUBLE_ARRAY -> nodoElemento.put("doubleValue", (Double) elemento);
+                        default -> nodoElemento.put("stringValue", String.valueOf(elemento));
+                    }
+                }
+            }
+            default -> nodo.put("stringValue", String.valueOf(valor));
+        }
+    }
+
+    private static void texto(ObjectNode nodo, String campo, String valor) {
+        if (valor != null && !valor.isEmpty()) {
+            nodo.put(campo, valor);
+        }
+    }
+
+    private static void descartados(ObjectNode nodo, String campo, int total, int registrados) {
+        if (total > registrados) {
+            nodo.put(campo, total - registrados);
+        }
+    }
+}
@@ -46,6 +46,39 @@ CREATE TABLE IF NOT EXISTS solicitud (
     FOREIGN KEY (id_tipo_prestamo) REFERENCES tipo_prestamo(id_tipo_prestamo)
 );
 
+-- Resumen precalculado por cliente, mantenido en la misma transacción que las escrituras de solicitud
+CREATE TABLE IF NOT EXISTS resumen_cliente (
+    documento_identidad VARCHAR(20) PRIMARY KEY,
+    total_aprobado DECIMAL(17,2) NOT NULL DEFAULT 0,
+    cuota_mensual_aprobada DECIMAL(17,2) NOT NULL DEFAULT 0,
+    cantidad_pendiente_revision INTEGER NOT NULL DEFAULT 0,
+    cantidad_en_evaluacion INTEGER NOT NULL DEFAULT 0,
+    cantidad_aprobada INTEGER NOT NULL DEFAULT 0,
+    cantidad_rechazada INTEGER NOT NULL DEFAULT 0,
+    cantidad_desembolsada INTEGER NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP NOT NULL
+);
+
+-- Outbox de eventos de solicitudes, escrito en la misma transacción que la solicitud y vaciado por el relay
+CREATE TABLE IF NOT EXISTS solicitud_outbox (
+    id_evento BIGSERIAL PRIMARY KEY,
+    id_solicitud BIGINT NOT NULL,
+    tipo_evento VARCHAR(40) NOT NULL,
+    payload TEXT NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL,
+    fecha_envio TIMESTAMP
+);
+
+-- Claves de idempotencia de POST /api/v1/solicitudes: reserva mientras se ejecuta y respuesta almacenada después
+CREATE TABLE IF NOT EXISTS solicitud_idempotencia (
+    clave VARCHAR(150) PRIMARY KEY,
+    huella CHAR(64) NOT NULL,
+    estado_http INTEGER,
+    respuesta TEXT,
+    fecha_creacion TIMESTAMP NOT NULL,
+    fecha_expiracion TIMESTAMP NOT NULL
+);
+
 -- Insertar estados de solicitud (datos maestros) solo si no existen
 INSERT INTO estados (nombre, descripcion) 
 SELECT 'PENDIENTE_REVISION', 'Solicitud pendiente de revisión inicial'
@@ -112,3 +145,21 @@ WHERE NOT EXISTS (SELECT 1 FROM usuarios WHERE documento_identidad = '87654321')
 INSERT INTO usuarios (nombres, apellidos, fecha_nacimiento, direccion, telefono, correo_electronico, salario_base, documento_identidad) 
 SELECT 'Carlos Andrés', 'Martínez Silva', '1992-11-08', 'Avenida 68 #25-14', '+57 320 456 7890', 'carlos.martinez@email.com', 2800000.00, '11223344'
 WHERE NOT EXISTS (SELECT 1 FROM usuarios WHERE documento_identidad = '11223344');
+
+-- Índices para la paginación por cursor (fecha_creacion, id_solicitud) de los listados
+CREATE INDEX IF NOT EXISTS idx_solicitud_estado_fecha_id
+    ON solicitud (id_estado, fecha_creacion DESC, id_solicitud DESC);
+
+CREATE INDEX IF NOT EXISTS idx_solicitud_fecha_id
+    ON solicitud (fecha_creacion DESC, id_solicitud DESC);
+
+CREATE INDEX IF NOT EXISTS idx_solicitud_documento_fecha_id
+    ON solicitud (documento_identidad, fecha_creacion DESC, id_solicitud DESC);
+
+-- Índice para que el relay del outbox encuentre los eventos pendientes en orden
+CREATE INDEX IF NOT EXISTS idx_solicitud_outbox_pendientes
+    ON solicitud_outbox (fecha_envio, id_evento);
+
+-- Índice para la purga de claves de idempotencia vencidas
+CREATE INDEX IF NOT EXISTS idx_solicitud_idempotencia_expiracion
+    ON solicitud_idempotencia (fecha_expiracion);
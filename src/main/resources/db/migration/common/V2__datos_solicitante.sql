@@ -0,0 +1,5 @@
+-- Datos del solicitante y tasa de interés copiados al crear la solicitud, para que las lecturas
+-- no dependan del servicio de usuarios ni del catálogo
+ALTER TABLE solicitud ADD COLUMN IF NOT EXISTS nombre VARCHAR(201);
+ALTER TABLE solicitud ADD COLUMN IF NOT EXISTS salario_base DECIMAL(12,2);
+ALTER TABLE solicitud ADD COLUMN IF NOT EXISTS tasa_interes DECIMAL(5,4);
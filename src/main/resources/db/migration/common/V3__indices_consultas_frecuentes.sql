@@ -0,0 +1,4 @@
+-- Solicitudes de un cliente, con el estado en el índice para las consultas que filtran o agrupan por él.
+-- El listado de revisión por estado ya usa idx_solicitud_estado_fecha_id (id_estado, fecha_creacion, id_solicitud).
+CREATE INDEX IF NOT EXISTS idx_solicitud_documento_estado
+    ON solicitud (documento_identidad, id_estado);
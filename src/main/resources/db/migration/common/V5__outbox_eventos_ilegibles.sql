@@ -0,0 +1,3 @@
+-- Motivo por el que el relay no pudo leer un evento del outbox; los eventos marcados se apartan de la
+-- cola de pendientes para que no bloqueen a los siguientes y se revisan a mano
+ALTER TABLE solicitud_outbox ADD COLUMN IF NOT EXISTS error VARCHAR(500);
@@ -0,0 +1,24 @@
+-- Carga inicial de resumen_cliente con las solicitudes existentes: V1 crea la tabla vacía y la proyección
+-- solo aplica deltas, así que sin esta carga los clientes con préstamos aprobados antes del despliegue
+-- tendrían deuda 0. Misma fórmula que IResumenClienteRepository#reconstruirResumenes (cuota por
+-- amortización francesa con tasa_interes, o monto/plazo sin tasa, redondeada a 2 decimales por solicitud).
+DELETE FROM resumen_cliente;
+
+INSERT INTO resumen_cliente (documento_identidad, total_aprobado, cuota_mensual_aprobada,
+                             cantidad_pendiente_revision, cantidad_en_evaluacion, cantidad_aprobada,
+                             cantidad_rechazada, cantidad_desembolsada, fecha_actualizacion)
+SELECT s.documento_identidad,
+       COALESCE(SUM(CASE WHEN e.nombre = 'APROBADA' THEN s.monto END), 0),
+       COALESCE(SUM(CASE WHEN e.nombre <> 'APROBADA' OR s.plazo <= 0 THEN NULL
+                         WHEN s.tasa_interes IS NULL OR s.tasa_interes = 0 THEN ROUND(s.monto / s.plazo, 2)
+                         ELSE ROUND(s.monto * s.tasa_interes * CAST(POWER(1 + s.tasa_interes, s.plazo) AS DECIMAL(32,16))
+                                    / (CAST(POWER(1 + s.tasa_interes, s.plazo) AS DECIMAL(32,16)) - 1), 2) END), 0),
+       COUNT(CASE WHEN e.nombre = 'PENDIENTE_REVISION' THEN 1 END),
+       COUNT(CASE WHEN e.nombre = 'EN_EVALUACION' THEN 1 END),
+       COUNT(CASE WHEN e.nombre = 'APROBADA' THEN 1 END),
+       COUNT(CASE WHEN e.nombre = 'RECHAZADA' THEN 1 END),
+       COUNT(CASE WHEN e.nombre = 'DESEMBOLSADA' THEN 1 END),
+       CURRENT_TIMESTAMP
+FROM solicitud s
+JOIN estados e ON e.id_estado = s.id_estado
+GROUP BY s.documento_identidad;
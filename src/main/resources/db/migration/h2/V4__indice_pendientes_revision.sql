@@ -0,0 +1,2 @@
+-- H2 no admite índices parciales: la cola de PENDIENTE_REVISION se resuelve con
+-- idx_solicitud_estado_fecha_id, que tiene el mismo orden con id_estado como prefijo.
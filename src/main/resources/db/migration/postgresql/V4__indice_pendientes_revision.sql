@@ -0,0 +1,10 @@
+-- Índice parcial de la cola de revisión: solo las solicitudes PENDIENTE_REVISION, en el orden del listado.
+-- El predicado de un índice parcial no admite subconsultas, así que el id del estado se resuelve antes.
+DO $$
+BEGIN
+    EXECUTE format(
+        'CREATE INDEX IF NOT EXISTS idx_solicitud_pendientes_fecha_id '
+            || 'ON solicitud (fecha_creacion DESC, id_solicitud DESC) WHERE id_estado = %s',
+        (SELECT id_estado FROM estados WHERE nombre = 'PENDIENTE_REVISION'));
+END
+$$;
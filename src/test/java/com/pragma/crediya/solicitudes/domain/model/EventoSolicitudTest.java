@@ -0,0 +1,75 @@
+package com.pragma.crediya.solicitudes.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para el evento de dominio EventoSolicitud.
+ */
+@DisplayName("EventoSolicitud - Tests del modelo de dominio")
+class EventoSolicitudTest {
+
+    private SolicitudPrestamo solicitud;
+
+    @BeforeEach
+    void setUp() {
+        solicitud = SolicitudPrestamo.builder()
+                .id(1L)
+                .documentoIdentidad("12345678")
+                .monto(new BigDecimal("5000000"))
+                .plazo(24)
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                .fechaCreacion(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería generar SOLICITUD_CREADA cuando no hay versión anterior")
+    void deberiaGenerarSolicitudCreada() {
+        // Act
+        EventoSolicitud evento = EventoSolicitud.desdeCambio(null, solicitud).orElseThrow();
+
+        // Assert
+        assertThat(evento.tipo()).isEqualTo(EventoSolicitud.SOLICITUD_CREADA);
+        assertThat(evento.idEvento()).isNull();
+        assertThat(evento.idSolicitud()).isEqualTo(1L);
+        assertThat(evento.estado()).isEqualTo(EstadoSolicitud.PENDIENTE_REVISION);
+        assertThat(evento.estadoAnterior()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería generar ESTADO_CAMBIADO con el estado anterior cuando cambia el estado")
+    void deberiaGenerarEstadoCambiado() {
+        // Arrange
+        SolicitudPrestamo aprobada = SolicitudPrestamo.builder()
+                .id(1L)
+                .documentoIdentidad("12345678")
+                .monto(new BigDecimal("5000000"))
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .estado(EstadoSolicitud.APROBADA)
+                .build();
+
+        // Act
+        EventoSolicitud evento = EventoSolicitud.desdeCambio(solicitud, aprobada).orElseThrow();
+
+        // Assert
+        assertThat(evento.tipo()).isEqualTo(EventoSolicitud.ESTADO_CAMBIADO);
+        assertThat(evento.estado()).isEqualTo(EstadoSolicitud.APROBADA);
+        assertThat(evento.estadoAnterior()).isEqualTo(EstadoSolicitud.PENDIENTE_REVISION);
+        assertThat(evento.conIdEvento(7L).idEvento()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("No debería generar evento cuando el estado no cambia")
+    void noDeberiaGenerarEventoSinCambioDeEstado() {
+        // Act & Assert
+        assertThat(EventoSolicitud.desdeCambio(solicitud, solicitud)).isEmpty();
+    }
+}
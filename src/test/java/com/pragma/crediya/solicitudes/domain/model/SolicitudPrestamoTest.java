@@ -133,4 +133,24 @@ class SolicitudPrestamoTest {
         assertThat(toString).contains("monto=5000000");
         assertThat(toString).contains("tipoPrestamo=PERSONAL");
     }
+
+    @Test
+    @DisplayName("Debería calcular la cuota mensual con y sin tasa de interés")
+    void deberiaCalcularCuotaMensual() {
+        // Arrange
+        SolicitudPrestamo sinTasa = SolicitudPrestamo.builder()
+                .monto(new BigDecimal("1200000"))
+                .plazo(12)
+                .build();
+        SolicitudPrestamo conTasa = SolicitudPrestamo.builder()
+                .monto(new BigDecimal("1000000"))
+                .plazo(12)
+                .tasaInteres(new BigDecimal("0.02"))
+                .build();
+
+        // Assert
+        assertThat(sinTasa.calcularCuotaMensual()).isEqualByComparingTo("100000.00");
+        assertThat(conTasa.calcularCuotaMensual()).isEqualByComparingTo("94559.60");
+        assertThat(new SolicitudPrestamo().calcularCuotaMensual()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
 }
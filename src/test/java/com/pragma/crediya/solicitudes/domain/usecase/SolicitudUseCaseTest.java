@@ -1,10 +1,16 @@
 package com.pragma.crediya.solicitudes.domain.usecase;
 
 import com.pragma.crediya.solicitudes.domain.exception.ClienteNoEncontradoException;
+import com.pragma.crediya.solicitudes.domain.exception.MontoFueraDeRangoException;
+import com.pragma.crediya.solicitudes.domain.model.CondicionesTipoPrestamo;
 import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.FiltroExportacion;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.out.CatalogoPrestamosPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
 import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,17 +21,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,22 +53,15 @@ class SolicitudUseCaseTest {
     @Mock
     private UserClientPort userClientPort;
 
-    @Mock
-    private TransactionalOperator transactionalOperator;
-
     private SolicitudUseCase solicitudUseCase;
     private SolicitudPrestamo solicitudValida;
     private SolicitudPrestamo solicitudGuardada;
     private UserClientPort.UserInfo userInfoValido;
 
     @BeforeEach
-    @SuppressWarnings("unchecked")
     void setUp() {
-        solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort, transactionalOperator);
-        
-        when(transactionalOperator.transactional(any(Mono.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        
+        solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort);
+
         solicitudValida = SolicitudPrestamo.builder()
                 .documentoIdentidad("12345678")
                 .monto(new BigDecimal("5000000"))
@@ -116,6 +119,25 @@ class SolicitudUseCaseTest {
         verify(solicitudRepositoryPort).guardarSolicitud(any(SolicitudPrestamo.class));
     }
 
+    @Test
+    @DisplayName("No debería iniciar el guardado mientras la consulta del usuario está en curso")
+    void noDeberiaGuardarMientrasLaConsultaDelUsuarioEstaEnCurso() {
+        // Arrange
+        Sinks.One<UserClientPort.UserInfo> respuestaUsuario = Sinks.one();
+        AtomicBoolean guardadoSuscrito = new AtomicBoolean();
+        when(userClientPort.obtenerUsuario(eq("12345678"))).thenReturn(respuestaUsuario.asMono());
+        when(solicitudRepositoryPort.guardarSolicitud(any(SolicitudPrestamo.class)))
+                .thenReturn(Mono.just(solicitudGuardada).doOnSubscribe(subscription -> guardadoSuscrito.set(true)));
+
+        // Act & Assert
+        StepVerifier.create(solicitudUseCase.crearSolicitud(solicitudValida))
+                .then(() -> assertThat(guardadoSuscrito).isFalse())
+                .then(() -> respuestaUsuario.tryEmitValue(userInfoValido))
+                .expectNext(solicitudGuardada)
+                .verifyComplete();
+        assertThat(guardadoSuscrito).isTrue();
+    }
+
     @Test
     @DisplayName("Debería fallar cuando el cliente no existe")
     void deberiaFallarCuandoClienteNoExiste() {
@@ -393,4 +415,237 @@ class SolicitudUseCaseTest {
             verify(solicitudRepositoryPort).obtenerSolicitudesPorCliente(documentoIdentidad);
         }
     }
+
+    @Nested
+    @DisplayName("Tests para obtenerSolicitudesRevision")
+    class ObtenerSolicitudesRevisionTests {
+
+        @Test
+        @DisplayName("Debería delegar el filtro por estado y la paginación al repositorio")
+        void deberiaDelegarFiltroYPaginacionAlRepositorio() {
+            // Arrange
+            SolicitudPrestamo pendiente = SolicitudPrestamo.builder()
+                    .id(7L)
+                    .documentoIdentidad("12345678")
+                    .tipoPrestamo(TipoPrestamo.PERSONAL)
+                    .monto(BigDecimal.valueOf(5000000))
+                    .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                    .build();
+
+            when(solicitudRepositoryPort.obtenerSolicitudesPaginadas(EstadoSolicitud.PENDIENTE_REVISION, 2, 5))
+                    .thenReturn(Flux.just(pendiente));
+            when(solicitudRepositoryPort.obtenerDeudaAprobadaPorClientes(any()))
+                    .thenReturn(Mono.just(java.util.Map.of()));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.obtenerSolicitudesRevision("pendiente_revision", 2, 5))
+                    .expectNextMatches(dto -> dto.getId().equals(7L)
+                            && dto.getEstadoSolicitud().equals("PENDIENTE_REVISION"))
+                    .verifyComplete();
+
+            verify(solicitudRepositoryPort).obtenerSolicitudesPaginadas(EstadoSolicitud.PENDIENTE_REVISION, 2, 5);
+            verify(solicitudRepositoryPort, org.mockito.Mockito.never()).obtenerTodasLasSolicitudes();
+        }
+
+        @Test
+        @DisplayName("Debería calcular la deuda aprobada de toda la página con una sola consulta")
+        void deberiaCalcularDeudaDeLaPaginaConUnaSolaConsulta() {
+            // Arrange
+            SolicitudPrestamo deJuan = SolicitudPrestamo.builder()
+                    .id(1L).documentoIdentidad("12345678").tipoPrestamo(TipoPrestamo.PERSONAL)
+                    .monto(BigDecimal.valueOf(1000000)).estado(EstadoSolicitud.PENDIENTE_REVISION).build();
+            SolicitudPrestamo otraDeJuan = SolicitudPrestamo.builder()
+                    .id(2L).documentoIdentidad("12345678").tipoPrestamo(TipoPrestamo.VEHICULAR)
+                    .monto(BigDecimal.valueOf(2000000)).estado(EstadoSolicitud.PENDIENTE_REVISION).build();
+            SolicitudPrestamo deMaria = SolicitudPrestamo.builder()
+                    .id(3L).documentoIdentidad("87654321").tipoPrestamo(TipoPrestamo.EDUCATIVO)
+                    .monto(BigDecimal.valueOf(3000000)).estado(EstadoSolicitud.PENDIENTE_REVISION).build();
+
+            when(solicitudRepositoryPort.obtenerSolicitudesPaginadas(null, 0, 10))
+                    .thenReturn(Flux.just(deJuan, otraDeJuan, deMaria));
+            when(solicitudRepositoryPort.obtenerDeudaAprobadaPorClientes(any()))
+                    .thenReturn(Mono.just(java.util.Map.of("12345678", new BigDecimal("7500000"))));
+
+            // Act & Assert: se conserva el orden de la página y cada fila recibe la deuda de su cliente
+            StepVerifier.create(solicitudUseCase.obtenerSolicitudesRevision(null, 0, 10))
+                    .expectNextMatches(dto -> dto.getId().equals(1L)
+                            && dto.getDeudaTotalMensualSolicitudesAprobadas().equals(new BigDecimal("7500000")))
+                    .expectNextMatches(dto -> dto.getId().equals(2L)
+                            && dto.getDeudaTotalMensualSolicitudesAprobadas().equals(new BigDecimal("7500000")))
+                    .expectNextMatches(dto -> dto.getId().equals(3L)
+                            && dto.getDeudaTotalMensualSolicitudesAprobadas().equals(BigDecimal.ZERO))
+                    .verifyComplete();
+
+            verify(solicitudRepositoryPort).obtenerDeudaAprobadaPorClientes(java.util.Set.of("12345678", "87654321"));
+            verify(solicitudRepositoryPort, org.mockito.Mockito.never()).obtenerSolicitudesPorCliente(any());
+        }
+
+        @Test
+        @DisplayName("Debería retornar vacío y total cero para un estado desconocido")
+        void deberiaRetornarVacioParaEstadoDesconocido() {
+            StepVerifier.create(solicitudUseCase.obtenerSolicitudesRevision("INEXISTENTE", 0, 10))
+                    .verifyComplete();
+            StepVerifier.create(solicitudUseCase.contarSolicitudesRevision("INEXISTENTE"))
+                    .expectNext(0L)
+                    .verifyComplete();
+
+            verify(solicitudRepositoryPort, org.mockito.Mockito.never()).obtenerSolicitudesPaginadas(any(), org.mockito.ArgumentMatchers.anyInt(), org.mockito.ArgumentMatchers.anyInt());
+        }
+
+        @Test
+        @DisplayName("Debería contar todas las solicitudes cuando no se filtra por estado")
+        void deberiaContarTodasSinFiltro() {
+            when(solicitudRepositoryPort.contarSolicitudes(null)).thenReturn(Mono.just(42L));
+
+            StepVerifier.create(solicitudUseCase.contarSolicitudesRevision(null))
+                    .expectNext(42L)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para exportarSolicitudes")
+    class ExportarSolicitudesTests {
+
+        @Test
+        @DisplayName("Debería traducir los filtros y tomar el día 'hasta' completo")
+        void deberiaTraducirFiltros() {
+            // Arrange
+            FiltroExportacion esperado = new FiltroExportacion(EstadoSolicitud.APROBADA, TipoPrestamo.VEHICULAR,
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0));
+            when(solicitudRepositoryPort.exportarSolicitudes(esperado)).thenReturn(Flux.just(solicitudGuardada));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.exportarSolicitudes("aprobada", "vehicular",
+                            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
+                    .expectNext(solicitudGuardada)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Debería retornar vacío sin consultar para un tipo de préstamo desconocido")
+        void deberiaRetornarVacioParaTipoDesconocido() {
+            StepVerifier.create(solicitudUseCase.exportarSolicitudes(null, "INEXISTENTE", null, null))
+                    .verifyComplete();
+
+            verify(solicitudRepositoryPort, org.mockito.Mockito.never()).exportarSolicitudes(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para crearSolicitudesEnLote")
+    class CrearSolicitudesEnLoteTests {
+
+        @Test
+        @DisplayName("Debería resolver los clientes del bloque en una consulta y reportar el resultado de cada item en orden")
+        void deberiaReportarResultadoPorItem() {
+            // Arrange
+            solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort, 2);
+            SolicitudPrestamo sinCliente = SolicitudPrestamo.builder()
+                    .documentoIdentidad("99999999").monto(new BigDecimal("5000000")).plazo(24)
+                    .tipoPrestamo(TipoPrestamo.PERSONAL).build();
+            when(userClientPort.obtenerUsuarios(java.util.Set.of("12345678", "99999999"), null))
+                    .thenReturn(Mono.just(java.util.Map.of("12345678", userInfoValido)));
+            when(solicitudRepositoryPort.guardarSolicitudes(java.util.List.of(solicitudValida)))
+                    .thenReturn(Flux.just(solicitudGuardada));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.crearSolicitudesEnLote(Flux.just(
+                            ItemLote.pendiente(0, solicitudValida),
+                            ItemLote.pendiente(1, sinCliente),
+                            ItemLote.rechazado(2, null, "monto: El monto es obligatorio")), null))
+                    .expectNextMatches(item -> item.indice() == 0 && !item.esRechazado() && item.solicitud().getId() == 1L)
+                    .expectNextMatches(item -> item.indice() == 1 && item.error().contains("99999999"))
+                    .expectNextMatches(item -> item.indice() == 2 && item.esRechazado())
+                    .verifyComplete();
+
+            assertThat(solicitudValida.getEmail()).isEqualTo("juan.perez@email.com");
+            assertThat(solicitudValida.getEstado()).isEqualTo(EstadoSolicitud.PENDIENTE_REVISION);
+            verify(userClientPort, org.mockito.Mockito.times(1)).obtenerUsuarios(any(), any());
+        }
+
+        @Test
+        @DisplayName("Debería marcar como no procesados, sin exponer la causa, los items del bloque que falla sin detener el lote")
+        void deberiaMarcarNoProcesadoBloqueQueFalla() {
+            // Arrange
+            solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort, 1);
+            when(userClientPort.obtenerUsuarios(any(), any())).thenReturn(Mono.just(java.util.Map.of("12345678", userInfoValido)));
+            when(solicitudRepositoryPort.guardarSolicitudes(any()))
+                    .thenReturn(Flux.error(new RuntimeException("Error de base de datos")))
+                    .thenReturn(Flux.just(solicitudGuardada));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.crearSolicitudesEnLote(Flux.just(
+                            ItemLote.pendiente(0, solicitudValida),
+                            ItemLote.pendiente(1, solicitudValida)), null))
+                    .expectNextMatches(item -> item.indice() == 0 && item.reintentable() && !item.esRechazado()
+                            && ItemLote.ERROR_NO_PROCESADO.equals(item.error()))
+                    .expectNextMatches(item -> item.indice() == 1 && !item.esRechazado())
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para las condiciones del catálogo de préstamos")
+    class CondicionesCatalogoTests {
+
+        private final CatalogoPrestamosPort catalogo = tipoPrestamo -> Optional.of(new CondicionesTipoPrestamo(
+                tipoPrestamo, new BigDecimal("500000"), new BigDecimal("50000000"), new BigDecimal("0.0249"), true));
+
+        @BeforeEach
+        void setUp() {
+            solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort,
+                    SolicitudUseCase.TAMANO_BLOQUE_LOTE_POR_DEFECTO, SolicitudMetricsPort.NINGUNA, catalogo);
+        }
+
+        @Test
+        @DisplayName("Debería asignar la tasa de interés del tipo de préstamo")
+        void deberiaAsignarTasaDeInteres() {
+            // Arrange
+            when(userClientPort.obtenerUsuario(eq("12345678"))).thenReturn(Mono.just(userInfoValido));
+            when(solicitudRepositoryPort.guardarSolicitud(any(SolicitudPrestamo.class)))
+                    .thenAnswer(invocacion -> Mono.just(invocacion.getArgument(0)));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.crearSolicitud(solicitudValida))
+                    .assertNext(solicitud -> assertThat(solicitud.getTasaInteres()).isEqualByComparingTo("0.0249"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Debería rechazar un monto fuera de rango sin consultar al usuario")
+        void deberiaRechazarMontoFueraDeRangoSinConsultarUsuario() {
+            // Arrange
+            solicitudValida.setMonto(new BigDecimal("100000"));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.crearSolicitud(solicitudValida))
+                    .expectError(MontoFueraDeRangoException.class)
+                    .verify();
+            verify(userClientPort, never()).obtenerUsuario(any());
+            verify(solicitudRepositoryPort, never()).guardarSolicitud(any());
+        }
+
+        @Test
+        @DisplayName("Debería rechazar en el lote solo los items con monto fuera de rango")
+        void deberiaRechazarEnLoteItemsFueraDeRango() {
+            // Arrange
+            SolicitudPrestamo excedida = SolicitudPrestamo.builder()
+                    .documentoIdentidad("87654321").monto(new BigDecimal("90000000")).plazo(24)
+                    .tipoPrestamo(TipoPrestamo.PERSONAL).build();
+            when(userClientPort.obtenerUsuarios(java.util.Set.of("12345678"), null))
+                    .thenReturn(Mono.just(java.util.Map.of("12345678", userInfoValido)));
+            when(solicitudRepositoryPort.guardarSolicitudes(java.util.List.of(solicitudValida)))
+                    .thenReturn(Flux.just(solicitudGuardada));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.crearSolicitudesEnLote(Flux.just(
+                            ItemLote.pendiente(0, solicitudValida),
+                            ItemLote.pendiente(1, excedida)), null))
+                    .expectNextMatches(item -> item.indice() == 0 && !item.esRechazado())
+                    .expectNextMatches(item -> item.indice() == 1 && item.error().contains("fuera del rango"))
+                    .verifyComplete();
+            verify(userClientPort).obtenerUsuarios(java.util.Set.of("12345678"), null);
+        }
+    }
 }
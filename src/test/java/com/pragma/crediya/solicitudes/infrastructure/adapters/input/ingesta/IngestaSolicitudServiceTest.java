@@ -0,0 +1,280 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.model.ItemLote;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.domain.usecase.SolicitudUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de IngestaSolicitudService con el log de ingesta en un directorio temporal.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IngestaSolicitudService - Tests con log en disco")
+class IngestaSolicitudServiceTest {
+
+    @Mock
+    private ISolicitudServicePort solicitudServicePort;
+
+    @Mock
+    private UserClientPort userClientPort;
+
+    @Mock
+    private ISolicitudRepositoryPort solicitudRepositoryPort;
+
+    @TempDir
+    private Path directorio;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong secuencia = new AtomicLong();
+    private IngestaSolicitudService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    private IngestaSolicitudService crearServicio(int tamanoSegmento) {
+        return new IngestaSolicitudService(solicitudServicePort, objectMapper, directorio, tamanoSegmento, true,
+                10, Duration.ofMillis(10), 1, Duration.ofHours(1), 2, Duration.ofMillis(10));
+    }
+
+    /**
+     * Servicio sobre el caso de uso real, con el cliente de usuarios y la persistencia simulados.
+     */
+    private IngestaSolicitudService crearServicioConCasoDeUso() {
+        return new IngestaSolicitudService(new SolicitudUseCase(solicitudRepositoryPort, userClientPort), objectMapper,
+                directorio, 64 * 1024, true, 10, Duration.ofMillis(10), 1, Duration.ofHours(1), 2, Duration.ofMillis(10));
+    }
+
+    private static void esperarHasta(Runnable asercion) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            try {
+                asercion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.nanoTime() > limite) {
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private static SolicitudPrestamo solicitud(String documentoIdentidad) {
+        return SolicitudPrestamo.builder()
+                .documentoIdentidad(documentoIdentidad)
+                .monto(new BigDecimal("5000000"))
+                .plazo(24)
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .build();
+    }
+
+    /**
+     * Simula la creación en lote: rechaza el documento "99999999" y crea el resto.
+     */
+    private void creacionEnLoteDisponible() {
+        when(solicitudServicePort.crearSolicitudesEnLote(any(), isNull()))
+                .thenAnswer(invocation -> crearEnLote(invocation.getArgument(0)));
+    }
+
+    private Flux<ItemLote> crearEnLote(Flux<ItemLote> items) {
+        return items.map(item -> {
+            if ("99999999".equals(item.solicitud().getDocumentoIdentidad())) {
+                return item.rechazar("Cliente no encontrado");
+            }
+            item.solicitud().setId(secuencia.incrementAndGet());
+            return item.creado(item.solicitud());
+        });
+    }
+
+    @Test
+    @DisplayName("Debería aceptar la solicitud como RECIBIDA y reportar luego su resultado")
+    void deberiaAceptarYReportarResultado() throws InterruptedException {
+        // Arrange
+        creacionEnLoteDisponible();
+        service = crearServicio(64 * 1024);
+
+        // Act
+        EstadoIngesta creada = service.recibir(solicitud("12345678")).block();
+        EstadoIngesta rechazada = service.recibir(solicitud("99999999")).block();
+
+        // Assert
+        assertThat(creada.estado()).isEqualTo(EstadoIngesta.RECIBIDA);
+        esperarHasta(() -> {
+            assertThat(service.consultar(creada.idSeguimiento()).block().estado()).isEqualTo(EstadoIngesta.CREADA);
+            assertThat(service.consultar(rechazada.idSeguimiento()).block().error()).isEqualTo("Cliente no encontrado");
+        });
+        assertThat(service.consultar(creada.idSeguimiento()).block().idSolicitud()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Debería reintentar un lote que falla por completo y crear sus solicitudes")
+    void deberiaReintentarLoteFallido() throws InterruptedException {
+        // Arrange: el primer intento falla, el siguiente crea
+        AtomicInteger intentos = new AtomicInteger();
+        when(solicitudServicePort.crearSolicitudesEnLote(any(), isNull())).thenAnswer(invocation ->
+                intentos.incrementAndGet() == 1
+                        ? Flux.error(new IllegalStateException("base de datos no disponible"))
+                        : crearEnLote(invocation.getArgument(0)));
+        service = crearServicio(64 * 1024);
+
+        // Act
+        EstadoIngesta recibida = service.recibir(solicitud("12345678")).block();
+
+        // Assert
+        esperarHasta(() ->
+                assertThat(service.consultar(recibida.idSeguimiento()).block().estado()).isEqualTo(EstadoIngesta.CREADA));
+        assertThat(intentos.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debería reintentar con el caso de uso real un bloque que falla por el servicio de usuarios")
+    void deberiaReintentarBloqueConFalloDelServicioDeUsuarios() throws InterruptedException {
+        // Arrange: la primera consulta de usuarios falla, la siguiente responde
+        UserClientPort.UserInfo usuario = new UserClientPort.UserInfo(1L, "Juan", "Pérez", "juan.perez@email.com",
+                "12345678", new BigDecimal("2500000"));
+        when(userClientPort.obtenerUsuarios(any(), isNull()))
+                .thenReturn(Mono.error(new IllegalStateException("Connection refused: usuarios:8080")))
+                .thenReturn(Mono.just(Map.of("12345678", usuario)));
+        when(solicitudRepositoryPort.guardarSolicitudes(any())).thenAnswer(invocation -> Flux.fromIterable(
+                invocation.<List<SolicitudPrestamo>>getArgument(0)).doOnNext(nueva -> nueva.setId(secuencia.incrementAndGet())));
+        service = crearServicioConCasoDeUso();
+
+        // Act
+        EstadoIngesta recibida = service.recibir(solicitud("12345678")).block();
+
+        // Assert
+        esperarHasta(() ->
+                assertThat(service.consultar(recibida.idSeguimiento()).block().estado()).isEqualTo(EstadoIngesta.CREADA));
+        verify(userClientPort, times(2)).obtenerUsuarios(any(), isNull());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar sin exponer la causa las solicitudes cuya persistencia falla en todos los reintentos")
+    void deberiaRechazarSinExponerCausaTrasAgotarReintentos() throws InterruptedException {
+        // Arrange
+        UserClientPort.UserInfo usuario = new UserClientPort.UserInfo(1L, "Juan", "Pérez", "juan.perez@email.com",
+                "12345678", new BigDecimal("2500000"));
+        when(userClientPort.obtenerUsuarios(any(), isNull())).thenReturn(Mono.just(Map.of("12345678", usuario)));
+        when(solicitudRepositoryPort.guardarSolicitudes(any()))
+                .thenReturn(Flux.error(new IllegalStateException("FATAL: too many connections for role \"crediya\"")));
+        service = crearServicioConCasoDeUso();
+
+        // Act
+        EstadoIngesta recibida = service.recibir(solicitud("12345678")).block();
+
+        // Assert
+        esperarHasta(() -> {
+            EstadoIngesta estado = service.consultar(recibida.idSeguimiento()).block();
+            assertThat(estado.estado()).isEqualTo(EstadoIngesta.RECHAZADA);
+            assertThat(estado.error()).isEqualTo(IngestaSolicitudService.ERROR_PROCESAMIENTO);
+        });
+        verify(solicitudRepositoryPort, times(3)).guardarSolicitudes(any());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar las solicitudes de un lote que agota los reintentos y compactar el log")
+    void deberiaRechazarLoteTrasAgotarReintentos() throws Exception {
+        // Arrange
+        when(solicitudServicePort.crearSolicitudesEnLote(any(), isNull()))
+                .thenAnswer(invocation -> Flux.error(new IllegalStateException("base de datos no disponible")));
+        service = crearServicio(1024);
+
+        // Act
+        String idSeguimiento = null;
+        for (int i = 0; i < 20; i++) {
+            idSeguimiento = service.recibir(solicitud("1234567" + (i % 10))).block().idSeguimiento();
+        }
+
+        // Assert
+        String ultima = idSeguimiento;
+        esperarHasta(() -> {
+            EstadoIngesta estado = service.consultar(ultima).block();
+            assertThat(estado.estado()).isEqualTo(EstadoIngesta.RECHAZADA);
+            assertThat(estado.error()).isEqualTo(IngestaSolicitudService.ERROR_PROCESAMIENTO);
+            try (var archivos = Files.list(directorio)) {
+                assertThat(archivos.count()).isEqualTo(1);
+            } catch (java.io.IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Debería recuperar del log y procesar tras reiniciar las solicitudes aceptadas sin resultado")
+    void deberiaRecuperarSolicitudesPendientesTrasReiniciar() throws InterruptedException {
+        // Arrange: el primer proceso acepta la solicitud pero "cae" antes de procesarla
+        when(solicitudServicePort.crearSolicitudesEnLote(any(), isNull())).thenReturn(Flux.never());
+        service = crearServicio(64 * 1024);
+        String idSeguimiento = service.recibir(solicitud("12345678")).block().idSeguimiento();
+        service.close();
+
+        // Act
+        creacionEnLoteDisponible();
+        service = crearServicio(64 * 1024);
+
+        // Assert
+        esperarHasta(() ->
+                assertThat(service.consultar(idSeguimiento).block().estado()).isEqualTo(EstadoIngesta.CREADA));
+        service.close();
+        service = crearServicio(64 * 1024);
+        assertThat(service.consultar(idSeguimiento).block().estado()).isEqualTo(EstadoIngesta.CREADA);
+    }
+
+    @Test
+    @DisplayName("Debería rotar segmentos y eliminar los que ya no tienen solicitudes pendientes")
+    void deberiaEliminarSegmentosProcesados() throws Exception {
+        // Arrange
+        creacionEnLoteDisponible();
+        service = crearServicio(1024);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            service.recibir(solicitud("1234567" + (i % 10))).block();
+        }
+
+        // Assert
+        esperarHasta(() -> {
+            try (var archivos = Files.list(directorio)) {
+                assertThat(archivos.count()).isEqualTo(1);
+            } catch (java.io.IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        });
+    }
+}
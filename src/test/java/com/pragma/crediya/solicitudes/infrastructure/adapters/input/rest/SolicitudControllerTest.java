@@ -5,10 +5,15 @@ import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
 import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
 import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
 import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta.EstadoIngesta;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.ingesta.IngestaSolicitudService;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.IngestaResponseDto;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudRequestDto;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudResponseDto;
 import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.mapper.ISolicitudRequestMapper;
 import com.pragma.crediya.solicitudes.infrastructure.security.AuthenticationContext;
+import com.pragma.crediya.solicitudes.infrastructure.security.RolUsuario;
+import com.pragma.crediya.solicitudes.infrastructure.security.UsuarioAutenticado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,14 +24,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +56,18 @@ class SolicitudControllerTest {
     @Mock
     private AuthenticationContext authenticationContext;
 
+    @Mock
+    private jakarta.validation.Validator validator;
+
+    @Mock
+    private com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.idempotencia.IdempotenciaService idempotenciaService;
+
+    @Mock
+    private org.springframework.beans.factory.ObjectProvider<IngestaSolicitudService> ingestaSolicitudServiceProvider;
+
+    @Mock
+    private IngestaSolicitudService ingestaSolicitudService;
+
     @InjectMocks
     private SolicitudController solicitudController;
 
@@ -84,6 +105,8 @@ class SolicitudControllerTest {
         when(authenticationContext.isAdminOrAsesor()).thenReturn(Mono.just(true));
         when(authenticationContext.getCurrentUserDocument()).thenReturn(Mono.just("admin123"));
         when(authenticationContext.getCurrentUserRole()).thenReturn(Mono.just("ADMIN"));
+        when(authenticationContext.getUsuarioActual()).thenReturn(Mono.just(
+                new UsuarioAutenticado("admin123", "admin@crediya.com", RolUsuario.ADMIN)));
     }
 
     @Test
@@ -98,7 +121,7 @@ class SolicitudControllerTest {
                 .thenReturn(Mono.just(solicitudCreada));
 
         // Act & Assert
-        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, mockRequest))
+        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, null, mockRequest))
                 .expectNextMatches(response -> {
                     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
                     assertThat(response.getBody()).isNotNull();
@@ -117,6 +140,24 @@ class SolicitudControllerTest {
         verify(solicitudServicePort).crearSolicitudConToken(solicitudDominio, token);
     }
 
+    @Test
+    @DisplayName("Debería crear la solicitud a través de IdempotenciaService cuando llega Idempotency-Key")
+    void deberiaCrearSolicitudConIdempotencyKey() {
+        // Arrange
+        when(solicitudRequestMapper.toSolicitud(solicitudRequestDto)).thenReturn(solicitudDominio);
+        String token = "Bearer testtoken";
+        org.springframework.http.server.reactive.ServerHttpRequest mockRequest = org.springframework.mock.http.server.reactive.MockServerHttpRequest.get("/api/v1/solicitudes").header("Authorization", token).build();
+        when(solicitudServicePort.crearSolicitudConToken(solicitudDominio, token)).thenReturn(Mono.just(solicitudCreada));
+        when(idempotenciaService.ejecutar(eq("admin123"), eq("clave-1"), eq(solicitudRequestDto), eq(SolicitudResponseDto.class), any()))
+                .thenAnswer(invocation -> invocation.<java.util.function.Supplier<Mono<?>>>getArgument(4).get());
+
+        // Act & Assert
+        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, "clave-1", mockRequest))
+                .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED))
+                .verifyComplete();
+        verify(solicitudServicePort).crearSolicitudConToken(solicitudDominio, token);
+    }
+
     @Test
     @DisplayName("Debería propagar excepción cuando el servicio falla")
     void deberiaPropgarExcepcionCuandoElServicioFalla() {
@@ -129,7 +170,7 @@ class SolicitudControllerTest {
                 .thenReturn(Mono.error(new ClienteNoEncontradoException("Cliente no encontrado")));
 
         // Act & Assert
-        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, mockRequest))
+        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, null, mockRequest))
                 .expectErrorMatches(error -> {
                     assertThat(error).isInstanceOf(ClienteNoEncontradoException.class);
                     assertThat(error.getMessage()).isEqualTo("Cliente no encontrado");
@@ -150,7 +191,7 @@ class SolicitudControllerTest {
 
         // Act & Assert
         org.springframework.http.server.reactive.ServerHttpRequest mockRequest = org.springframework.mock.http.server.reactive.MockServerHttpRequest.get("/api/v1/solicitudes").header("Authorization", "Bearer testtoken").build();
-        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, mockRequest))
+        StepVerifier.create(solicitudController.crearSolicitud(solicitudRequestDto, null, mockRequest))
                 .expectErrorMatches(error -> {
                     assertThat(error).isInstanceOf(RuntimeException.class);
                     assertThat(error.getMessage()).isEqualTo("Error en mapeo");
@@ -158,4 +199,114 @@ class SolicitudControllerTest {
                 })
                 .verify();
     }
+
+    @Test
+    @DisplayName("Debería retornar X-Next-Cursor con la última posición cuando la página por cursor está llena")
+    void deberiaRetornarSiguienteCursorCuandoLaPaginaEstaLlena() {
+        // Arrange
+        LocalDateTime fecha = LocalDateTime.of(2025, 8, 27, 10, 30);
+        com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto primera =
+                com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto.builder()
+                        .id(9L).fechaCreacion(fecha.plusMinutes(1)).build();
+        com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto ultima =
+                com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.RevisionSolicitudResponseDto.builder()
+                        .id(8L).fechaCreacion(fecha).build();
+        when(solicitudServicePort.obtenerSolicitudesRevisionDesdeCursor("APROBADA", null, 2))
+                .thenReturn(reactor.core.publisher.Flux.just(primera, ultima));
+
+        // Act & Assert
+        StepVerifier.create(solicitudController.obtenerSolicitudesRevision("APROBADA", 0, 2, ""))
+                .expectNextMatches(response -> {
+                    String siguiente = response.getHeaders().getFirst("X-Next-Cursor");
+                    assertThat(siguiente).isNotNull();
+                    assertThat(com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.pagination.CursorCodec.decodificar(siguiente))
+                            .isEqualTo(new com.pragma.crediya.solicitudes.domain.model.CursorSolicitud(fecha, 8L));
+                    return true;
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un cursor que no fue emitido por la API")
+    void deberiaRechazarCursorInvalido() {
+        StepVerifier.create(solicitudController.obtenerSolicitudesRevision(null, 0, 10, "no-es-un-cursor"))
+                .expectError(com.pragma.crediya.solicitudes.domain.exception.CursorInvalidoException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar en el lote los items de otro cliente cuando el usuario es CLIENTE")
+    @SuppressWarnings("unchecked")
+    void deberiaRechazarItemsDeOtroClienteEnLote() {
+        // Arrange
+        when(authenticationContext.isAdminOrAsesor()).thenReturn(Mono.just(false));
+        when(authenticationContext.getCurrentUserDocument()).thenReturn(Mono.just("12345678"));
+        when(authenticationContext.getUsuarioActual()).thenReturn(Mono.just(
+                new UsuarioAutenticado("12345678", "juan.perez@email.com", RolUsuario.CLIENTE)));
+        SolicitudRequestDto otroCliente = new SolicitudRequestDto();
+        otroCliente.setDocumentoIdentidad("87654321");
+        when(solicitudRequestMapper.toSolicitud(solicitudRequestDto)).thenReturn(solicitudDominio);
+        when(solicitudRequestMapper.toSolicitud(otroCliente))
+                .thenReturn(SolicitudPrestamo.builder().documentoIdentidad("87654321").build());
+        when(solicitudServicePort.crearSolicitudesEnLote(any(), eq("Bearer testtoken"))).thenAnswer(invocation ->
+                ((reactor.core.publisher.Flux<com.pragma.crediya.solicitudes.domain.model.ItemLote>) invocation.getArgument(0))
+                        .map(item -> item.esRechazado() ? item : item.creado(solicitudCreada)));
+
+        org.springframework.http.server.reactive.ServerHttpRequest mockRequest = org.springframework.mock.http.server.reactive.MockServerHttpRequest.post("/api/v1/solicitudes/batch").header("Authorization", "Bearer testtoken").build();
+
+        // Act & Assert
+        StepVerifier.create(solicitudController.crearSolicitudesEnLote(
+                        reactor.core.publisher.Flux.just(solicitudRequestDto, otroCliente), mockRequest))
+                .expectNextMatches(resultado -> resultado.getIndice() == 0
+                        && "CREADA".equals(resultado.getResultado()) && resultado.getId() == 1L)
+                .expectNextMatches(resultado -> resultado.getIndice() == 1
+                        && "RECHAZADA".equals(resultado.getResultado())
+                        && "87654321".equals(resultado.getDocumentoIdentidad())
+                        && resultado.getError().contains("No está autorizado"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería aceptar la solicitud asíncrona con HTTP 202 y la ubicación del seguimiento")
+    void deberiaAceptarSolicitudAsincrona() {
+        // Arrange
+        when(ingestaSolicitudServiceProvider.getIfAvailable()).thenReturn(ingestaSolicitudService);
+        when(solicitudRequestMapper.toSolicitud(solicitudRequestDto)).thenReturn(solicitudDominio);
+        when(ingestaSolicitudService.recibir(solicitudDominio)).thenReturn(Mono.just(
+                new EstadoIngesta("seg-1", EstadoIngesta.RECIBIDA, "12345678", null, null)));
+        org.springframework.http.server.reactive.ServerHttpRequest mockRequest = org.springframework.mock.http.server.reactive.MockServerHttpRequest.post("/api/v1/solicitudes").build();
+
+        // Act & Assert
+        StepVerifier.create(solicitudController.recibirSolicitud(solicitudRequestDto, null, mockRequest))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+                    assertThat(response.getHeaders().getLocation()).hasToString("/api/v1/solicitudes/ingestas/seg-1");
+                    assertThat(((IngestaResponseDto) response.getBody()).getEstado()).isEqualTo(EstadoIngesta.RECIBIDA);
+                })
+                .verifyComplete();
+        verify(idempotenciaService, never()).ejecutar(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debería pasar la solicitud asíncrona con Idempotency-Key por IdempotenciaService y reponer la ubicación al repetirla")
+    void deberiaAplicarIdempotenciaEnSolicitudAsincrona() {
+        // Arrange: la respuesta almacenada solo conserva estado y cuerpo
+        when(ingestaSolicitudServiceProvider.getIfAvailable()).thenReturn(ingestaSolicitudService);
+        when(idempotenciaService.ejecutar(eq("admin123"), eq("clave-1"), eq(Map.of("respond-async", solicitudRequestDto)),
+                eq(IngestaResponseDto.class), any()))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header(com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.idempotencia.IdempotenciaService.REPLAYED_HEADER, "true")
+                        .body(IngestaResponseDto.builder().idSeguimiento("seg-1").estado(EstadoIngesta.RECIBIDA).build())));
+        org.springframework.http.server.reactive.ServerHttpRequest mockRequest = org.springframework.mock.http.server.reactive.MockServerHttpRequest.post("/api/v1/solicitudes").build();
+
+        // Act & Assert
+        StepVerifier.create(solicitudController.recibirSolicitud(solicitudRequestDto, "clave-1", mockRequest))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+                    assertThat(response.getHeaders().getLocation()).hasToString("/api/v1/solicitudes/ingestas/seg-1");
+                    assertThat(response.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+                })
+                .verifyComplete();
+        verify(ingestaSolicitudService, never()).recibir(any());
+    }
 }
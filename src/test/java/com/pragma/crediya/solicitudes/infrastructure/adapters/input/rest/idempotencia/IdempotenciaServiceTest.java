@@ -0,0 +1,187 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.exception.ConflictoIdempotenciaException;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudRequestDto;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.input.rest.dto.SolicitudResponseDto;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.RegistroIdempotencia;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.SolicitudIdempotenciaStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para IdempotenciaService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotenciaService - Tests unitarios")
+class IdempotenciaServiceTest {
+
+    private static final String CLAVE = "9f1c2d7e-reintento";
+
+    @Mock
+    private SolicitudIdempotenciaStore store;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private IdempotenciaService service;
+    private SolicitudRequestDto peticion;
+    private AtomicInteger ejecuciones;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotenciaService(store, objectMapper, Duration.ofHours(24), Duration.ofSeconds(30),
+                Duration.ofMillis(200), Duration.ofMillis(10), 100);
+        peticion = new SolicitudRequestDto();
+        peticion.setDocumentoIdentidad("12345678");
+        peticion.setMonto(new BigDecimal("5000000"));
+        peticion.setPlazo(24);
+        peticion.setTipoPrestamo(TipoPrestamo.PERSONAL);
+        ejecuciones = new AtomicInteger();
+
+        when(store.reservar(anyString(), anyString(), any(), any())).thenReturn(Mono.just(true));
+        when(store.completar(anyString(), anyInt(), anyString(), any())).thenReturn(Mono.empty());
+        when(store.liberar(anyString())).thenReturn(Mono.empty());
+    }
+
+    private Supplier<Mono<ResponseEntity<SolicitudResponseDto>>> creacion(Duration demora) {
+        return () -> Mono.delay(demora)
+                .map(tick -> {
+                    long id = ejecuciones.incrementAndGet();
+                    return ResponseEntity.status(HttpStatus.CREATED).body(SolicitudResponseDto.builder()
+                            .mensaje("Solicitud creada con éxito")
+                            .estado("EXITOSO")
+                            .solicitud(SolicitudResponseDto.DatosSolicitud.builder().id(id).build())
+                            .build());
+                });
+    }
+
+    @Test
+    @DisplayName("Debería ejecutar una sola vez las peticiones concurrentes con la misma clave")
+    void deberiaEjecutarUnaSolaVezPeticionesConcurrentes() {
+        // Act
+        List<ResponseEntity<SolicitudResponseDto>> respuestas = Mono.zip(
+                        service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ofMillis(50))),
+                        service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ofMillis(50))))
+                .map(par -> List.of(par.getT1(), par.getT2()))
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertThat(ejecuciones.get()).isEqualTo(1);
+        assertThat(respuestas).allSatisfy(respuesta -> {
+            assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(respuesta.getBody().getSolicitud().getId()).isEqualTo(1L);
+        });
+        assertThat(respuestas).filteredOn(respuesta -> respuesta.getHeaders().containsKey(IdempotenciaService.REPLAYED_HEADER))
+                .hasSize(1);
+        verify(store).completar(eq("12345678:" + CLAVE), eq(201), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Debería devolver la respuesta almacenada a una repetición sin volver a ejecutar")
+    void deberiaReproducirRespuestaAlmacenada() {
+        // Arrange
+        service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO))
+                .block(Duration.ofSeconds(5));
+
+        // Act & Assert
+        StepVerifier.create(service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO)))
+                .assertNext(respuesta -> {
+                    assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                    assertThat(respuesta.getHeaders().getFirst(IdempotenciaService.REPLAYED_HEADER)).isEqualTo("true");
+                    assertThat(respuesta.getBody().getSolicitud().getId()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        assertThat(ejecuciones.get()).isEqualTo(1);
+        verify(store, never()).buscar(anyString());
+    }
+
+    @Test
+    @DisplayName("Debería reproducir la respuesta registrada en la tabla por otra instancia")
+    void deberiaReproducirRespuestaDeLaTabla() throws Exception {
+        // Arrange: la clave ya existe y está completada
+        String huella = huellaDe(peticion);
+        String cuerpo = objectMapper.writeValueAsString(SolicitudResponseDto.builder()
+                .estado("EXITOSO")
+                .solicitud(SolicitudResponseDto.DatosSolicitud.builder().id(7L).build())
+                .build());
+        when(store.reservar(anyString(), anyString(), any(), any())).thenReturn(Mono.just(false));
+        when(store.buscar("12345678:" + CLAVE)).thenReturn(Mono.just(new RegistroIdempotencia("12345678:" + CLAVE,
+                huella, 201, cuerpo, LocalDateTime.now().plusHours(1))));
+
+        // Act & Assert
+        StepVerifier.create(service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO)))
+                .assertNext(respuesta -> {
+                    assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                    assertThat(respuesta.getBody().getSolicitud().getId()).isEqualTo(7L);
+                })
+                .verifyComplete();
+        assertThat(ejecuciones.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar la reutilización de la clave con una petición diferente")
+    void deberiaRechazarClaveConPeticionDiferente() {
+        // Arrange
+        service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO))
+                .block(Duration.ofSeconds(5));
+        peticion.setMonto(new BigDecimal("9000000"));
+
+        // Act & Assert
+        StepVerifier.create(service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO)))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(ConflictoIdempotenciaException.class);
+                    assertThat(((ConflictoIdempotenciaException) error).getMotivo())
+                            .isEqualTo(ConflictoIdempotenciaException.Motivo.PETICION_DIFERENTE);
+                })
+                .verify();
+        assertThat(ejecuciones.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería liberar la clave cuando la operación falla para que el reintento se ejecute")
+    void deberiaLiberarClaveCuandoLaOperacionFalla() {
+        // Act & Assert
+        StepVerifier.create(service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class,
+                        () -> Mono.error(new IllegalStateException("fallo"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        verify(store).liberar("12345678:" + CLAVE);
+
+        StepVerifier.create(service.ejecutar("12345678", CLAVE, peticion, SolicitudResponseDto.class, creacion(Duration.ZERO)))
+                .assertNext(respuesta -> assertThat(respuesta.getHeaders().containsKey(IdempotenciaService.REPLAYED_HEADER)).isFalse())
+                .verifyComplete();
+        assertThat(ejecuciones.get()).isEqualTo(1);
+    }
+
+    private String huellaDe(Object cuerpo) throws Exception {
+        return java.util.HexFormat.of().formatHex(java.security.MessageDigest.getInstance("SHA-256")
+                .digest(objectMapper.writeValueAsBytes(cuerpo)));
+    }
+}
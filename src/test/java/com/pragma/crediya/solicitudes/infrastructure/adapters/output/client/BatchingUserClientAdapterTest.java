@@ -0,0 +1,99 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de BatchingUserClientAdapter contra un servidor local que imita el microservicio de usuarios.
+ */
+@DisplayName("BatchingUserClientAdapter - Tests con servidor local")
+class BatchingUserClientAdapterTest {
+
+    private UserServiceStub userService;
+    private UserLookupBatcher batcher;
+    private BatchingUserClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceStub();
+        UserClientAdapter userClientAdapter = new UserClientAdapter(WebClient.create());
+        ReflectionTestUtils.setField(userClientAdapter, "userServiceBaseUrl", userService.baseUrl());
+        ReflectionTestUtils.setField(userClientAdapter, "getUserByDocumentEndpoint", "/api/v1/usuarios/documento/{documento}");
+        ReflectionTestUtils.setField(userClientAdapter, "getUsersByDocumentsEndpoint", "/api/v1/usuarios/documentos");
+
+        batcher = new UserLookupBatcher(userClientAdapter, 50, Duration.ofMillis(50));
+        adapter = new BatchingUserClientAdapter(userClientAdapter, batcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Debería resolver consultas concurrentes con una petición en bloque por lote")
+    void deberiaResolverConsultasConcurrentesEnBloque() {
+        // Arrange
+        for (int i = 0; i < 120; i++) {
+            userService.registrarUsuario(String.valueOf(10000000 + i), "Usuario" + i);
+        }
+
+        // Act
+        List<UserClientPort.UserInfo> usuarios = Flux.range(0, 120)
+                .flatMap(i -> adapter.obtenerUsuario(String.valueOf(10000000 + i)))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertThat(usuarios).hasSize(120);
+        assertThat(userService.peticionesEnBloque()).isEqualTo(3);
+        assertThat(userService.peticionesIndividuales()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería repartir a cada consulta su resultado y dejar vacías las de documentos inexistentes")
+    void deberiaRepartirResultados() {
+        // Arrange
+        userService.registrarUsuario("12345678", "Juan");
+        userService.registrarUsuario("87654321", "Ana");
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678", "87654321", "99999999"), null))
+                .assertNext(usuarios -> {
+                    assertThat(usuarios).containsOnlyKeys("12345678", "87654321");
+                    assertThat(usuarios.get("12345678").nombres()).isEqualTo("Juan");
+                    assertThat(usuarios.get("87654321").nombres()).isEqualTo("Ana");
+                })
+                .verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuario("99999999"))
+                .verifyComplete();
+        assertThat(userService.peticionesEnBloque()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debería enviar tal cual, con el token del llamador, la consulta en bloque con token")
+    void deberiaEnviarConsultaEnBloqueConToken() {
+        // Arrange
+        userService.registrarUsuario("12345678", "Juan");
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678"), "Bearer token-cliente"))
+                .assertNext(usuarios -> assertThat(usuarios).containsOnlyKeys("12345678"))
+                .verifyComplete();
+        assertThat(userService.peticionesEnBloque()).isEqualTo(1);
+        assertThat(userService.autorizaciones()).containsExactly("Bearer token-cliente");
+    }
+}
@@ -0,0 +1,119 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de BulkFallbackUserClientAdapter contra un servidor local que imita el microservicio de usuarios.
+ */
+@DisplayName("BulkFallbackUserClientAdapter - Tests con servidor local")
+class BulkFallbackUserClientAdapterTest {
+
+    private UserServiceStub userService;
+    private UserClientAdapter userClientAdapter;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceStub();
+        userService.registrarUsuario("12345678", "Juan");
+        userService.registrarUsuario("87654321", "Ana");
+        userClientAdapter = new UserClientAdapter(WebClient.create());
+        ReflectionTestUtils.setField(userClientAdapter, "userServiceBaseUrl", userService.baseUrl());
+        ReflectionTestUtils.setField(userClientAdapter, "getUserByDocumentEndpoint", "/api/v1/usuarios/documento/{documento}");
+        ReflectionTestUtils.setField(userClientAdapter, "getUsersByDocumentsEndpoint", "/api/v1/usuarios/documentos");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Debería consultar documento a documento cuando la consulta en bloque está deshabilitada")
+    void deberiaConsultarUnoAUnoSiEstaDeshabilitada() {
+        // Arrange
+        BulkFallbackUserClientAdapter adapter = new BulkFallbackUserClientAdapter(userClientAdapter, false, 4);
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678", "87654321", "99999999", "12345678"), null))
+                .assertNext(usuarios -> {
+                    assertThat(usuarios).containsOnlyKeys("12345678", "87654321");
+                    assertThat(usuarios.get("87654321").nombres()).isEqualTo("Ana");
+                })
+                .verifyComplete();
+        assertThat(userService.peticionesEnBloque()).isZero();
+        assertThat(userService.peticionesIndividuales()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Debería recurrir a consultas individuales con el token del llamador si el endpoint en bloque responde 404")
+    void deberiaRecurrirAConsultasIndividualesAnte404() {
+        // Arrange
+        userService.responderConsultaEnBloque(404);
+        BulkFallbackUserClientAdapter adapter = new BulkFallbackUserClientAdapter(userClientAdapter, true, 4);
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678", "87654321"), "Bearer token-cliente"))
+                .assertNext(usuarios -> assertThat(usuarios).containsOnlyKeys("12345678", "87654321"))
+                .verifyComplete();
+        assertThat(userService.peticionesEnBloque()).isEqualTo(1);
+        assertThat(userService.peticionesIndividuales()).isEqualTo(2);
+        assertThat(userService.autorizaciones()).hasSize(3).containsOnly("Bearer token-cliente");
+    }
+
+    @Test
+    @DisplayName("Debería recurrir a consultas individuales si el endpoint en bloque responde 405")
+    void deberiaRecurrirAConsultasIndividualesAnte405() {
+        // Arrange
+        userService.responderConsultaEnBloque(405);
+        BulkFallbackUserClientAdapter adapter = new BulkFallbackUserClientAdapter(userClientAdapter, true, 4);
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678"), null))
+                .assertNext(usuarios -> assertThat(usuarios).containsOnlyKeys("12345678"))
+                .verifyComplete();
+        assertThat(userService.peticionesIndividuales()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería propagar los fallos del servicio en la consulta en bloque sin recurrir al respaldo")
+    void deberiaPropagarFallosDelServicio() {
+        // Arrange
+        userService.responderConsultaEnBloque(503);
+        BulkFallbackUserClientAdapter adapter = new BulkFallbackUserClientAdapter(userClientAdapter, true, 4);
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678"), null))
+                .expectError(WebClientResponseException.class)
+                .verify();
+        assertThat(userService.peticionesIndividuales()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería limitar las consultas individuales simultáneas a la concurrencia configurada")
+    void deberiaLimitarConcurrencia() {
+        // Arrange
+        List<String> documentos = IntStream.range(0, 20).mapToObj(i -> String.valueOf(10000000 + i)).toList();
+        documentos.forEach(documento -> userService.registrarUsuario(documento, "Usuario" + documento));
+        userService.retrasarRespuestas(Duration.ofMillis(50));
+        BulkFallbackUserClientAdapter adapter = new BulkFallbackUserClientAdapter(userClientAdapter, false, 3);
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(documentos, null))
+                .assertNext(usuarios -> assertThat(usuarios).hasSize(20))
+                .verifyComplete();
+        assertThat(userService.maximoIndividualesEnCurso()).isBetween(1, 3);
+    }
+}
@@ -0,0 +1,162 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para CachingUserClientAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CachingUserClientAdapter - Tests unitarios")
+class CachingUserClientAdapterTest {
+
+    @Mock
+    private UserClientPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private CachingUserClientAdapter adapter;
+    private UserClientPort.UserInfo usuario;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachingUserClientAdapter(delegate, 100, Duration.ofMinutes(10), Duration.ofSeconds(30),
+                meterRegistry, nanos::get);
+        usuario = new UserClientPort.UserInfo(1L, "Juan", "Pérez", "juan.perez@email.com", "12345678",
+                new BigDecimal("2500000"));
+    }
+
+    @Test
+    @DisplayName("Debería consultar el microservicio una sola vez para consultas repetidas")
+    void deberiaConsultarUnaSolaVez() {
+        // Arrange
+        when(delegate.obtenerUsuarioConToken("12345678", "Bearer token")).thenReturn(Mono.just(usuario));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarioConToken("12345678", "Bearer token"))
+                .expectNext(usuario)
+                .verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuarioConToken("12345678", "Bearer token"))
+                .expectNext(usuario)
+                .verifyComplete();
+
+        verify(delegate, times(1)).obtenerUsuarioConToken("12345678", "Bearer token");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería guardar los usuarios no encontrados solo durante su TTL corto")
+    void deberiaGuardarNoEncontradosConTtlCorto() {
+        // Arrange
+        when(delegate.obtenerUsuario("99999999")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuario("99999999")).verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuario("99999999")).verifyComplete();
+        verify(delegate, times(1)).obtenerUsuario("99999999");
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        StepVerifier.create(adapter.obtenerUsuario("99999999")).verifyComplete();
+        verify(delegate, times(2)).obtenerUsuario("99999999");
+    }
+
+    @Test
+    @DisplayName("No debería guardar en caché los errores del microservicio")
+    void noDeberiaGuardarErrores() {
+        // Arrange
+        when(delegate.obtenerUsuario("12345678"))
+                .thenReturn(Mono.error(new RuntimeException("Servicio no disponible")))
+                .thenReturn(Mono.just(usuario));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectErrorMessage("Servicio no disponible")
+                .verify();
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectNext(usuario)
+                .verifyComplete();
+        verify(delegate, times(2)).obtenerUsuario("12345678");
+    }
+
+    @Test
+    @DisplayName("Debería volver a consultar tras invalidar la entrada")
+    void deberiaVolverAConsultarTrasInvalidar() {
+        // Arrange
+        when(delegate.obtenerUsuario("12345678")).thenReturn(Mono.just(usuario));
+
+        // Act
+        adapter.obtenerUsuario("12345678").block();
+        adapter.invalidar("12345678");
+        adapter.obtenerUsuario("12345678").block();
+
+        // Assert
+        verify(delegate, times(2)).obtenerUsuario("12345678");
+    }
+
+    @Test
+    @DisplayName("Debería consultar en bloque solo los documentos que no están en caché")
+    void deberiaConsultarEnBloqueSoloFaltantes() {
+        // Arrange
+        when(delegate.obtenerUsuario("12345678")).thenReturn(Mono.just(usuario));
+        when(delegate.obtenerUsuarios(Set.of("99999999"), null)).thenReturn(Mono.just(Map.of()));
+        adapter.obtenerUsuario("12345678").block();
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678", "99999999"), null))
+                .assertNext(usuarios -> assertThat(usuarios).containsOnlyKeys("12345678"))
+                .verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678", "99999999"), null))
+                .assertNext(usuarios -> assertThat(usuarios).containsOnlyKeys("12345678"))
+                .verifyComplete();
+        verify(delegate, times(1)).obtenerUsuarios(Set.of("99999999"), null);
+    }
+
+    @Test
+    @DisplayName("Debería servir desde la caché a otro token o sin token el usuario obtenido con un token")
+    void deberiaCompartirEntradaEntreTokens() {
+        // Arrange
+        when(delegate.obtenerUsuarioConToken("12345678", "Bearer asesor")).thenReturn(Mono.just(usuario));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarioConToken("12345678", "Bearer asesor"))
+                .expectNext(usuario)
+                .verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuarioConToken("12345678", "Bearer cliente"))
+                .expectNext(usuario)
+                .verifyComplete();
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectNext(usuario)
+                .verifyComplete();
+
+        verify(delegate, times(1)).obtenerUsuarioConToken("12345678", "Bearer asesor");
+        verify(delegate, never()).obtenerUsuarioConToken("12345678", "Bearer cliente");
+        verify(delegate, never()).obtenerUsuario("12345678");
+    }
+}
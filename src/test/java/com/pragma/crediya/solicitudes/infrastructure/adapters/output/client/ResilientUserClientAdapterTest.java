@@ -0,0 +1,135 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.exception.ServicioUsuariosNoDisponibleException;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.infrastructure.configuration.UserClientConfiguration;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para ResilientUserClientAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ResilientUserClientAdapter - Tests unitarios")
+class ResilientUserClientAdapterTest {
+
+    @Mock
+    private UserClientPort delegate;
+
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private ResilientUserClientAdapter adapter;
+    private UserClientPort.UserInfo usuario;
+    private AtomicInteger llamadas;
+
+    @BeforeEach
+    void setUp() {
+        UserClientConfiguration configuration = new UserClientConfiguration();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = configuration.userServiceCircuitBreaker(meterRegistry, 50, 4, 4, Duration.ofSeconds(30), 1);
+        adapter = new ResilientUserClientAdapter(delegate, circuitBreaker,
+                configuration.userServiceBulkhead(meterRegistry, 5, Duration.ZERO),
+                configuration.userServiceRetry(meterRegistry, 3, Duration.ofMillis(1), 2.0, 0.5));
+        usuario = new UserClientPort.UserInfo(1L, "Juan", "Pérez", "juan.perez@email.com", "12345678",
+                new BigDecimal("2500000"));
+        llamadas = new AtomicInteger();
+    }
+
+    private static WebClientResponseException respuesta(int status) {
+        return WebClientResponseException.create(status, "status " + status, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Debería reintentar las consultas GET ante errores 5xx")
+    void deberiaReintentarConsultasAnteErrores5xx() {
+        // Arrange
+        when(delegate.obtenerUsuario("12345678")).thenReturn(Mono.defer(() ->
+                llamadas.incrementAndGet() < 3 ? Mono.error(respuesta(503)) : Mono.just(usuario)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectNext(usuario)
+                .verifyComplete();
+        assertThat(llamadas.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("No debería reintentar ni abrir el circuito ante errores 4xx")
+    void noDeberiaReintentarErrores4xx() {
+        // Arrange
+        when(delegate.obtenerUsuario("12345678")).thenReturn(Mono.defer(() -> {
+            llamadas.incrementAndGet();
+            return Mono.error(respuesta(400));
+        }));
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+        assertThat(llamadas.get()).isEqualTo(5);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debería fallar de inmediato con ServicioUsuariosNoDisponibleException cuando el circuito está abierto")
+    void deberiaFallarDeInmediatoConCircuitoAbierto() {
+        // Arrange
+        when(delegate.obtenerUsuario(any())).thenReturn(Mono.defer(() -> {
+            llamadas.incrementAndGet();
+            return Mono.error(respuesta(500));
+        }));
+        for (int i = 0; i < 2; i++) {
+            adapter.obtenerUsuario("12345678").onErrorResume(error -> Mono.empty()).block();
+        }
+        int llamadasAntesDeAbrir = llamadas.get();
+
+        // Act & Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectError(ServicioUsuariosNoDisponibleException.class)
+                .verify(Duration.ofMillis(100));
+        assertThat(llamadas.get()).isEqualTo(llamadasAntesDeAbrir);
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", "open").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("No debería reintentar la consulta en bloque (POST)")
+    void noDeberiaReintentarConsultaEnBloque() {
+        // Arrange
+        when(delegate.obtenerUsuarios(any(), any())).thenReturn(Mono.defer(() -> {
+            llamadas.incrementAndGet();
+            return Mono.error(respuesta(503));
+        }));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuarios(List.of("12345678"), null))
+                .expectError(WebClientResponseException.class)
+                .verify();
+        assertThat(llamadas.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para SingleFlightUserClientAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SingleFlightUserClientAdapter - Tests unitarios")
+class SingleFlightUserClientAdapterTest {
+
+    @Mock
+    private UserClientPort delegate;
+
+    private MeterRegistry meterRegistry;
+    private SingleFlightUserClientAdapter adapter;
+    private UserClientPort.UserInfo usuario;
+    private AtomicInteger llamadasRemotas;
+    private Sinks.One<UserClientPort.UserInfo> respuesta;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new SingleFlightUserClientAdapter(delegate, meterRegistry);
+        usuario = new UserClientPort.UserInfo(1L, "Juan", "Pérez", "juan.perez@email.com", "12345678",
+                new BigDecimal("2500000"));
+        llamadasRemotas = new AtomicInteger();
+        respuesta = Sinks.one();
+        when(delegate.obtenerUsuario("12345678")).thenReturn(Mono.defer(() -> {
+            llamadasRemotas.incrementAndGet();
+            return respuesta.asMono();
+        }));
+    }
+
+    @Test
+    @DisplayName("Debería compartir una sola llamada remota entre consultas concurrentes")
+    void deberiaCompartirLlamadaEntreConsultasConcurrentes() {
+        // Arrange
+        Mono<UserClientPort.UserInfo> primera = adapter.obtenerUsuario("12345678");
+        Mono<UserClientPort.UserInfo> segunda = adapter.obtenerUsuario("12345678");
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(primera, segunda))
+                .then(() -> respuesta.tryEmitValue(usuario))
+                .assertNext(resultado -> {
+                    assertThat(resultado.getT1()).isEqualTo(usuario);
+                    assertThat(resultado.getT2()).isEqualTo(usuario);
+                })
+                .verifyComplete();
+
+        assertThat(llamadasRemotas.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(SingleFlightUserClientAdapter.COALESCED_METRIC).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería liberar la entrada al completar para que la siguiente consulta llame de nuevo")
+    void deberiaLiberarEntradaAlCompletar() {
+        // Arrange
+        respuesta.tryEmitValue(usuario);
+
+        // Act
+        adapter.obtenerUsuario("12345678").block();
+        adapter.obtenerUsuario("12345678").block();
+
+        // Assert
+        assertThat(llamadasRemotas.get()).isEqualTo(2);
+        assertThat(meterRegistry.get(SingleFlightUserClientAdapter.COALESCED_METRIC).counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Debería liberar la entrada cuando todos los suscriptores cancelan")
+    void deberiaLiberarEntradaAlCancelar() {
+        // Arrange
+        Disposable suscripcion = adapter.obtenerUsuario("12345678").subscribe();
+
+        // Act
+        suscripcion.dispose();
+        respuesta = Sinks.one();
+        respuesta.tryEmitValue(usuario);
+
+        // Assert
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectNext(usuario)
+                .verifyComplete();
+        assertThat(llamadasRemotas.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("No debería liberar una consulta más reciente cuando un suscriptor tardío repite la anterior")
+    @SuppressWarnings("unchecked")
+    void noDeberiaLiberarConsultaMasReciente() {
+        // Arrange: se cancela la primera consulta; un suscriptor que ya tenía su Mono compartido la repite tarde
+        Disposable primera = adapter.obtenerUsuario("12345678").subscribe();
+        Map<Object, Mono<UserClientPort.UserInfo>> enCurso =
+                (Map<Object, Mono<UserClientPort.UserInfo>>) ReflectionTestUtils.getField(adapter, "consultasEnCurso");
+        Mono<UserClientPort.UserInfo> anterior = enCurso.values().iterator().next();
+        primera.dispose();
+        respuesta = Sinks.one();
+        adapter.obtenerUsuario("12345678").subscribe();
+        respuesta = Sinks.one();
+        respuesta.tryEmitValue(usuario);
+
+        // Act
+        anterior.block();
+        adapter.obtenerUsuario("12345678").subscribe();
+
+        // Assert: la última consulta se agrupa con la segunda, que sigue en curso
+        assertThat(llamadasRemotas.get()).isEqualTo(3);
+        assertThat(meterRegistry.get(SingleFlightUserClientAdapter.COALESCED_METRIC).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería agrupar las consultas con token solo cuando el token es el mismo")
+    void deberiaAgruparConsultasConTokenSoloConElMismoToken() {
+        // Arrange
+        Sinks.One<UserClientPort.UserInfo> respuestaAsesor = Sinks.one();
+        Sinks.One<UserClientPort.UserInfo> respuestaCliente = Sinks.one();
+        when(delegate.obtenerUsuarioConToken("12345678", "Bearer asesor")).thenReturn(respuestaAsesor.asMono());
+        when(delegate.obtenerUsuarioConToken("12345678", "Bearer cliente")).thenReturn(respuestaCliente.asMono());
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(adapter.obtenerUsuarioConToken("12345678", "Bearer asesor"),
+                        adapter.obtenerUsuarioConToken("12345678", "Bearer cliente"),
+                        adapter.obtenerUsuarioConToken("12345678", "Bearer asesor")))
+                .then(() -> {
+                    respuestaAsesor.tryEmitValue(usuario);
+                    respuestaCliente.tryEmitValue(usuario);
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(delegate, times(1)).obtenerUsuarioConToken("12345678", "Bearer asesor");
+        verify(delegate, times(1)).obtenerUsuarioConToken("12345678", "Bearer cliente");
+        assertThat(meterRegistry.get(SingleFlightUserClientAdapter.COALESCED_METRIC).counter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.pragma.crediya.solicitudes.infrastructure.configuration.WebClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de UserClientAdapter con el WebClient de {@link WebClientConfig} contra un servidor local.
+ */
+@DisplayName("UserClientAdapter - Tests con pool de conexiones")
+class UserClientAdapterTest {
+
+    private final WebClientConfig webClientConfig = new WebClientConfig();
+
+    private UserServiceStub userService;
+    private ConnectionProvider connectionProvider;
+    private UserClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceStub();
+        userService.registrarUsuario("12345678", "Juan");
+        // Pool de una conexión con una sola adquisición en espera
+        connectionProvider = webClientConfig.userServiceConnectionProvider(1, 1, Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30));
+        WebClient webClient = webClientConfig.webClient(WebClient.builder(), connectionProvider, userService.baseUrl(),
+                Duration.ofSeconds(1), Duration.ofSeconds(1), true, false);
+
+        adapter = new UserClientAdapter(webClient);
+        ReflectionTestUtils.setField(adapter, "userServiceBaseUrl", userService.baseUrl());
+        ReflectionTestUtils.setField(adapter, "getUserByDocumentEndpoint", "/api/v1/usuarios/documento/{documento}");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Debería obtener el usuario a través del pool")
+    void deberiaObtenerUsuario() {
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .assertNext(usuario -> assertThat(usuario.nombres()).isEqualTo("Juan"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería fallar por response-timeout cuando el servicio responde lento")
+    void deberiaFallarPorResponseTimeout() {
+        // Arrange
+        userService.retrasarRespuestas(Duration.ofSeconds(3));
+
+        // Act & Assert
+        StepVerifier.create(adapter.obtenerUsuario("12345678"))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar de inmediato las peticiones que exceden la cola de espera del pool")
+    void deberiaRechazarPeticionesQueExcedenLaCola() {
+        // Arrange: conexión ya establecida, así solo las peticiones que esperan ocupan la cola
+        adapter.obtenerUsuario("12345678").block(Duration.ofSeconds(5));
+        userService.retrasarRespuestas(Duration.ofMillis(500));
+
+        // Act
+        List<Throwable> errores = Flux.range(0, 3)
+                .flatMap(i -> adapter.obtenerUsuario("12345678")
+                        .then(Mono.<Throwable>empty())
+                        .onErrorResume(Mono::just))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertThat(errores).hasSize(1);
+        assertThat(errores.get(0)).hasMessageContaining("Pending acquire queue has reached its maximum size");
+    }
+}
@@ -0,0 +1,130 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP local que imita los endpoints del microservicio de usuarios
+ * (consulta individual y consulta en bloque), cuenta las peticiones recibidas y guarda
+ * la cabecera Authorization de cada una.
+ */
+class UserServiceStub implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Object>> usuarios = new ConcurrentHashMap<>();
+    private final AtomicInteger peticionesIndividuales = new AtomicInteger();
+    private final AtomicInteger peticionesEnBloque = new AtomicInteger();
+    private final AtomicInteger individualesEnCurso = new AtomicInteger();
+    private final AtomicInteger maximoIndividualesEnCurso = new AtomicInteger();
+    private final Queue<String> autorizaciones = new ConcurrentLinkedQueue<>();
+    private final DisposableServer server;
+    private volatile Duration retraso = Duration.ZERO;
+    private volatile int estadoConsultaEnBloque = 200;
+
+    UserServiceStub() {
+        this.server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/api/v1/usuarios/documento/{documento}", (request, response) -> {
+                            peticionesIndividuales.incrementAndGet();
+                            registrarAutorizacion(request.requestHeaders().get("Authorization"));
+                            maximoIndividualesEnCurso.accumulateAndGet(individualesEnCurso.incrementAndGet(), Math::max);
+                            Map<String, Object> usuario = usuarios.get(request.param("documento"));
+                            if (usuario == null) {
+                                return Mono.delay(retraso).doFinally(senal -> individualesEnCurso.decrementAndGet())
+                                        .then(response.status(404).send());
+                            }
+                            return Mono.delay(retraso).doFinally(senal -> individualesEnCurso.decrementAndGet())
+                                    .thenMany(response.header("Content-Type", "application/json")
+                                            .sendString(Mono.fromCallable(() -> objectMapper.writeValueAsString(usuario))));
+                        })
+                        .post("/api/v1/usuarios/documentos", (request, response) -> {
+                            peticionesEnBloque.incrementAndGet();
+                            registrarAutorizacion(request.requestHeaders().get("Authorization"));
+                            if (estadoConsultaEnBloque != 200) {
+                                return response.status(estadoConsultaEnBloque).send();
+                            }
+                            return response.header("Content-Type", "application/json")
+                                    .sendString(request.receive().aggregate().asString()
+                                            .map(this::buscarEnBloque));
+                        }))
+                .bindNow();
+    }
+
+    void registrarUsuario(String documentoIdentidad, String nombres) {
+        usuarios.put(documentoIdentidad, Map.of(
+                "id", usuarios.size() + 1,
+                "nombres", nombres,
+                "apellidos", "Prueba",
+                "correoElectronico", nombres.toLowerCase() + "@email.com",
+                "documentoIdentidad", documentoIdentidad,
+                "salarioBase", 2500000));
+    }
+
+    /**
+     * Retrasa las respuestas individuales para simular un servicio degradado.
+     */
+    void retrasarRespuestas(Duration retraso) {
+        this.retraso = retraso;
+    }
+
+    /**
+     * Hace que la consulta en bloque responda con el estado indicado, p. ej. 404 si el endpoint no existe.
+     */
+    void responderConsultaEnBloque(int estado) {
+        this.estadoConsultaEnBloque = estado;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    int peticionesIndividuales() {
+        return peticionesIndividuales.get();
+    }
+
+    int peticionesEnBloque() {
+        return peticionesEnBloque.get();
+    }
+
+    int maximoIndividualesEnCurso() {
+        return maximoIndividualesEnCurso.get();
+    }
+
+    List<String> autorizaciones() {
+        return List.copyOf(autorizaciones);
+    }
+
+    private void registrarAutorizacion(String autorizacion) {
+        autorizaciones.add(Objects.requireNonNullElse(autorizacion, ""));
+    }
+
+    private String buscarEnBloque(String cuerpo) {
+        try {
+            List<String> documentos = objectMapper.readValue(cuerpo, new TypeReference<>() { });
+            return objectMapper.writeValueAsString(documentos.stream()
+                    .map(usuarios::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cuerpo de consulta en bloque inválido: " + cuerpo, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
@@ -0,0 +1,128 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics;
+
+import com.pragma.crediya.solicitudes.domain.exception.ClienteNoEncontradoException;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.out.ISolicitudRepositoryPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudMetricsPort;
+import com.pragma.crediya.solicitudes.domain.ports.out.UserClientPort;
+import com.pragma.crediya.solicitudes.domain.usecase.SolicitudUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de MicrometerSolicitudMetricsAdapter, solo y a través de SolicitudUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MicrometerSolicitudMetricsAdapter - Tests unitarios")
+class MicrometerSolicitudMetricsAdapterTest {
+
+    @Mock
+    private ISolicitudRepositoryPort solicitudRepositoryPort;
+
+    @Mock
+    private UserClientPort userClientPort;
+
+    private MeterRegistry meterRegistry;
+    private MicrometerSolicitudMetricsAdapter adapter;
+    private SolicitudUseCase solicitudUseCase;
+    private SolicitudPrestamo solicitud;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new MicrometerSolicitudMetricsAdapter(meterRegistry);
+        solicitudUseCase = new SolicitudUseCase(solicitudRepositoryPort, userClientPort, 500, adapter);
+        solicitud = SolicitudPrestamo.builder()
+                .documentoIdentidad("12345678")
+                .monto(new BigDecimal("5000000"))
+                .plazo(24)
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .build();
+    }
+
+    private long conteoTimer(String etapa, String resultado) {
+        return meterRegistry.get(MicrometerSolicitudMetricsAdapter.TIMER_ETAPA)
+                .tag("etapa", etapa)
+                .tag("tipoPrestamo", "personal")
+                .tag("resultado", resultado)
+                .timer()
+                .count();
+    }
+
+    private double conteoResultado(String resultado) {
+        return meterRegistry.get(MicrometerSolicitudMetricsAdapter.CONTADOR_RESULTADO)
+                .tag("resultado", resultado)
+                .tag("tipoPrestamo", "personal")
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Debería etiquetar la medición con el resultado de la operación")
+    void deberiaEtiquetarMedicionConResultado() {
+        // Act
+        adapter.medir(SolicitudMetricsPort.Etapa.GUARDADO, TipoPrestamo.PERSONAL, Mono.just(1)).block();
+        adapter.medir(SolicitudMetricsPort.Etapa.GUARDADO, TipoPrestamo.PERSONAL, Mono.empty()).block();
+        adapter.medir(SolicitudMetricsPort.Etapa.GUARDADO, TipoPrestamo.PERSONAL, Mono.error(new IllegalStateException()))
+                .onErrorResume(error -> Mono.empty())
+                .block();
+
+        // Assert
+        assertThat(conteoTimer("guardado", "exito")).isEqualTo(1);
+        assertThat(conteoTimer("guardado", "vacio")).isEqualTo(1);
+        assertThat(conteoTimer("guardado", "error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería medir las etapas del caso de uso y contar la solicitud creada")
+    void deberiaMedirEtapasYContarSolicitudCreada() {
+        // Arrange
+        when(userClientPort.obtenerUsuario("12345678")).thenReturn(Mono.just(new UserClientPort.UserInfo(
+                1L, "Juan", "Pérez", "juan.perez@email.com", "12345678", new BigDecimal("2500000"))));
+        when(solicitudRepositoryPort.guardarSolicitud(any(SolicitudPrestamo.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(solicitudUseCase.crearSolicitud(solicitud))
+                .expectNextCount(1)
+                .verifyComplete();
+        for (String etapa : new String[]{"consulta_usuario", "guardado", "total"}) {
+            assertThat(conteoTimer(etapa, "exito")).as(etapa).isEqualTo(1);
+        }
+        assertThat(conteoResultado("creada")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería contar la solicitud con cliente no encontrado sin medir el guardado")
+    void deberiaContarClienteNoEncontrado() {
+        // Arrange
+        when(userClientPort.obtenerUsuario("12345678")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(solicitudUseCase.crearSolicitud(solicitud))
+                .expectError(ClienteNoEncontradoException.class)
+                .verify();
+        assertThat(conteoTimer("consulta_usuario", "vacio")).isEqualTo(1);
+        assertThat(conteoTimer("total", "error")).isEqualTo(1);
+        assertThat(meterRegistry.find(MicrometerSolicitudMetricsAdapter.TIMER_ETAPA).tag("etapa", "guardado").timer()).isNull();
+        assertThat(conteoResultado("cliente_no_encontrado")).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de R2dbcQueryMetricsListener sobre una base H2 en memoria.
+ */
+@DisplayName("R2dbcQueryMetricsListener - Tests con H2")
+class R2dbcQueryMetricsListenerTest {
+
+    private static final String SELECT_POR_IDS = "SELECT id, nombre FROM estado WHERE id IN (:ids)";
+
+    private MeterRegistry meterRegistry;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        crearCliente(200);
+    }
+
+    private void crearCliente(int maximoFormas) {
+        meterRegistry = new SimpleMeterRegistry();
+        databaseClient = DatabaseClient.create(ProxyConnectionFactory.builder(
+                        ConnectionFactories.get("r2dbc:h2:mem:///metricas" + System.nanoTime() + "?options=DB_CLOSE_DELAY=-1"))
+                .listener(new R2dbcQueryMetricsListener(meterRegistry, Duration.ofSeconds(5), maximoFormas))
+                .build());
+        databaseClient.sql("CREATE TABLE estado (id BIGINT PRIMARY KEY, nombre VARCHAR(50))").then().block();
+        databaseClient.sql("INSERT INTO estado (id, nombre) VALUES (1, 'PENDIENTE'), (2, 'APROBADA'), (3, 'RECHAZADA')")
+                .then().block();
+    }
+
+    @Test
+    @DisplayName("Debería normalizar bind markers, listas IN y tuplas de VALUES")
+    void deberiaNormalizarLaFormaDeLaConsulta() {
+        assertThat(R2dbcQueryMetricsListener.normalizar("SELECT *\n  FROM solicitud WHERE id IN ($1, $2, $3) AND estado = :estado"))
+                .isEqualTo("SELECT * FROM solicitud WHERE id IN (?) AND estado = ?");
+        assertThat(R2dbcQueryMetricsListener.normalizar("INSERT INTO t (a, b) VALUES ($1, $2), ($3, $4), ($5, $6)"))
+                .isEqualTo("INSERT INTO t (a, b) VALUES (?)");
+        assertThat(R2dbcQueryMetricsListener.normalizar("SELECT payload::jsonb FROM t WHERE id = $1"))
+                .isEqualTo("SELECT payload::jsonb FROM t WHERE id = ?");
+    }
+
+    @Test
+    @DisplayName("Debería agrupar en una misma forma las consultas con listas IN de distinto tamaño y contar las filas")
+    void deberiaMedirPorFormaYContarFilas() {
+        // Act
+        Flux.concat(
+                        databaseClient.sql(SELECT_POR_IDS).bind("ids", List.of(1L, 2L)).fetch().all(),
+                        databaseClient.sql(SELECT_POR_IDS).bind("ids", List.of(1L, 2L, 3L)).fetch().all())
+                .blockLast();
+
+        // Assert
+        String forma = "SELECT id, nombre FROM estado WHERE id IN (?)";
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.TIMER_CONSULTAS)
+                .tag("consulta", forma).tag("operacion", "select").tag("resultado", "exito")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.FILAS_CONSULTAS)
+                .tag("consulta", forma).summary().totalAmount()).isEqualTo(5.0);
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.TIMER_RETENCION).timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Debería etiquetar como error las sentencias que fallan")
+    void deberiaEtiquetarErrores() {
+        // Act
+        databaseClient.sql("SELECT id FROM tabla_inexistente").fetch().all()
+                .onErrorResume(error -> Flux.empty())
+                .blockLast();
+
+        // Assert
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.TIMER_CONSULTAS)
+                .tag("resultado", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería contar el límite de formas sobre el SQL normalizado y no sobre cada tamaño de la lista IN")
+    void deberiaLimitarFormasNormalizadas() {
+        // Arrange: el setUp ya registró el CREATE TABLE y el INSERT, así que solo cabe una forma más
+        crearCliente(3);
+
+        // Act
+        Flux.range(1, 50)
+                .concatMap(tamano -> databaseClient.sql(SELECT_POR_IDS)
+                        .bind("ids", LongStream.rangeClosed(1, tamano).boxed().toList())
+                        .fetch().all())
+                .blockLast();
+        databaseClient.sql("SELECT nombre FROM estado WHERE id = :id").bind("id", 1L).fetch().all().blockLast();
+
+        // Assert
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.TIMER_CONSULTAS)
+                .tag("consulta", "SELECT id, nombre FROM estado WHERE id IN (?)")
+                .timer().count()).isEqualTo(50);
+        assertThat(meterRegistry.get(R2dbcQueryMetricsListener.TIMER_CONSULTAS)
+                .tag("consulta", R2dbcQueryMetricsListener.FORMA_OTRAS)
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(R2dbcQueryMetricsListener.TIMER_CONSULTAS).timers()).hasSize(4);
+    }
+}
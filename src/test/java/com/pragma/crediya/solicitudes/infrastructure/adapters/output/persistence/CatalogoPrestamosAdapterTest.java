@@ -0,0 +1,124 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.EstadoEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.TipoPrestamoEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.IEstadoRepository;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.ITipoPrestamoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para CatalogoPrestamosAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CatalogoPrestamosAdapter - Tests unitarios")
+class CatalogoPrestamosAdapterTest {
+
+    @Mock
+    private IEstadoRepository estadoRepository;
+
+    @Mock
+    private ITipoPrestamoRepository tipoPrestamoRepository;
+
+    private CatalogoPrestamosAdapter catalogo;
+
+    @BeforeEach
+    void setUp() {
+        catalogo = new CatalogoPrestamosAdapter(estadoRepository, tipoPrestamoRepository, Duration.ofSeconds(1));
+        // Mismo orden que los datos maestros de schema.sql: hay estados sin valor en el enum
+        when(estadoRepository.findAll()).thenReturn(Flux.just(
+                estado(1L, "PENDIENTE_REVISION"), estado(2L, "EN_EVALUACION"), estado(3L, "DOCUMENTOS_PENDIENTES"),
+                estado(4L, "PRE_APROBADA"), estado(5L, "APROBADA"), estado(6L, "RECHAZADA"),
+                estado(7L, "DESEMBOLSADA"), estado(8L, "CANCELADA")));
+        when(tipoPrestamoRepository.findAll()).thenReturn(Flux.just(
+                tipo(1L, "PERSONAL", "0.0249"), tipo(2L, "VEHICULAR", "0.0199")));
+    }
+
+    private static EstadoEntity estado(Long id, String nombre) {
+        return EstadoEntity.builder().idEstado(id).nombre(nombre).descripcion(nombre).build();
+    }
+
+    private static TipoPrestamoEntity tipo(Long id, String nombre, String tasa) {
+        return TipoPrestamoEntity.builder().idTipoPrestamo(id).nombre(nombre)
+                .montoMinimo(new BigDecimal("500000")).montoMaximo(new BigDecimal("50000000"))
+                .tasaInteres(new BigDecimal(tasa)).validacionAutomatica(true).build();
+    }
+
+    @Test
+    @DisplayName("Debería resolver estados y tipos en ambos sentidos con los ids de la base de datos")
+    void deberiaResolverEnAmbosSentidos() {
+        // Act
+        catalogo.cargarAlIniciar();
+
+        // Assert
+        assertThat(catalogo.idEstado(EstadoSolicitud.APROBADA)).isEqualTo(5L);
+        assertThat(catalogo.estado(7L)).isEqualTo(EstadoSolicitud.DESEMBOLSADA);
+        assertThat(catalogo.idTipoPrestamo(TipoPrestamo.VEHICULAR)).isEqualTo(2L);
+        assertThat(catalogo.tipoPrestamo(1L)).isEqualTo(TipoPrestamo.PERSONAL);
+        assertThat(catalogo.condiciones(TipoPrestamo.PERSONAL))
+                .hasValueSatisfying(condiciones -> assertThat(condiciones.tasaInteres()).isEqualByComparingTo("0.0249"));
+        assertThat(catalogo.condiciones(TipoPrestamo.HIPOTECARIO)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar ids sin valor en el dominio")
+    void deberiaRechazarIdsDesconocidos() {
+        // Act
+        catalogo.cargarAlIniciar();
+
+        // Assert
+        assertThatThrownBy(() -> catalogo.estado(3L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> catalogo.estado(99L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> catalogo.idTipoPrestamo(TipoPrestamo.EDUCATIVO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debería reemplazar la instantánea al refrescar y conservarla si el refresco falla")
+    void deberiaReemplazarOConservarLaInstantanea() {
+        // Arrange
+        catalogo.cargarAlIniciar();
+        when(tipoPrestamoRepository.findAll()).thenReturn(Flux.just(tipo(1L, "PERSONAL", "0.0300")));
+
+        // Act & Assert
+        StepVerifier.create(catalogo.refrescar()).verifyComplete();
+        assertThat(catalogo.condiciones(TipoPrestamo.PERSONAL))
+                .hasValueSatisfying(condiciones -> assertThat(condiciones.tasaInteres()).isEqualByComparingTo("0.0300"));
+
+        when(estadoRepository.findAll()).thenReturn(Flux.error(new RuntimeException("Conexión rechazada")));
+        StepVerifier.create(catalogo.refrescar()).expectError(RuntimeException.class).verify();
+        assertThat(catalogo.idEstado(EstadoSolicitud.APROBADA)).isEqualTo(5L);
+        assertThat(catalogo.condiciones(TipoPrestamo.PERSONAL))
+                .hasValueSatisfying(condiciones -> assertThat(condiciones.tasaInteres()).isEqualByComparingTo("0.0300"));
+    }
+
+    @Test
+    @DisplayName("Debería iniciar sin catálogo si la base de datos no responde y fallar al usarlo")
+    void deberiaIniciarSinCatalogoSiLaCargaFalla() {
+        // Arrange
+        when(estadoRepository.findAll()).thenReturn(Flux.error(new RuntimeException("Conexión rechazada")));
+
+        // Act
+        catalogo.cargarAlIniciar();
+
+        // Assert
+        assertThatThrownBy(() -> catalogo.idEstado(EstadoSolicitud.APROBADA)).isInstanceOf(IllegalStateException.class);
+    }
+}
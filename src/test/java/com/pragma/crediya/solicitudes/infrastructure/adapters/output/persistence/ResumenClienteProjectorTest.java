@@ -0,0 +1,231 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.ResumenClienteEntity;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.mapper.ISolicitudPersistenceMapper;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.mapper.ISolicitudPersistenceMapperImpl;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.IResumenClienteRepository;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.repository.ISolicitudRepository;
+import com.pragma.crediya.solicitudes.infrastructure.configuration.FlywayMigrationConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de ResumenClienteProjector contra H2 con las migraciones de Flyway.
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.r2dbc.url=r2dbc:h2:mem:///resumen_cliente;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@Import({FlywayMigrationConfiguration.class, CatalogoPrestamosAdapter.class, ResumenClienteProjector.class,
+        ISolicitudPersistenceMapperImpl.class})
+@DisplayName("ResumenClienteProjector - Tests con R2DBC")
+class ResumenClienteProjectorTest {
+
+    @Autowired
+    private ResumenClienteProjector projector;
+
+    @Autowired
+    private IResumenClienteRepository resumenClienteRepository;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    @Autowired
+    private ISolicitudPersistenceMapper solicitudMapper;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("DELETE FROM resumen_cliente").then()
+                .then(databaseClient.sql("DELETE FROM solicitud").then())
+                .block();
+    }
+
+    private static SolicitudPrestamo solicitud(String documento, String monto, int plazo, String tasa) {
+        SolicitudPrestamo solicitud = SolicitudPrestamo.builder()
+                .documentoIdentidad(documento)
+                .email(documento + "@email.com")
+                .monto(new BigDecimal(monto))
+                .plazo(plazo)
+                .tasaInteres(tasa == null ? null : new BigDecimal(tasa))
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                .build();
+        solicitud.establecerFechasIniciales();
+        return solicitud;
+    }
+
+    /**
+     * Guarda la solicitud y registra el cambio en la proyección, como lo hace el adaptador de persistencia.
+     */
+    private SolicitudPrestamo guardar(SolicitudPrestamo anterior, SolicitudPrestamo solicitud) {
+        return solicitudRepository.save(solicitudMapper.toEntity(solicitud))
+                .map(solicitudMapper::toSolicitud)
+                .flatMap(guardada -> projector.registrarCambio(anterior, guardada).thenReturn(guardada))
+                .block();
+    }
+
+    private SolicitudPrestamo cambiarEstado(SolicitudPrestamo guardada, EstadoSolicitud estado) {
+        SolicitudPrestamo cambiada = SolicitudPrestamo.builder()
+                .id(guardada.getId())
+                .documentoIdentidad(guardada.getDocumentoIdentidad())
+                .email(guardada.getEmail())
+                .monto(guardada.getMonto())
+                .plazo(guardada.getPlazo())
+                .tasaInteres(guardada.getTasaInteres())
+                .tipoPrestamo(guardada.getTipoPrestamo())
+                .estado(estado)
+                .fechaCreacion(guardada.getFechaCreacion())
+                .fechaActualizacion(guardada.getFechaActualizacion())
+                .build();
+        return guardar(guardada, cambiada);
+    }
+
+    private ResumenClienteEntity resumen(String documento) {
+        return resumenClienteRepository.findById(documento).block();
+    }
+
+    private Map<String, ResumenClienteEntity> resumenes() {
+        return resumenClienteRepository.findAll()
+                .doOnNext(resumen -> resumen.setFechaActualizacion(null))
+                .collectList()
+                .block()
+                .stream()
+                .collect(Collectors.toMap(ResumenClienteEntity::getDocumentoIdentidad, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("Debería crear el resumen del cliente con su primera solicitud")
+    void deberiaCrearResumenConPrimeraSolicitud() {
+        // Act
+        guardar(null, solicitud("10000001", "1000000", 12, "0.0249"));
+
+        // Assert
+        ResumenClienteEntity resumen = resumen("10000001");
+        assertThat(resumen.getCantidadPendienteRevision()).isEqualTo(1);
+        assertThat(resumen.getCantidadAprobada()).isZero();
+        assertThat(resumen.getTotalAprobado()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Debería mover el total aprobado y la cuota al aprobar una solicitud pendiente")
+    void deberiaMoverTotalAprobadoAlAprobar() {
+        // Arrange
+        SolicitudPrestamo pendiente = guardar(null, solicitud("10000002", "1200000", 24, "0.0249"));
+
+        // Act
+        SolicitudPrestamo aprobada = cambiarEstado(pendiente, EstadoSolicitud.APROBADA);
+
+        // Assert
+        ResumenClienteEntity resumen = resumen("10000002");
+        assertThat(resumen.getCantidadPendienteRevision()).isZero();
+        assertThat(resumen.getCantidadAprobada()).isEqualTo(1);
+        assertThat(resumen.getTotalAprobado()).isEqualByComparingTo("1200000");
+        assertThat(resumen.getCuotaMensualAprobada()).isEqualByComparingTo(aprobada.calcularCuotaMensual());
+    }
+
+    @Test
+    @DisplayName("Debería crear en un solo delta los resúmenes de clientes que aún no lo tienen")
+    void deberiaCrearResumenesInexistentesEnLote() {
+        // Arrange
+        List<SolicitudPrestamo> nuevas = List.of(
+                solicitud("10000004", "1000000", 12, null),
+                solicitud("10000003", "2000000", 12, null),
+                solicitud("10000004", "3000000", 12, null));
+
+        // Act
+        StepVerifier.create(projector.registrarNuevas(nuevas))
+                .verifyComplete();
+
+        // Assert
+        assertThat(resumen("10000003").getCantidadPendienteRevision()).isEqualTo(1);
+        assertThat(resumen("10000004").getCantidadPendienteRevision()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debería crear el resumen una sola vez aunque se intente dos veces")
+    void deberiaCrearResumenUnaSolaVez() {
+        // Act & Assert
+        StepVerifier.create(resumenClienteRepository.crearResumenSiNoExiste("10000005", LocalDateTime.now())
+                        .concatWith(resumenClienteRepository.crearResumenSiNoExiste("10000005", LocalDateTime.now())))
+                .expectNext(1, 0)
+                .verifyComplete();
+    }
+
+    /**
+     * Aprobadas con y sin tasa, y solicitudes en otros estados, registradas por el camino incremental.
+     */
+    private Map<String, ResumenClienteEntity> guardarSolicitudesVariadas() {
+        cambiarEstado(guardar(null, solicitud("20000001", "1000000", 12, "0.0249")), EstadoSolicitud.APROBADA);
+        cambiarEstado(guardar(null, solicitud("20000001", "3333333.33", 36, "0.0199")), EstadoSolicitud.APROBADA);
+        cambiarEstado(guardar(null, solicitud("20000001", "500000", 7, null)), EstadoSolicitud.APROBADA);
+        cambiarEstado(guardar(null, solicitud("20000002", "25000000", 240, "0.0089")), EstadoSolicitud.APROBADA);
+        cambiarEstado(guardar(null, solicitud("20000002", "2000000", 12, "0.0299")), EstadoSolicitud.RECHAZADA);
+        guardar(null, solicitud("20000003", "1500000", 18, "0.0149"));
+        return resumenes();
+    }
+
+    @Test
+    @DisplayName("Debería reconstruir los mismos resúmenes que mantiene el camino incremental")
+    void deberiaReconstruirIgualQueIncremental() {
+        // Arrange
+        Map<String, ResumenClienteEntity> incrementales = guardarSolicitudesVariadas();
+        TransactionalOperator transaccion = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+
+        // Act
+        StepVerifier.create(projector.reconstruir().as(transaccion::transactional))
+                .expectNext(3)
+                .verifyComplete();
+
+        // Assert
+        assertThat(resumenes()).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(incrementales);
+    }
+
+    @Test
+    @DisplayName("Debería poblar con la migración V6 los mismos resúmenes que mantiene el camino incremental")
+    void deberiaPoblarConLaMigracionIgualQueIncremental() {
+        // Arrange: la migración se vuelve a ejecutar sobre solicitudes existentes con la proyección vacía
+        Map<String, ResumenClienteEntity> incrementales = guardarSolicitudesVariadas();
+        DatabaseClient.create(connectionFactory).sql("DELETE FROM resumen_cliente").then().block();
+
+        // Act
+        StepVerifier.create(new ResourceDatabasePopulator(
+                        new ClassPathResource("db/migration/common/V6__poblar_resumen_cliente.sql"))
+                        .populate(connectionFactory))
+                .verifyComplete();
+
+        // Assert
+        assertThat(resumenes()).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(incrementales);
+    }
+}
@@ -0,0 +1,163 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para SolicitudGroupCommitter.
+ */
+@DisplayName("SolicitudGroupCommitter - Tests unitarios")
+class SolicitudGroupCommitterTest {
+
+    private final List<Integer> lotes = new CopyOnWriteArrayList<>();
+    private final AtomicLong secuencia = new AtomicLong();
+    private SolicitudGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() {
+        committer.close();
+    }
+
+    private static SolicitudPrestamo solicitud(String documentoIdentidad, String monto) {
+        return SolicitudPrestamo.builder()
+                .documentoIdentidad(documentoIdentidad)
+                .monto(new BigDecimal(monto))
+                .plazo(12)
+                .build();
+    }
+
+    /**
+     * Inserción simulada: asigna ids consecutivos y falla si el lote contiene un monto negativo.
+     */
+    private Flux<SolicitudPrestamo> insertar(List<SolicitudPrestamo> solicitudes) {
+        lotes.add(solicitudes.size());
+        if (solicitudes.stream().anyMatch(s -> s.getMonto().signum() < 0)) {
+            return Flux.error(new IllegalArgumentException("monto negativo"));
+        }
+        return Flux.fromIterable(solicitudes)
+                .doOnNext(s -> s.setId(secuencia.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("Debería agrupar las inserciones concurrentes en un solo lote y devolver a cada llamador su solicitud")
+    void deberiaAgruparInsercionesConcurrentes() {
+        // Arrange
+        committer = new SolicitudGroupCommitter(this::insertar, 10, Duration.ofMillis(50), 1);
+
+        // Act
+        List<SolicitudPrestamo> guardadas = Flux.range(0, 5)
+                .flatMapSequential(i -> committer.guardar(solicitud("doc" + i, "1000")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertThat(lotes).containsExactly(5);
+        assertThat(guardadas).extracting(SolicitudPrestamo::getDocumentoIdentidad)
+                .containsExactly("doc0", "doc1", "doc2", "doc3", "doc4");
+        assertThat(guardadas).extracting(SolicitudPrestamo::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Debería entregar el error solo al llamador cuya solicitud falla")
+    void deberiaAislarElErrorDeCadaLlamador() {
+        // Arrange
+        committer = new SolicitudGroupCommitter(this::insertar, 10, Duration.ofMillis(50), 1);
+
+        // Act
+        Mono<SolicitudPrestamo> valida = committer.guardar(solicitud("doc1", "1000"));
+        Mono<SolicitudPrestamo> invalida = committer.guardar(solicitud("doc2", "-1"));
+
+        // Assert
+        StepVerifier.create(Mono.zip(valida, invalida.map(s -> "guardada").onErrorResume(e -> Mono.just(e.getMessage()))))
+                .assertNext(resultados -> {
+                    assertThat(resultados.getT1().getId()).isNotNull();
+                    assertThat(resultados.getT2()).isEqualTo("monto negativo");
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        assertThat(lotes).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Debería esperar a que termine el lote en curso en lugar de desbordarse cuando la escritura es lenta")
+    void deberiaRespetarLotesConcurrentesConEscrituraLenta() {
+        // Arrange
+        committer = new SolicitudGroupCommitter(solicitudes -> insertar(solicitudes).delayElements(Duration.ofMillis(20)),
+                2, Duration.ofMillis(1), 1);
+
+        // Act
+        List<SolicitudPrestamo> guardadas = Flux.range(0, 20)
+                .flatMap(i -> committer.guardar(solicitud("doc" + i, "1000")))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertThat(guardadas).hasSize(20);
+        assertThat(lotes).allMatch(tamano -> tamano <= 2);
+    }
+
+    @Test
+    @DisplayName("Debería escribir las solicitudes encoladas antes de cerrar")
+    void deberiaEscribirLasEncoladasAlCerrar() {
+        // Arrange
+        committer = new SolicitudGroupCommitter(solicitudes -> insertar(solicitudes).delayElements(Duration.ofMillis(50)),
+                10, Duration.ofMillis(20), 1, Duration.ofSeconds(5));
+        Mono<List<SolicitudPrestamo>> guardadas = Flux.range(0, 3)
+                .flatMap(i -> committer.guardar(solicitud("doc" + i, "1000")))
+                .collectList()
+                .cache();
+        guardadas.subscribe();
+
+        // Act
+        committer.close();
+
+        // Assert
+        StepVerifier.create(guardadas)
+                .assertNext(lista -> assertThat(lista).hasSize(3).extracting(SolicitudPrestamo::getId).doesNotContainNull())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar con error las solicitudes que llegan después de cerrar")
+    void deberiaRechazarSolicitudesTrasCerrar() {
+        // Arrange
+        committer = new SolicitudGroupCommitter(this::insertar, 10, Duration.ofMillis(20), 1);
+        committer.close();
+
+        // Act & Assert
+        StepVerifier.create(committer.guardar(solicitud("doc1", "1000")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Debería fallar las solicitudes que no alcanzan a escribirse en la espera de cierre")
+    void deberiaFallarPendientesAlVencerLaEsperaDeCierre() {
+        // Arrange: la escritura no termina nunca
+        committer = new SolicitudGroupCommitter(solicitudes -> Flux.never(), 10, Duration.ofMillis(1), 1,
+                Duration.ofMillis(100));
+        Mono<SolicitudPrestamo> pendiente = committer.guardar(solicitud("doc1", "1000")).cache();
+        pendiente.subscribe(guardada -> { }, error -> { });
+
+        // Act
+        committer.close();
+
+        // Assert
+        StepVerifier.create(pendiente)
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+}
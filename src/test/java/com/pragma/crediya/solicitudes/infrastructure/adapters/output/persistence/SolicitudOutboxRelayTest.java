@@ -0,0 +1,184 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.EventoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.out.SolicitudEventPublisherPort;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.events.InMemorySolicitudEventPublisher;
+import com.pragma.crediya.solicitudes.infrastructure.configuration.FlywayMigrationConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests del outbox (SolicitudOutboxWriter y SolicitudOutboxRelay) contra H2 con las migraciones de Flyway.
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.r2dbc.url=r2dbc:h2:mem:///outbox;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@Import(FlywayMigrationConfiguration.class)
+@DisplayName("SolicitudOutboxRelay - Tests con R2DBC")
+class SolicitudOutboxRelayTest {
+
+    @Autowired
+    private R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private MeterRegistry meterRegistry;
+    private TransactionalOperator transactionalOperator;
+    private DatabaseClient databaseClient;
+    private SolicitudOutboxWriter writer;
+    private InMemorySolicitudEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+        writer = new SolicitudOutboxWriter(r2dbcEntityTemplate, objectMapper);
+        publisher = new InMemorySolicitudEventPublisher(100);
+        databaseClient.sql("DELETE FROM solicitud_outbox").then().block();
+    }
+
+    private SolicitudOutboxRelay relay(SolicitudEventPublisherPort publicador, int tamanoLote) {
+        return new SolicitudOutboxRelay(r2dbcEntityTemplate, transactionalOperator, publicador, objectMapper,
+                meterRegistry, tamanoLote);
+    }
+
+    private static EventoSolicitud evento(long idSolicitud, LocalDateTime fecha) {
+        return new EventoSolicitud(null, EventoSolicitud.SOLICITUD_CREADA, idSolicitud, "12345678",
+                EstadoSolicitud.PENDIENTE_REVISION, null, new BigDecimal("1000000"), TipoPrestamo.PERSONAL, fecha);
+    }
+
+    private long contar(String condicion) {
+        return databaseClient.sql("SELECT COUNT(*) FROM solicitud_outbox WHERE " + condicion)
+                .map(fila -> fila.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    @Test
+    @DisplayName("Debería registrar el evento solo si la transacción que guarda la solicitud se confirma")
+    void deberiaRegistrarEnLaTransaccionDelGuardado() {
+        // Act
+        StepVerifier.create(writer.registrar(List.of(evento(1, LocalDateTime.now())))
+                        .then(Mono.error(new IllegalStateException("falla el guardado")))
+                        .as(transactionalOperator::transactional))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(writer.registrar(List.of(evento(2, LocalDateTime.now())))
+                        .as(transactionalOperator::transactional))
+                .verifyComplete();
+
+        // Assert
+        assertThat(contar("id_solicitud = 1")).isZero();
+        assertThat(contar("id_solicitud = 2")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería publicar los pendientes por lotes y marcarlos como enviados")
+    void deberiaPublicarYMarcarEnviados() {
+        // Arrange
+        writer.registrar(List.of(evento(1, LocalDateTime.now()), evento(2, LocalDateTime.now()),
+                evento(3, LocalDateTime.now()))).block();
+
+        // Act & Assert
+        StepVerifier.create(relay(publisher, 2).relevar())
+                .expectNext(3)
+                .verifyComplete();
+        assertThat(publisher.eventos()).extracting(EventoSolicitud::idSolicitud).containsExactly(1L, 2L, 3L);
+        assertThat(publisher.eventos()).extracting(EventoSolicitud::idEvento).doesNotContainNull();
+        assertThat(contar("fecha_envio IS NULL")).isZero();
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.PUBLICADOS_METRIC).counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.PENDIENTES_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería revertir el lote y dejarlo pendiente cuando la publicación falla")
+    void deberiaDejarPendienteSiFallaLaPublicacion() {
+        // Arrange
+        writer.registrar(List.of(evento(1, LocalDateTime.now()), evento(2, LocalDateTime.now()))).block();
+        SolicitudEventPublisherPort caido = lote -> Mono.error(new IllegalStateException("broker no disponible"));
+
+        // Act & Assert
+        StepVerifier.create(relay(caido, 10).relevar())
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(contar("fecha_envio IS NULL")).isEqualTo(2);
+        StepVerifier.create(relay(publisher, 10).relevar())
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería publicar el atraso con los eventos que siguen pendientes tras la pasada")
+    void deberiaPublicarMetricasDeAtraso() {
+        // Arrange: durante la publicación se registra, fuera de la transacción del relay, un evento antiguo
+        writer.registrar(List.of(evento(1, LocalDateTime.now().minusSeconds(30)))).block();
+        SolicitudEventPublisherPort conNuevoEvento = lote -> publisher.publicar(lote)
+                .then(writer.registrar(List.of(evento(2, LocalDateTime.now().minusMinutes(2))))
+                        .contextWrite(contexto -> Context.empty()));
+
+        // Act
+        StepVerifier.create(relay(conNuevoEvento, 10).relevar())
+                .expectNext(1)
+                .verifyComplete();
+
+        // Assert
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.PENDIENTES_METRIC).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.LAG_METRIC).gauge().value()).isGreaterThanOrEqualTo(120.0);
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.RETRASO_METRIC).timer().max(TimeUnit.SECONDS))
+                .isGreaterThanOrEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Debería apartar un evento ilegible sin bloquear a los siguientes")
+    void deberiaApartarEventoIlegible() {
+        // Arrange
+        databaseClient.sql("INSERT INTO solicitud_outbox (id_solicitud, tipo_evento, payload, fecha_creacion) "
+                        + "VALUES (1, 'SOLICITUD_CREADA', '{no es json', :fecha)")
+                .bind("fecha", LocalDateTime.now())
+                .then()
+                .block();
+        writer.registrar(List.of(evento(2, LocalDateTime.now()))).block();
+
+        // Act & Assert
+        StepVerifier.create(relay(publisher, 10).relevar())
+                .expectNext(2)
+                .verifyComplete();
+        assertThat(publisher.eventos()).extracting(EventoSolicitud::idSolicitud).containsExactly(2L);
+        assertThat(contar("id_solicitud = 1 AND fecha_envio IS NULL AND error IS NOT NULL")).isEqualTo(1);
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.ILEGIBLES_METRIC).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(SolicitudOutboxRelay.PENDIENTES_METRIC).gauge().value()).isZero();
+        StepVerifier.create(relay(publisher, 10).relevar())
+                .expectNext(0)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.mapper;
+
+import com.pragma.crediya.solicitudes.domain.model.EstadoSolicitud;
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.model.TipoPrestamo;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.CatalogoPrestamosAdapter;
+import com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.entity.SolicitudEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para ISolicitudPersistenceMapper.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ISolicitudPersistenceMapper - Tests unitarios")
+class ISolicitudPersistenceMapperTest {
+
+    @Mock
+    private CatalogoPrestamosAdapter catalogoPrestamos;
+
+    private ISolicitudPersistenceMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ISolicitudPersistenceMapperImpl();
+        ReflectionTestUtils.setField(mapper, "catalogoPrestamosAdapter", catalogoPrestamos);
+        when(catalogoPrestamos.idEstado(EstadoSolicitud.PENDIENTE_REVISION)).thenReturn(1L);
+        when(catalogoPrestamos.estado(1L)).thenReturn(EstadoSolicitud.PENDIENTE_REVISION);
+        when(catalogoPrestamos.idTipoPrestamo(TipoPrestamo.PERSONAL)).thenReturn(1L);
+        when(catalogoPrestamos.tipoPrestamo(1L)).thenReturn(TipoPrestamo.PERSONAL);
+    }
+
+    @Test
+    @DisplayName("Debería conservar los datos del solicitante y la tasa de interés en ida y vuelta")
+    void deberiaConservarDatosDelSolicitante() {
+        // Arrange
+        SolicitudPrestamo solicitud = SolicitudPrestamo.builder()
+                .id(7L)
+                .documentoIdentidad("12345678")
+                .email("juan.perez@email.com")
+                .nombre("Juan Pérez")
+                .salarioBase(new BigDecimal("2500000"))
+                .tasaInteres(new BigDecimal("0.0249"))
+                .monto(new BigDecimal("5000000"))
+                .plazo(24)
+                .tipoPrestamo(TipoPrestamo.PERSONAL)
+                .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                .fechaCreacion(LocalDateTime.now())
+                .fechaActualizacion(LocalDateTime.now())
+                .build();
+
+        // Act
+        SolicitudEntity entidad = mapper.toEntity(solicitud);
+        SolicitudPrestamo leida = mapper.toSolicitud(entidad);
+
+        // Assert
+        assertThat(entidad.getNombre()).isEqualTo("Juan Pérez");
+        assertThat(entidad.getSalarioBase()).isEqualByComparingTo("2500000");
+        assertThat(entidad.getTasaInteres()).isEqualByComparingTo("0.0249");
+        assertThat(entidad.getIdEstado()).isEqualTo(1L);
+        assertThat(leida).usingRecursiveComparison().isEqualTo(solicitud);
+    }
+}
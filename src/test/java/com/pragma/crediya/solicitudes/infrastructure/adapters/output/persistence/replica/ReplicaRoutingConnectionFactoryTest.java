@@ -0,0 +1,120 @@
+package com.pragma.crediya.solicitudes.infrastructure.adapters.output.persistence.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de ReplicaRoutingConnectionFactory con dos bases H2 en memoria que identifican su origen.
+ */
+@DisplayName("ReplicaRoutingConnectionFactory - Tests con dos bases en memoria")
+class ReplicaRoutingConnectionFactoryTest {
+
+    private MeterRegistry meterRegistry;
+    private ConnectionFactory primaria;
+    private ConnectionFactory replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primaria = baseConOrigen("primaria");
+        replica = baseConOrigen("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ejecutar(primaria, "DROP TABLE origen");
+        ejecutar(replica, "DROP TABLE origen");
+    }
+
+    private static ConnectionFactory baseConOrigen(String nombre) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///routing_" + nombre + ";DB_CLOSE_DELAY=-1");
+        ejecutar(connectionFactory, "CREATE TABLE origen (nombre VARCHAR(20))");
+        ejecutar(connectionFactory, "INSERT INTO origen VALUES ('" + nombre + "')");
+        return connectionFactory;
+    }
+
+    private static void ejecutar(ConnectionFactory connectionFactory, String sql) {
+        DatabaseClient.create(connectionFactory).sql(sql).then().block(Duration.ofSeconds(5));
+    }
+
+    private ReplicaRoutingConnectionFactory router(String consultaRetraso) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, consultaRetraso, Duration.ofSeconds(5),
+                Duration.ofSeconds(1), meterRegistry);
+        monitor.verificar().block(Duration.ofSeconds(5));
+        return new ReplicaRoutingConnectionFactory(primaria, replica, monitor, meterRegistry);
+    }
+
+    private static Mono<String> origen(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory).sql("SELECT nombre FROM origen")
+                .map(fila -> fila.get(0, String.class))
+                .one();
+    }
+
+    @Test
+    @DisplayName("Debería usar la primaria para los flujos sin marca de solo lectura")
+    void deberiaUsarPrimariaSinMarca() {
+        // Arrange
+        ReplicaRoutingConnectionFactory router = router("SELECT CAST(0 AS DOUBLE PRECISION)");
+
+        // Act & Assert
+        StepVerifier.create(origen(router))
+                .expectNext("primaria")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería usar la réplica para los flujos de solo lectura cuando está al día")
+    void deberiaUsarReplicaEnLecturas() {
+        // Arrange
+        ReplicaRoutingConnectionFactory router = router("SELECT CAST(1 AS DOUBLE PRECISION)");
+
+        // Act & Assert
+        StepVerifier.create(ReplicaRoutingConnectionFactory.soloLectura(origen(router)))
+                .expectNext("replica")
+                .verifyComplete();
+        assertThat(meterRegistry.get(ReplicaLagMonitor.RETRASO_METRIC).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.DISPONIBLE_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería volver a la primaria cuando el retraso de la réplica supera el máximo")
+    void deberiaVolverAPrimariaConRetrasoAlto() {
+        // Arrange
+        ReplicaRoutingConnectionFactory router = router("SELECT CAST(30 AS DOUBLE PRECISION)");
+
+        // Act & Assert
+        StepVerifier.create(ReplicaRoutingConnectionFactory.soloLectura(origen(router)))
+                .expectNext("primaria")
+                .verifyComplete();
+        assertThat(meterRegistry.get(ReplicaRoutingConnectionFactory.DESVIOS_METRIC).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.DISPONIBLE_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería considerar no disponible la réplica cuando falla la consulta de retraso")
+    void deberiaConsiderarNoDisponibleSiFallaLaConsulta() {
+        // Arrange
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT retraso FROM tabla_inexistente",
+                Duration.ofSeconds(5), Duration.ofSeconds(1), meterRegistry);
+
+        // Act & Assert
+        StepVerifier.create(monitor.verificar())
+                .expectNext(false)
+                .verifyComplete();
+        assertThat(monitor.replicaDisponible()).isFalse();
+        assertThat(meterRegistry.get(ReplicaLagMonitor.RETRASO_METRIC).gauge().value()).isNaN();
+    }
+}
@@ -0,0 +1,115 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.pragma.crediya.solicitudes.infrastructure.configuration.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de seguridad por petición después de verificar el token: convertir el JWT en la autenticación
+ * y resolver el acceso de un CLIENTE, con dos consultas al contexto (¿es ADMIN/ASESOR? y, si no, su
+ * documento) y con una sola lectura del {@link UsuarioAutenticado}, como lo hace SolicitudController. Los logs se formatean con el patrón de la aplicación pero se descartan, para medir el
+ * costo de formatearlos sin la E/S de consola. Se ejecuta igual que {@link JwtDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutenticacionPorPeticionBenchmark {
+
+    @Param({"DEBUG", "INFO"})
+    private String nivelLog;
+
+    private Converter<Jwt, Mono<AbstractAuthenticationToken>> converter;
+    private AuthenticationContext authenticationContext;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        descartarLogs(nivelLog);
+        converter = new SecurityConfig(null, null).jwtAuthenticationConverter();
+        authenticationContext = new AuthenticationContext();
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("juan.perez@email.com")
+                .claim("documento", "12345678")
+                .claim("correo", "juan.perez@email.com")
+                .claim("rol", "CLIENTE")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Benchmark
+    public String autorizarPeticion() {
+        AbstractAuthenticationToken autenticacion = converter.convert(jwt).block();
+        return authenticationContext.isAdminOrAsesor()
+                .flatMap(isAdminOrAsesor -> isAdminOrAsesor
+                        ? Mono.just("*")
+                        : authenticationContext.getCurrentUserDocument())
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(autenticacion))
+                .block();
+    }
+
+    @Benchmark
+    public boolean autorizarPeticionConUsuario() {
+        AbstractAuthenticationToken autenticacion = converter.convert(jwt).block();
+        return authenticationContext.getUsuarioActual()
+                .map(usuario -> usuario.puedeAccederA("12345678"))
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(autenticacion))
+                .block();
+    }
+
+    private static void descartarLogs(String nivel) {
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern("%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> descarte = new OutputStreamAppender<>();
+        descarte.setContext(contexto);
+        descarte.setEncoder(encoder);
+        descarte.setOutputStream(OutputStream.nullOutputStream());
+        descarte.start();
+        Logger root = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(descarte);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        contexto.getLogger("com.pragma.crediya.solicitudes").setLevel(ch.qos.logback.classic.Level.toLevel(nivel));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AutenticacionPorPeticionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
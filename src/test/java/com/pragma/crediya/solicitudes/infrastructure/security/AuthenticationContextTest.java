@@ -0,0 +1,86 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para UsuarioAutenticadoConverter y AuthenticationContext.
+ */
+@DisplayName("AuthenticationContext - Tests unitarios")
+class AuthenticationContextTest {
+
+    private final UsuarioAutenticadoConverter converter = new UsuarioAutenticadoConverter();
+    private final AuthenticationContext authenticationContext = new AuthenticationContext();
+
+    private static Jwt jwt(String rol) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("juan.perez@email.com")
+                .claim("documento", "12345678")
+                .claim("correo", "juan.perez@email.com")
+                .claim("rol", rol)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería resolver el usuario y la autoridad del rol al convertir el JWT")
+    void deberiaResolverUsuarioAlConvertir() {
+        // Act
+        AbstractAuthenticationToken autenticacion = converter.convert(jwt("ASESOR")).block();
+
+        // Assert
+        assertThat(autenticacion).isInstanceOf(UsuarioAutenticadoToken.class);
+        assertThat(autenticacion.getName()).isEqualTo("juan.perez@email.com");
+        assertThat(autenticacion.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ASESOR");
+        assertThat(((UsuarioAutenticadoToken) autenticacion).getUsuario())
+                .isEqualTo(new UsuarioAutenticado("12345678", "juan.perez@email.com", RolUsuario.ASESOR));
+    }
+
+    @Test
+    @DisplayName("Debería leer el usuario autenticado desde el contexto de Reactor")
+    void deberiaLeerUsuarioDelContexto() {
+        // Arrange
+        AbstractAuthenticationToken autenticacion = converter.convert(jwt("CLIENTE")).block();
+
+        // Act & Assert
+        StepVerifier.create(authenticationContext.getUsuarioActual()
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(autenticacion)))
+                .assertNext(usuario -> {
+                    assertThat(usuario.documento()).isEqualTo("12345678");
+                    assertThat(usuario.esAdminOAsesor()).isFalse();
+                    assertThat(usuario.puedeAccederA("12345678")).isTrue();
+                    assertThat(usuario.puedeAccederA("87654321")).isFalse();
+                })
+                .verifyComplete();
+        StepVerifier.create(authenticationContext.isAdminOrAsesor()
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(autenticacion)))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería tratar un rol desconocido como sin privilegios y sin autenticación devolver vacío")
+    void deberiaTratarRolDesconocidoYAusenciaDeAutenticacion() {
+        // Arrange
+        AbstractAuthenticationToken autenticacion = converter.convert(jwt("SUPERVISOR")).block();
+
+        // Act & Assert
+        StepVerifier.create(authenticationContext.getCurrentUserRole()
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(autenticacion)))
+                .expectNext("DESCONOCIDO")
+                .verifyComplete();
+        StepVerifier.create(authenticationContext.getUsuarioActual()).verifyComplete();
+        StepVerifier.create(authenticationContext.isAdminOrAsesor()).expectNext(false).verifyComplete();
+    }
+}
@@ -0,0 +1,111 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para CachingReactiveJwtDecoder.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CachingReactiveJwtDecoder - Tests unitarios")
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant AHORA = Instant.parse("2025-08-27T10:30:00Z");
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJqdWFuIn0.firma";
+
+    @Mock
+    private ReactiveJwtDecoder delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private CachingReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingReactiveJwtDecoder(delegate, 100, meterRegistry, nanos::get,
+                Clock.fixed(AHORA, ZoneOffset.UTC));
+    }
+
+    private static Jwt jwt(Instant expiracion) {
+        Jwt.Builder builder = Jwt.withTokenValue(TOKEN)
+                .header("alg", "HS256")
+                .subject("juan")
+                .claim("rol", "CLIENTE")
+                .issuedAt(AHORA.minusSeconds(60));
+        return expiracion != null ? builder.expiresAt(expiracion).build() : builder.build();
+    }
+
+    @Test
+    @DisplayName("Debería verificar el token una sola vez y servir las repeticiones desde la caché")
+    void deberiaVerificarUnaSolaVez() {
+        // Arrange
+        Jwt verificado = jwt(AHORA.plus(Duration.ofMinutes(30)));
+        when(delegate.decode(TOKEN)).thenReturn(Mono.just(verificado));
+
+        // Act & Assert
+        StepVerifier.create(decoder.decode(TOKEN)).expectNext(verificado).verifyComplete();
+        StepVerifier.create(decoder.decode(TOKEN)).expectNext(verificado).verifyComplete();
+
+        verify(delegate, times(1)).decode(TOKEN);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debería descartar la entrada cuando llega el exp del token")
+    void deberiaExpirarEnElExpDelToken() {
+        // Arrange
+        when(delegate.decode(TOKEN)).thenReturn(Mono.just(jwt(AHORA.plus(Duration.ofMinutes(5)))));
+        decoder.decode(TOKEN).block();
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(5).plusSeconds(1).toNanos());
+        when(delegate.decode(TOKEN)).thenReturn(Mono.error(new BadJwtException("Jwt expired")));
+
+        // Assert
+        StepVerifier.create(decoder.decode(TOKEN)).expectError(BadJwtException.class).verify();
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    @DisplayName("No debería guardar tokens rechazados ni tokens sin exp")
+    void noDeberiaGuardarTokensRechazadosNiSinExp() {
+        // Arrange
+        when(delegate.decode(TOKEN))
+                .thenReturn(Mono.error(new BadJwtException("Firma inválida")))
+                .thenReturn(Mono.just(jwt(null)))
+                .thenReturn(Mono.just(jwt(null)));
+
+        // Act & Assert
+        StepVerifier.create(decoder.decode(TOKEN)).expectError(BadJwtException.class).verify();
+        StepVerifier.create(decoder.decode(TOKEN)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(decoder.decode(TOKEN)).expectNextCount(1).verifyComplete();
+        verify(delegate, times(3)).decode(TOKEN);
+    }
+}
@@ -0,0 +1,91 @@
+package com.pragma.crediya.solicitudes.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el throughput de decodificar el mismo token con el decoder Nimbus (HS256) y con
+ * {@link CachingReactiveJwtDecoder}. Se ejecuta aparte de los tests:
+ * <pre>
+ * mvn -B test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.pragma.crediya.solicitudes.infrastructure.security.JwtDecoderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtDecoderBenchmark {
+
+    private ReactiveJwtDecoder sinCache;
+    private ReactiveJwtDecoder conCache;
+    private String token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        byte[] secreto = new byte[32];
+        new SecureRandom().nextBytes(secreto);
+        sinCache = NimbusReactiveJwtDecoder.withSecretKey(new SecretKeySpec(secreto, "HmacSHA256")).build();
+        conCache = new CachingReactiveJwtDecoder(sinCache, 10_000, new SimpleMeterRegistry());
+
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), new JWTClaimsSet.Builder()
+                .subject("juan.perez@email.com")
+                .claim("documento", "12345678")
+                .claim("correo", "juan.perez@email.com")
+                .claim("rol", "CLIENTE")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .build());
+        jwt.sign(new MACSigner(secreto));
+        token = jwt.serialize();
+    }
+
+    @Benchmark
+    public Jwt decodificarSinCache() {
+        return sinCache.decode(token).block();
+    }
+
+    @Benchmark
+    public Jwt decodificarConCache() {
+        return conCache.decode(token).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtDecoderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de ArchivoRotativoOutputStream como salida de OtlpJsonSpanExporter.
+ */
+@DisplayName("ArchivoRotativoOutputStream - Tests con archivo en disco")
+class ArchivoRotativoOutputStreamTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @TempDir
+    private Path directorio;
+
+    @Test
+    @DisplayName("Debería rotar al superar el tamaño máximo sin partir líneas y conservar solo una copia")
+    void deberiaRotarSinPartirLineas() throws Exception {
+        // Arrange
+        Path archivo = directorio.resolve("spans.ndjson");
+        SdkTracerProvider proveedor = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(
+                        new OtlpJsonSpanExporter(new ArchivoRotativoOutputStream(archivo, 1024), true)))
+                .build();
+        Tracer tracer = proveedor.get("solicitudes");
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            tracer.spanBuilder("SolicitudUseCase.crearSolicitud").setAttribute("solicitudes.indice", i).startSpan().end();
+        }
+        proveedor.shutdown().join(5, TimeUnit.SECONDS);
+
+        // Assert
+        try (var archivos = Files.list(directorio)) {
+            assertThat(archivos.map(ruta -> ruta.getFileName().toString()))
+                    .containsExactlyInAnyOrder("spans.ndjson", "spans.ndjson.1");
+        }
+        Path anterior = directorio.resolve("spans.ndjson.1");
+        assertThat(Files.size(anterior)).isLessThan(2048);
+        for (Path ruta : List.of(archivo, anterior)) {
+            for (String linea : Files.readAllLines(ruta)) {
+                assertThat(JSON.readTree(linea).at("/resourceSpans/0/scopeSpans/0/spans/0/name").asText())
+                        .isEqualTo("SolicitudUseCase.crearSolicitud");
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import com.pragma.crediya.solicitudes.domain.model.SolicitudPrestamo;
+import com.pragma.crediya.solicitudes.domain.ports.in.ISolicitudServicePort;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para ObservedSolicitudService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ObservedSolicitudService - Tests unitarios")
+class ObservedSolicitudServiceTest {
+
+    @Mock
+    private ISolicitudServicePort delegate;
+
+    private List<Observation.Context> detenidas;
+    private ObservedSolicitudService service;
+
+    @BeforeEach
+    void setUp() {
+        detenidas = new CopyOnWriteArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                detenidas.add(context);
+            }
+        });
+        service = new ObservedSolicitudService(delegate, registry);
+    }
+
+    @Test
+    @DisplayName("Debería abrir una observación por método y publicarla en el contexto de Reactor")
+    void deberiaAbrirObservacionPorMetodo() {
+        // Arrange
+        AtomicReference<Observation> enContexto = new AtomicReference<>();
+        SolicitudPrestamo solicitud = SolicitudPrestamo.builder().documentoIdentidad("12345678").build();
+        when(delegate.crearSolicitud(any())).thenReturn(Mono.deferContextual(contexto -> {
+            enContexto.set(contexto.getOrDefault(ObservationThreadLocalAccessor.KEY, null));
+            return Mono.just(solicitud);
+        }));
+
+        // Act & Assert
+        StepVerifier.create(service.crearSolicitud(solicitud))
+                .expectNext(solicitud)
+                .verifyComplete();
+        assertThat(detenidas).singleElement().satisfies(context -> {
+            assertThat(context.getName()).isEqualTo(ObservedSolicitudService.OBSERVACION);
+            assertThat(context.getContextualName()).isEqualTo("SolicitudUseCase.crearSolicitud");
+            assertThat(context.getLowCardinalityKeyValue("metodo").getValue()).isEqualTo("crearSolicitud");
+        });
+        assertThat(enContexto.get()).isNotNull();
+        assertThat(enContexto.get().getContext()).isSameAs(detenidas.get(0));
+    }
+
+    @Test
+    @DisplayName("Debería registrar el error en la observación del método")
+    void deberiaRegistrarError() {
+        // Arrange
+        when(delegate.obtenerTodasLasSolicitudes()).thenReturn(Flux.error(new IllegalStateException("fallo")));
+
+        // Act & Assert
+        StepVerifier.create(service.obtenerTodasLasSolicitudes())
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(detenidas).singleElement()
+                .satisfies(context -> assertThat(context.getError()).hasMessage("fallo"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.pragma.crediya.solicitudes.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para OtlpJsonSpanExporter.
+ */
+@DisplayName("OtlpJsonSpanExporter - Tests unitarios")
+class OtlpJsonSpanExporterTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static class SalidaObservada extends ByteArrayOutputStream {
+        private final AtomicBoolean cerrada = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            cerrada.set(true);
+        }
+    }
+
+    private static SdkTracerProvider proveedor(OtlpJsonSpanExporter exportador) {
+        return SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exportador))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería escribir cada lote como una línea ExportTraceServiceRequest en JSON OTLP")
+    void deberiaEscribirLineaOtlpJson() throws Exception {
+        // Arrange
+        SalidaObservada salida = new SalidaObservada();
+        SdkTracerProvider proveedor = proveedor(new OtlpJsonSpanExporter(salida, true));
+        Tracer tracer = proveedor.get("solicitudes", "1.0");
+
+        // Act
+        Span padre = tracer.spanBuilder("POST /api/v1/solicitudes").setSpanKind(SpanKind.SERVER).startSpan();
+        try (Scope ignorado = padre.makeCurrent()) {
+            tracer.spanBuilder("SolicitudUseCase.crearSolicitud")
+                    .setAttribute("solicitudes.lote", 3L)
+                    .setAttribute(AttributeKey.stringArrayKey("solicitudes.tipos"), List.of("PERSONAL", "VEHICULAR"))
+                    .startSpan()
+                    .setStatus(StatusCode.ERROR, "cliente no encontrado")
+                    .end();
+        }
+        padre.end();
+        proveedor.shutdown().join(5, TimeUnit.SECONDS);
+
+        // Assert
+        List<String> lineas = salida.toString().lines().toList();
+        assertThat(lineas).hasSize(2);
+        JsonNode hijo = JSON.readTree(lineas.get(0)).at("/resourceSpans/0/scopeSpans/0");
+        JsonNode raiz = JSON.readTree(lineas.get(1)).at("/resourceSpans/0/scopeSpans/0/spans/0");
+        assertThat(hijo.at("/scope/name").asText()).isEqualTo("solicitudes");
+        assertThat(hijo.at("/scope/version").asText()).isEqualTo("1.0");
+        JsonNode span = hijo.at("/spans/0");
+        assertThat(span.at("/name").asText()).isEqualTo("SolicitudUseCase.crearSolicitud");
+        assertThat(span.at("/traceId").asText()).isEqualTo(raiz.at("/traceId").asText()).hasSize(32);
+        assertThat(span.at("/parentSpanId").asText()).isEqualTo(raiz.at("/spanId").asText());
+        assertThat(span.at("/kind").asInt()).isEqualTo(1);
+        assertThat(span.at("/startTimeUnixNano").isTextual()).isTrue();
+        assertThat(span.at("/attributes/0/key").asText()).isEqualTo("solicitudes.lote");
+        assertThat(span.at("/attributes/0/value/intValue").asText()).isEqualTo("3");
+        assertThat(span.at("/attributes/1/value/arrayValue/values/1/stringValue").asText()).isEqualTo("VEHICULAR");
+        assertThat(span.at("/status/code").asInt()).isEqualTo(2);
+        assertThat(span.at("/status/message").asText()).isEqualTo("cliente no encontrado");
+        assertThat(raiz.has("parentSpanId")).isFalse();
+        assertThat(raiz.at("/kind").asInt()).isEqualTo(2);
+        assertThat(JSON.readTree(lineas.get(0)).at("/resourceSpans/0/resource/attributes").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debería cerrar el archivo en shutdown y rechazar exportaciones posteriores")
+    void deberiaCerrarLaSalidaPropiaEnShutdown() {
+        // Arrange
+        SalidaObservada salida = new SalidaObservada();
+        OtlpJsonSpanExporter exportador = new OtlpJsonSpanExporter(salida, true);
+
+        // Act
+        boolean detenido = exportador.shutdown().isSuccess();
+
+        // Assert
+        assertThat(detenido).isTrue();
+        assertThat(salida.cerrada).isTrue();
+        assertThat(exportador.shutdown().isSuccess()).isTrue();
+        assertThat(exportador.export(List.of()).isSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("No debería cerrar una salida que no le pertenece, como la salida estándar")
+    void noDeberiaCerrarSalidaAjena() {
+        // Arrange
+        SalidaObservada salida = new SalidaObservada();
+        OtlpJsonSpanExporter exportador = new OtlpJsonSpanExporter(salida, false);
+
+        // Act
+        exportador.shutdown();
+
+        // Assert
+        assertThat(salida.cerrada).isFalse();
+    }
+}